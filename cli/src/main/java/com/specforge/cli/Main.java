@@ -1,13 +1,15 @@
 package com.specforge.cli;
 
-import com.specforge.core.llm.LlmProvider;
 import com.specforge.core.llm.LlmProviderFactory;
+import com.specforge.core.llm.LlmRouter;
 import picocli.CommandLine;
 
 public class Main {
     public static void main(String[] args) {
-        LlmProvider llmProvider = LlmProviderFactory.createFromConfig();
-        int exitCode = new CommandLine(new SpecForgeCommand(llmProvider)).execute(args);
+        int exitCode;
+        try (LlmRouter llmRouter = LlmProviderFactory.createRouterFromConfig()) {
+            exitCode = new CommandLine(new SpecForgeCommand(llmRouter)).execute(args);
+        }
         System.exit(exitCode);
     }
 }
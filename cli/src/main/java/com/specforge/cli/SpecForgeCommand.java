@@ -1,22 +1,50 @@
 package com.specforge.cli;
 
+import com.specforge.core.context.ContextRuleIndex;
+import com.specforge.core.exporter.ClassSplitPolicy;
+import com.specforge.core.exporter.CompileFixCache;
+import com.specforge.core.exporter.ExportOptions;
 import com.specforge.core.exporter.GenerationMode;
 import com.specforge.core.exporter.RestAssuredProjectExporter;
+import com.specforge.core.exporter.TestStyle;
+import com.specforge.core.exporter.TestTemplates;
+import com.specforge.core.generator.GenerationJournal;
 import com.specforge.core.generator.TestPlanBuilder;
+import com.specforge.core.generator.TestPlanMemo;
 import com.specforge.core.llm.LlmProvider;
+import com.specforge.core.llm.LlmRouter;
+import com.specforge.core.llm.LlmTask;
+import com.specforge.core.llm.TimeBudget;
 import com.specforge.core.model.ApiSpecModel;
 import com.specforge.core.model.ContextModel;
 import com.specforge.core.model.OperationModel;
+import com.specforge.core.parser.BatchManifestParser;
+import com.specforge.core.parser.BatchSpec;
 import com.specforge.core.parser.ContextParserService;
 import com.specforge.core.parser.OpenApiParserService;
+import com.specforge.core.parser.OperationFilter;
+import com.specforge.core.parser.ParsedSpecCache;
 import com.specforge.core.planner.AiScenarioPlanner;
+import com.specforge.core.prompt.PromptManager;
+import com.specforge.core.validator.CompilationValidator;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 @Command(
         name = "spec-test-forge",
@@ -26,22 +54,32 @@ import java.util.List;
 )
 public class SpecForgeCommand implements Runnable {
 
-    private final LlmProvider llmProvider;
+    private final LlmRouter llmRouter;
 
     public SpecForgeCommand(LlmProvider llmProvider) {
-        this.llmProvider = llmProvider;
+        this(LlmRouter.single(llmProvider));
     }
 
-    @Option(names = {"--spec"}, required = true, description = "Path to OpenAPI spec (yaml/json).")
+    public SpecForgeCommand(LlmRouter llmRouter) {
+        this.llmRouter = llmRouter != null ? llmRouter : LlmRouter.single(null);
+    }
+
+    @Option(names = {"--spec"}, description = "Path to OpenAPI spec (yaml/json), or a directory of specs to generate in one batch.")
     private String specPath;
 
+    @Option(names = {"--manifest"}, description = "JSON batch manifest listing specs with per-spec output, basePackage, baseUrl and context.")
+    private String manifestPath;
+
+    @Option(names = {"--parallelism"}, defaultValue = "4", description = "Specs generated concurrently in batch mode.")
+    private int parallelism;
+
     @Option(names = {"--output"}, required = true, description = "Output directory.")
     private String outputDir;
 
     @Option(names = {"--basePackage"}, defaultValue = "com.generated.api", description = "Base Java package for generated tests.")
     private String basePackage;
 
-    @Option(names = {"--mode"}, defaultValue = "new-project", description = "Generation mode: new-project | tests-only")
+    @Option(names = {"--mode"}, defaultValue = "new-project", description = "Generation mode: new-project | tests-only | multi-module")
     private String mode;
 
     @Option(names = {"--baseUrl"}, defaultValue = "http://localhost:8080", description = "Base URL for RestAssured.baseURI")
@@ -50,36 +88,347 @@ public class SpecForgeCommand implements Runnable {
     @Option(names = {"--context"}, required = false, description = "Path to business context file (.md/.json).")
     private String contextPath;
 
+    @Option(names = {"--cacheDir"}, defaultValue = ParsedSpecCache.DEFAULT_CACHE_DIR, description = "Directory for the parsed-spec cache.")
+    private String cacheDir;
+
+    @Option(names = {"--noCache"}, description = "Always re-parse the spec instead of using the parsed-spec cache.")
+    private boolean noCache;
+
+    @Option(names = {"--watch"}, description = "Keep running and regenerate when the spec, context or template files change.")
+    private boolean watch;
+
+    @Option(names = {"--watchDebounceMs"}, defaultValue = "300", description = "Quiet period (ms) before a change triggers regeneration in --watch mode.")
+    private long watchDebounceMs;
+
+    @Option(names = {"--includeTags"}, split = ",", description = "Only generate operations with one of these tags.")
+    private List<String> includeTags;
+
+    @Option(names = {"--excludeTags"}, split = ",", description = "Skip operations with any of these tags.")
+    private List<String> excludeTags;
+
+    @Option(names = {"--includePaths"}, split = ",", description = "Only generate paths matching these globs ('*' = one segment, '**' = any).")
+    private List<String> includePaths;
+
+    @Option(names = {"--excludePaths"}, split = ",", description = "Skip paths matching these globs.")
+    private List<String> excludePaths;
+
+    @Option(names = {"--includeMethods"}, split = ",", description = "Only generate these HTTP methods.")
+    private List<String> includeMethods;
+
+    @Option(names = {"--excludeMethods"}, split = ",", description = "Skip these HTTP methods.")
+    private List<String> excludeMethods;
+
+    @Option(names = {"--includeOperationId"}, description = "Only generate operations whose operationId matches this regex.")
+    private String includeOperationId;
+
+    @Option(names = {"--excludeOperationId"}, description = "Skip operations whose operationId matches this regex.")
+    private String excludeOperationId;
+
+    @Option(names = {"--timeBudget", "--time-budget"}, description = "Overall deadline (e.g. 90s, 15m, 1h). LLM stages fall back to deterministic output as it drains.")
+    private String timeBudget;
+
+    @Option(names = {"--resume"}, description = "Continue an interrupted run from the checkpoint journal kept for the output directory.")
+    private boolean resume;
+
+    @Option(names = {"--templateDir"}, description = "Directory with test-class/test-method/fallback-body .mustache overrides.")
+    private String templateDir;
+
+    @Option(names = {"--maxMethodsPerClass"}, description = "Split tag classes with more test methods than this into <Class>Part1..N (0 = no limit).")
+    private Integer maxMethodsPerClass;
+
+    @Option(names = {"--maxClassBytes"}, description = "Split tag classes whose estimated size exceeds this many bytes (0 = no limit).")
+    private Long maxClassBytes;
+
+    @Option(names = {"--testStyle"}, description = "Test method style: methods | parameterized (one @ParameterizedTest for the 2xx scenarios of each operation).")
+    private String testStyle;
+
+    @Option(names = {"--chainResources"}, description = "Reuse resources created by POST operations as the path ids of dependent tests in the same class.")
+    private Boolean chainResources;
+
+    @Option(names = {"--progressive"}, description = "Write a deterministic suite first, then swap in LLM-enriched classes as each one compiles.")
+    private boolean progressive;
+
     @Override
     public void run() {
         GenerationMode generationMode = parseMode(mode);
+        if ((specPath == null) == (manifestPath == null)) {
+            throw new IllegalArgumentException("Use exactly one of --spec or --manifest");
+        }
 
-        Path spec = resolveSpecPath(specPath);
         Path out = resolveOutputPath(outputDir);
-        ContextModel contextModel = resolveContext(contextPath);
+        Path context = contextPath == null || contextPath.isBlank() ? null : resolveSpecPath(contextPath);
+        // One deadline for the whole run, batch included; --watch restarts it for every regeneration.
+        LlmRouter router = llmRouter.withTimeBudget(TimeBudget.parse(timeBudget));
+        List<BatchSpec> batch = resolveBatch(out, context);
+        if (batch != null) {
+            runBatch(batch, generationMode, router);
+            return;
+        }
+
+        BatchSpec job = new BatchSpec(resolveSpecPath(specPath), out, basePackage, baseUrl, context);
+        // Shared by every --watch iteration so unchanged operations reuse their plans and generated classes.
+        ExportOptions options = exportOptions().withFixCache(new CompileFixCache());
+        Session session = new Session(
+                router,
+                new OpenApiParserService(operationFilter()),
+                noCache ? null : new ParsedSpecCache(resolveOutputPath(cacheDir)),
+                new PromptManager(),
+                new TestPlanMemo(),
+                options,
+                new RestAssuredProjectExporter(router, options)
+        );
+        printSummary(generate(session, job, generationMode, resume, progressive), job, generationMode);
+
+        if (watch) {
+            watch(session, job, generationMode);
+        }
+    }
+
+    // Looked up again on every call, so an edited override is recompiled.
+    private TestTemplates templates() {
+        return templateDir != null
+                ? TestTemplates.fromDirectory(resolveSpecPath(templateDir))
+                : TestTemplates.fromConfig();
+    }
+
+    // Exporter options from config, with the flags given on the command line taking precedence.
+    private ExportOptions exportOptions() {
+        ExportOptions options = ExportOptions.fromConfig();
+        if (templateDir != null) {
+            options = options.withTemplates(templates());
+        }
+        if (testStyle != null) {
+            options = options.withTestStyle(TestStyle.parse(testStyle));
+        }
+        if (chainResources != null) {
+            options = options.withChainResources(chainResources);
+        }
+        ClassSplitPolicy configured = options.splitPolicy();
+        return options.withSplitPolicy(new ClassSplitPolicy(
+                maxMethodsPerClass != null ? maxMethodsPerClass : configured.maxMethods(),
+                maxClassBytes != null ? maxClassBytes : configured.maxBytes()
+        ));
+    }
+
+    private OperationFilter operationFilter() {
+        return new OperationFilter(
+                new OperationFilter.Criteria(includeTags, includePaths, includeMethods, includeOperationId),
+                new OperationFilter.Criteria(excludeTags, excludePaths, excludeMethods, excludeOperationId)
+        );
+    }
+
+    private List<BatchSpec> resolveBatch(Path out, Path context) {
+        BatchManifestParser manifestParser = new BatchManifestParser();
+        if (manifestPath != null) {
+            return manifestParser.parse(resolveSpecPath(manifestPath), out, basePackage, baseUrl, context);
+        }
+        Path spec = resolveSpecPath(specPath);
+        if (Files.isDirectory(spec)) {
+            return manifestParser.scanDirectory(spec, out, basePackage, baseUrl, context);
+        }
+        return null;
+    }
+
+    private void runBatch(List<BatchSpec> batch, GenerationMode generationMode, LlmRouter router) {
+        if (watch) {
+            throw new IllegalArgumentException("--watch supports a single --spec file, not a batch");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("--parallelism must be >= 1");
+        }
+
+        // One parser, spec cache, template cache, javac and compile-fix cache for the whole batch; LLM limits apply
+        // across all specs.
+        OpenApiParserService parser = new OpenApiParserService(operationFilter());
+        ParsedSpecCache specCache = noCache ? null : new ParsedSpecCache(resolveOutputPath(cacheDir));
+        PromptManager promptManager = new PromptManager();
+        ExportOptions options = exportOptions()
+                .withCompilationValidator(new CompilationValidator())
+                .withFixCache(new CompileFixCache());
+
+        long started = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, batch.size()));
+        List<Future<BatchResult>> futures = new ArrayList<>();
+        try {
+            for (BatchSpec job : batch) {
+                futures.add(executor.submit(() -> {
+                    long jobStarted = System.nanoTime();
+                    Session session = new Session(
+                            router,
+                            parser,
+                            specCache,
+                            promptManager,
+                            null,
+                            options,
+                            new RestAssuredProjectExporter(router, options)
+                    );
+                    try {
+                        ApiSpecModel plan = generate(session, job, generationMode, resume, progressive);
+                        return new BatchResult(job, plan.getOperations().size(), null, System.nanoTime() - jobStarted);
+                    } catch (RuntimeException e) {
+                        return new BatchResult(job, 0, e.getMessage(), System.nanoTime() - jobStarted);
+                    }
+                }));
+            }
+
+            List<BatchResult> results = new ArrayList<>();
+            for (Future<BatchResult> future : futures) {
+                results.add(future.get());
+            }
+            printBatchSummary(results, generationMode, System.nanoTime() - started);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch generation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Batch generation failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void printBatchSummary(List<BatchResult> results, GenerationMode generationMode, long elapsedNanos) {
+        int failed = 0;
+        int operations = 0;
+        for (BatchResult result : results) {
+            if (result.error() != null) {
+                failed++;
+            }
+            operations += result.operations();
+        }
+
+        System.out.println("Batch: " + (results.size() - failed) + "/" + results.size() + " specs generated, "
+                + operations + " operations, " + formatSeconds(elapsedNanos));
+        System.out.println("Mode: " + generationMode);
+        for (BatchResult result : results) {
+            String line = result.error() == null
+                    ? " OK      " + result.job().name() + " -> " + result.job().output().toAbsolutePath()
+                            + " (" + result.operations() + " operations, " + formatSeconds(result.elapsedNanos()) + ")"
+                    : " FAILED  " + result.job().name() + ": " + result.error();
+            System.out.println(line);
+        }
+
+        if (failed > 0) {
+            throw new IllegalStateException(failed + " of " + results.size() + " specs failed to generate");
+        }
+    }
+
+    private String formatSeconds(long nanos) {
+        return String.format(Locale.ROOT, "%.1fs", nanos / 1_000_000_000.0);
+    }
 
-        OpenApiParserService parser = new OpenApiParserService();
-        ApiSpecModel parsed = parser.parse(spec.toString()); // now absolute path
+    private ApiSpecModel generate(Session session,
+                                  BatchSpec job,
+                                  GenerationMode generationMode,
+                                  boolean resumeJournal,
+                                  boolean progressiveRun) {
+        ContextModel contextModel = resolveContext(job.context());
+
+        ApiSpecModel parsed = session.specCache() == null
+                ? session.parser().parse(job.spec().toString())
+                : session.specCache().parse(session.parser(), job.spec().toString());
         applyBusinessContext(parsed, contextModel);
 
-        TestPlanBuilder builder = new TestPlanBuilder(new AiScenarioPlanner(llmProvider, contextModel));
-        ApiSpecModel plan = builder.build(parsed);
+        AiScenarioPlanner planner = new AiScenarioPlanner(
+                session.router().forTask(LlmTask.SCENARIO_PLANNING),
+                session.promptManager(),
+                contextModel,
+                null
+        );
+        try (GenerationJournal journal = GenerationJournal.open(
+                GenerationJournal.defaultFile(resolveOutputPath(cacheDir), job.output()), resumeJournal)) {
+            if (resumeJournal && journal.resumedEntries() > 0) {
+                System.out.println("Resuming " + job.name() + " from " + journal.resumedEntries()
+                        + " checkpoints in " + journal.file());
+            }
+
+            TestPlanBuilder builder = new TestPlanBuilder(planner, session.planMemo(), journal);
+            ApiSpecModel plan = progressiveRun
+                    ? generateProgressively(session, job, generationMode, parsed, builder, journal)
+                    : session.exporter().planAndExport(
+                            parsed, builder, job.output(), job.basePackage(), generationMode, job.baseUrl(), journal);
+            journal.compact();
+            return plan;
+        }
+    }
 
-        RestAssuredProjectExporter exporter = new RestAssuredProjectExporter(llmProvider);
-        exporter.export(plan, out, basePackage, generationMode, baseUrl);
+    private ApiSpecModel generateProgressively(Session session,
+                                               BatchSpec job,
+                                               GenerationMode generationMode,
+                                               ApiSpecModel parsed,
+                                               TestPlanBuilder builder,
+                                               GenerationJournal journal) {
+        // Happy paths with fallback bodies and schema-random payloads: no LLM call, so this takes seconds.
+        ApiSpecModel deterministic = new TestPlanBuilder().build(parsed);
+        new RestAssuredProjectExporter(LlmRouter.single(null), exportOptions())
+                .export(deterministic, job.output(), job.basePackage(), generationMode, job.baseUrl());
+        System.out.println("Deterministic suite ready for " + job.name() + " (" + deterministic.getOperations().size()
+                + " operations); enriching with the LLM...");
 
+        ApiSpecModel plan = builder.build(parsed);
+        int enriched = session.exporter().enrich(plan, job.output(), job.basePackage(), generationMode, journal,
+                classFile -> System.out.println("Enriched " + classFile.getFileName()));
+        System.out.println("Enriched " + enriched + " classes for " + job.name());
+        return plan;
+    }
+
+    private void printSummary(ApiSpecModel plan, BatchSpec job, GenerationMode generationMode) {
         System.out.println("Generated tests successfully.");
         System.out.println("Mode: " + generationMode);
-        System.out.println("Output: " + out.toAbsolutePath());
+        System.out.println("Output: " + job.output().toAbsolutePath());
         System.out.println("Operations: " + plan.getOperations().size());
     }
 
-    private ContextModel resolveContext(String rawContextPath) {
-        if (rawContextPath == null || rawContextPath.isBlank()) {
+    private void watch(Session session, BatchSpec job, GenerationMode generationMode) {
+        Path spec = job.spec();
+        AtomicReference<Session> current = new AtomicReference<>(session);
+        Set<Path> lastWatched = new HashSet<>();
+        Supplier<Set<Path>> watchedFiles = () -> {
+            Set<Path> files = new HashSet<>();
+            try {
+                files.addAll(ParsedSpecCache.specFiles(spec));
+            } catch (IllegalArgumentException e) {
+                // The spec can be briefly missing while an editor replaces it; keep watching what we had.
+                files.addAll(lastWatched);
+                files.add(spec);
+            }
+            if (job.context() != null) {
+                files.add(job.context());
+            }
+            files.addAll(current.get().exportOptions().templates().overrideFiles());
+            lastWatched.clear();
+            lastWatched.addAll(files);
+            return files;
+        };
+
+        System.out.println("Watching " + spec + " for changes (Ctrl+C to stop).");
+        try {
+            new SpecWatcher(Duration.ofMillis(watchDebounceMs)).watch(watchedFiles, () -> {
+                try {
+                    session.router().timeBudget().restart();
+                    TestTemplates templates = templates();
+                    if (templates != current.get().exportOptions().templates()) {
+                        current.set(current.get().withTemplates(templates));
+                    }
+                    // Later iterations extend the journal instead of discarding the checkpoints of earlier ones.
+                    // Only the first run is progressive: later ones rewrite just the changed classes anyway.
+                    printSummary(generate(current.get(), job, generationMode, true, false), job, generationMode);
+                } catch (RuntimeException e) {
+                    // A half-edited spec must not end the session; the next save triggers another attempt.
+                    System.err.println("Generation failed: " + e.getMessage());
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to watch " + spec + ": " + e.getMessage(), e);
+        }
+    }
+
+    private ContextModel resolveContext(Path contextFile) {
+        if (contextFile == null) {
             return new ContextModel();
         }
 
-        Path contextFile = resolveSpecPath(rawContextPath);
         ContextParserService contextParser = new ContextParserService();
         return contextParser.parse(contextFile);
     }
@@ -89,11 +438,12 @@ public class SpecForgeCommand implements Runnable {
             return;
         }
 
+        ContextRuleIndex contextRuleIndex = ContextRuleIndex.build(contextModel);
         for (OperationModel operation : parsed.getOperations()) {
             if (operation == null) {
                 continue;
             }
-            operation.setBusinessRules(new ArrayList<>(contextModel.getRulesForPath(operation.getPath())));
+            operation.setBusinessRules(new ArrayList<>(contextRuleIndex.select(operation)));
         }
     }
 
@@ -144,7 +494,8 @@ public class SpecForgeCommand implements Runnable {
         return switch (v) {
             case "new-project", "standalone" -> GenerationMode.STANDALONE;
             case "tests-only", "embedded" -> GenerationMode.EMBEDDED;
-            default -> throw new IllegalArgumentException("Invalid --mode. Use: new-project | tests-only");
+            case "multi-module" -> GenerationMode.MULTI_MODULE;
+            default -> throw new IllegalArgumentException("Invalid --mode. Use: new-project | tests-only | multi-module");
         };
     }
 
@@ -162,6 +513,25 @@ public class SpecForgeCommand implements Runnable {
         return cwd;
     }
 
+    private record Session(LlmRouter router,
+                           OpenApiParserService parser,
+                           ParsedSpecCache specCache,
+                           PromptManager promptManager,
+                           TestPlanMemo planMemo,
+                           ExportOptions exportOptions,
+                           RestAssuredProjectExporter exporter) {
+
+        // New templates change every class fingerprint, so the replaced exporter had nothing left to reuse.
+        Session withTemplates(TestTemplates templates) {
+            ExportOptions options = exportOptions.withTemplates(templates);
+            return new Session(router, parser, specCache, promptManager, planMemo, options,
+                    new RestAssuredProjectExporter(router, options));
+        }
+    }
+
+    private record BatchResult(BatchSpec job, int operations, String error, long elapsedNanos) {
+    }
+
     private String joinTriedPaths(List<Path> tried) {
         if (tried.isEmpty()) {
             return "(none)";
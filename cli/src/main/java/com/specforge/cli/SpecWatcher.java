@@ -0,0 +1,85 @@
+package com.specforge.cli;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+final class SpecWatcher {
+
+    private final Duration debounce;
+
+    SpecWatcher(Duration debounce) {
+        this.debounce = debounce == null || debounce.isNegative() ? Duration.ZERO : debounce;
+    }
+
+    // Blocks until interrupted. The watched set is re-read after every run because $ref targets can change.
+    void watch(Supplier<Set<Path>> watchedFiles, Runnable onChange) throws IOException, InterruptedException {
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            Set<Path> registeredDirs = new HashSet<>();
+            Set<Path> files = normalize(watchedFiles.get());
+            register(watchService, files, registeredDirs);
+
+            while (true) {
+                boolean relevant = drain(watchService.take(), files);
+                // Editors often save in several steps (truncate, write, rename); wait for a quiet period.
+                WatchKey next;
+                while ((next = watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+                    relevant |= drain(next, files);
+                }
+                if (!relevant) {
+                    continue;
+                }
+
+                onChange.run();
+                files = normalize(watchedFiles.get());
+                register(watchService, files, registeredDirs);
+            }
+        }
+    }
+
+    private boolean drain(WatchKey key, Set<Path> files) {
+        Path dir = (Path) key.watchable();
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                relevant = true;
+                continue;
+            }
+            Path changed = dir.resolve((Path) event.context()).toAbsolutePath().normalize();
+            relevant |= files.contains(changed);
+        }
+        key.reset();
+        return relevant;
+    }
+
+    private void register(WatchService watchService, Set<Path> files, Set<Path> registeredDirs) throws IOException {
+        for (Path file : files) {
+            Path dir = file.getParent();
+            if (dir != null && registeredDirs.add(dir)) {
+                dir.register(
+                        watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_DELETE
+                );
+            }
+        }
+    }
+
+    private Set<Path> normalize(Set<Path> files) {
+        Set<Path> normalized = new HashSet<>();
+        for (Path file : files) {
+            normalized.add(file.toAbsolutePath().normalize());
+        }
+        return normalized;
+    }
+}
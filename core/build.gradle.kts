@@ -22,6 +22,7 @@ dependencies {
 
     // JSON
     implementation("com.fasterxml.jackson.core:jackson-databind:2.17.0")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile:2.17.0")
 
     // Templates
     implementation("com.github.spullara.mustache.java:compiler:0.9.10")
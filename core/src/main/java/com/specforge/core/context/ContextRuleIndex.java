@@ -0,0 +1,274 @@
+package com.specforge.core.context;
+
+import com.specforge.core.model.ContextModel;
+import com.specforge.core.model.OperationModel;
+import com.specforge.core.model.schema.ArraySchema;
+import com.specforge.core.model.schema.ObjectSchema;
+import com.specforge.core.model.schema.TypedSchema;
+import com.specforge.core.prompt.PromptBudget;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+public final class ContextRuleIndex {
+
+    public static final int DEFAULT_TOP_K = 8;
+    public static final int DEFAULT_MAX_TOKENS = 400;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // Rules written for another endpoint are only borrowed when they clearly match.
+    private static final double FOREIGN_PATH_WEIGHT = 0.5;
+    private static final int MAX_SCHEMA_DEPTH = 4;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "the", "and", "for", "with", "must", "should", "be", "is", "are", "of", "to", "in", "on", "an", "or",
+            "el", "la", "los", "las", "de", "del", "que", "en", "un", "una", "debe", "ser", "es", "y", "o", "por",
+            "con", "para", "al", "se", "su"
+    );
+
+    private final ContextModel contextModel;
+    private final List<Document> documents;
+    private final Map<String, Map<Integer, Integer>> postings;
+    private final double averageLength;
+    private final int topK;
+    private final int maxTokens;
+
+    private ContextRuleIndex(ContextModel contextModel, int topK, int maxTokens) {
+        this.contextModel = contextModel;
+        this.topK = topK;
+        this.maxTokens = maxTokens;
+        this.documents = new ArrayList<>();
+        this.postings = new HashMap<>();
+
+        contextModel.getRulesByEndpointPath().forEach((path, rules) -> {
+            for (String rule : rules) {
+                addDocument(rule, path, tokenize(rule + " " + path));
+            }
+        });
+        contextModel.getRulesBySection().forEach((section, rules) -> {
+            for (String rule : rules) {
+                addDocument(rule, null, tokenize(rule + " " + section));
+            }
+        });
+
+        long totalLength = 0;
+        for (Document document : documents) {
+            totalLength += document.length();
+        }
+        this.averageLength = documents.isEmpty() ? 1.0 : Math.max(1.0, (double) totalLength / documents.size());
+    }
+
+    public static ContextRuleIndex build(ContextModel contextModel) {
+        return build(contextModel, resolveTopK(), resolveMaxTokens());
+    }
+
+    public static ContextRuleIndex build(ContextModel contextModel, int topK, int maxTokens) {
+        return new ContextRuleIndex(
+                contextModel != null ? contextModel : new ContextModel(),
+                Math.max(0, topK),
+                maxTokens > 0 ? maxTokens : DEFAULT_MAX_TOKENS
+        );
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public List<String> select(OperationModel operation) {
+        return select(operation, maxTokens);
+    }
+
+    // Same selection with the extras also capped at extraTokens, for prompts that carry a token budget of their own.
+    public List<String> select(OperationModel operation, int extraTokens) {
+        if (operation == null) {
+            return List.of();
+        }
+
+        // Rules written for the operation's own path are always sent in full; topK and the token budget only cap
+        // the extras borrowed by relevance.
+        LinkedHashSet<String> selected = new LinkedHashSet<>(contextModel.getRulesForPath(operation.getPath()));
+        int tokenCap = Math.min(maxTokens, extraTokens);
+        int extras = 0;
+        int usedTokens = 0;
+        for (Scored scored : rank(operation)) {
+            if (extras >= topK) {
+                break;
+            }
+            String rule = scored.document().rule();
+            if (selected.contains(rule)) {
+                continue;
+            }
+            int tokens = PromptBudget.estimateTokens(rule);
+            if (usedTokens + tokens > tokenCap) {
+                break;
+            }
+            selected.add(rule);
+            usedTokens += tokens;
+            extras++;
+        }
+        return new ArrayList<>(selected);
+    }
+
+    List<Scored> rank(OperationModel operation) {
+        Map<String, Integer> queryTerms = new HashMap<>();
+        for (String term : tokenize(queryText(operation))) {
+            queryTerms.merge(term, 1, Integer::sum);
+        }
+
+        double[] scores = new double[documents.size()];
+        for (String term : queryTerms.keySet()) {
+            Map<Integer, Integer> termPostings = postings.get(term);
+            if (termPostings == null) {
+                continue;
+            }
+            double idf = Math.log(1.0 + (documents.size() - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+            for (Map.Entry<Integer, Integer> posting : termPostings.entrySet()) {
+                Document document = documents.get(posting.getKey());
+                double tf = posting.getValue();
+                double norm = K1 * (1 - B + B * document.length() / averageLength);
+                scores[posting.getKey()] += idf * (tf * (K1 + 1)) / (tf + norm);
+            }
+        }
+
+        List<Scored> ranked = new ArrayList<>();
+        for (int i = 0; i < documents.size(); i++) {
+            if (scores[i] <= 0) {
+                continue;
+            }
+            Document document = documents.get(i);
+            double weight = document.path() == null ? 1.0 : FOREIGN_PATH_WEIGHT;
+            ranked.add(new Scored(document, scores[i] * weight));
+        }
+        ranked.sort(Comparator.comparingDouble(Scored::score).reversed());
+        return ranked;
+    }
+
+    private void addDocument(String rule, String path, List<String> terms) {
+        int id = documents.size();
+        documents.add(new Document(rule, path, terms.size()));
+        for (String term : terms) {
+            postings.computeIfAbsent(term, ignored -> new HashMap<>()).merge(id, 1, Integer::sum);
+        }
+    }
+
+    private String queryText(OperationModel operation) {
+        StringBuilder sb = new StringBuilder();
+        appendTerm(sb, operation.getPath());
+        appendTerm(sb, operation.getOperationId());
+        appendTerm(sb, operation.getDescription());
+        if (operation.getTags() != null) {
+            operation.getTags().forEach(tag -> appendTerm(sb, tag));
+        }
+        if (operation.getRequestBody() != null) {
+            appendPropertyNames(operation.getRequestBody().getTypedSchema(), sb, 0);
+        }
+        if (operation.getPreferredResponse() != null) {
+            appendPropertyNames(operation.getPreferredResponse().getTypedSchema(), sb, 0);
+        }
+        return sb.toString();
+    }
+
+    private void appendTerm(StringBuilder sb, String value) {
+        if (value != null) {
+            sb.append(value).append(' ');
+        }
+    }
+
+    private void appendPropertyNames(TypedSchema schema, StringBuilder sb, int depth) {
+        if (depth > MAX_SCHEMA_DEPTH) {
+            return;
+        }
+        if (schema instanceof ObjectSchema object) {
+            for (Map.Entry<String, TypedSchema> property : object.properties().entrySet()) {
+                appendTerm(sb, property.getKey());
+                appendPropertyNames(property.getValue(), sb, depth + 1);
+            }
+        } else if (schema instanceof ArraySchema array) {
+            appendPropertyNames(array.items(), sb, depth + 1);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+
+        String withoutAccents = Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        // Split camelCase identifiers (operationIds, property names) before lower-casing.
+        String spaced = withoutAccents.replaceAll("([a-z0-9])([A-Z])", "$1 $2");
+        for (String raw : spaced.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (raw.length() < 2 || STOP_WORDS.contains(raw)) {
+                continue;
+            }
+            terms.add(stem(raw));
+        }
+        return terms;
+    }
+
+    private static String stem(String term) {
+        // Light plural folding so "/users" and "user" land on the same term.
+        if (term.length() > 4 && term.endsWith("ies")) {
+            return term.substring(0, term.length() - 3) + "y";
+        }
+        if (term.length() > 4 && term.endsWith("es") && endsWithSibilant(term.substring(0, term.length() - 2))) {
+            return term.substring(0, term.length() - 2);
+        }
+        if (term.length() > 3 && term.endsWith("s") && !term.endsWith("ss")) {
+            return term.substring(0, term.length() - 1);
+        }
+        return term;
+    }
+
+    private static boolean endsWithSibilant(String base) {
+        return base.endsWith("s") || base.endsWith("x") || base.endsWith("z")
+                || base.endsWith("ch") || base.endsWith("sh");
+    }
+
+    private static int resolveTopK() {
+        return parseInt(firstNonBlank(
+                System.getProperty("specforge.context.topK"),
+                System.getenv("SPECFORGE_CONTEXT_TOP_K")
+        ), DEFAULT_TOP_K, "specforge.context.topK");
+    }
+
+    private static int resolveMaxTokens() {
+        return parseInt(firstNonBlank(
+                System.getProperty("specforge.context.maxTokens"),
+                System.getenv("SPECFORGE_CONTEXT_MAX_TOKENS")
+        ), DEFAULT_MAX_TOKENS, "specforge.context.maxTokens");
+    }
+
+    private static int parseInt(String raw, int fallback, String settingName) {
+        if (raw == null) {
+            return fallback;
+        }
+        try {
+            return Integer.parseInt(raw.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + settingName + ": " + raw, e);
+        }
+    }
+
+    private static String firstNonBlank(String... candidates) {
+        for (String candidate : candidates) {
+            if (candidate != null && !candidate.isBlank()) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    record Document(String rule, String path, int length) {
+    }
+
+    record Scored(Document document, double score) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.specforge.core.exporter;
+
+/*
+ * Upper bounds for one generated test class; a tag class that exceeds either is split into <Class>Part1..N. Zero
+ * means unbounded. Bytes are an estimate from the plan (see RestAssuredProjectExporter.estimatedMethodBytes), since
+ * the split has to be decided before any LLM-written body exists and must not change when those bodies do.
+ */
+public record ClassSplitPolicy(int maxMethods, long maxBytes) {
+
+    public static final ClassSplitPolicy NONE = new ClassSplitPolicy(0, 0);
+
+    public ClassSplitPolicy {
+        if (maxMethods < 0) {
+            throw new IllegalArgumentException("maxMethods must be >= 0");
+        }
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("maxBytes must be >= 0");
+        }
+    }
+
+    public static ClassSplitPolicy fromConfig() {
+        return new ClassSplitPolicy(
+                (int) parse(
+                        firstNonBlank(
+                                System.getProperty("specforge.export.maxMethodsPerClass"),
+                                System.getenv("SPECFORGE_EXPORT_MAX_METHODS_PER_CLASS")
+                        ),
+                        "specforge.export.maxMethodsPerClass"
+                ),
+                parse(
+                        firstNonBlank(
+                                System.getProperty("specforge.export.maxClassBytes"),
+                                System.getenv("SPECFORGE_EXPORT_MAX_CLASS_BYTES")
+                        ),
+                        "specforge.export.maxClassBytes"
+                )
+        );
+    }
+
+    public boolean isUnbounded() {
+        return maxMethods == 0 && maxBytes == 0;
+    }
+
+    public boolean exceeded(int methods, long bytes) {
+        return (maxMethods > 0 && methods > maxMethods) || (maxBytes > 0 && bytes > maxBytes);
+    }
+
+    private static long parse(String raw, String settingName) {
+        if (raw == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(raw.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + settingName + ": " + raw, e);
+        }
+    }
+
+    private static String firstNonBlank(String... candidates) {
+        for (String candidate : candidates) {
+            if (candidate != null && !candidate.isBlank()) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
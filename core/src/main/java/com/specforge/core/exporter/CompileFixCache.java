@@ -0,0 +1,304 @@
+package com.specforge.core.exporter;
+
+import com.specforge.core.validator.CompilationValidator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * Self-healing memory keyed by compiler error signatures: the diagnostic with its varying details normalized, the
+ * construct it names and the offending source line. Known signatures are repaired locally, either by a declared
+ * fixer (a missing import, a RestAssured call the validation stubs do not have) or by replaying the line edit an LLM
+ * fix made for the same signature before. Outcomes are counted per signature, so a fix that stops working goes back
+ * to the LLM. Only the constructor is public, so a CLI batch can hand one cache to all of its exporters.
+ */
+public final class CompileFixCache {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("\"(?:[^\"\\\\]|\\\\.)*\"");
+    private static final Pattern NUMBER = Pattern.compile("\\b\\d+\\b");
+    // String literals first, so the digits inside one are not taken for a number.
+    private static final Pattern LITERAL = Pattern.compile(STRING_LITERAL.pattern() + "|" + NUMBER.pattern());
+    private static final Pattern ARGUMENT_LIST = Pattern.compile("\\([^()]*\\)");
+    private static final Pattern SYMBOL = Pattern.compile("symbol:\\s+(\\w+)\\s+([\\w$]+)");
+    private static final Pattern LOCATION_CLASS = Pattern.compile("(location:\\s+(?:class|interface)\\s+)([\\w.$]+)");
+    private static final List<String> LIBRARY_PACKAGES =
+            List.of("io.restassured.", "java.", "org.junit.", "org.hamcrest.");
+    private static final Set<String> HTTP_VERBS = Set.of("get", "post", "put", "delete", "patch", "head", "options");
+    private static final Map<String, String> KNOWN_TYPES = Map.ofEntries(
+            Map.entry("RestAssured", "io.restassured.RestAssured"),
+            Map.entry("ContentType", "io.restassured.http.ContentType"),
+            Map.entry("RequestSpecification", "io.restassured.specification.RequestSpecification"),
+            Map.entry("Response", "io.restassured.response.Response"),
+            Map.entry("ValidatableResponse", "io.restassured.response.ValidatableResponse"),
+            Map.entry("ExtractableResponse", "io.restassured.response.ExtractableResponse"),
+            Map.entry("Assumptions", "org.junit.jupiter.api.Assumptions"),
+            Map.entry("MethodOrderer", "org.junit.jupiter.api.MethodOrderer"),
+            Map.entry("Order", "org.junit.jupiter.api.Order"),
+            Map.entry("TestMethodOrder", "org.junit.jupiter.api.TestMethodOrder"),
+            Map.entry("List", "java.util.List"),
+            Map.entry("Map", "java.util.Map"),
+            Map.entry("ArrayList", "java.util.ArrayList"),
+            Map.entry("HashMap", "java.util.HashMap"),
+            Map.entry("Arrays", "java.util.Arrays")
+    );
+    private static final Map<String, String> KNOWN_STATIC_METHODS = Map.of(
+            "given", "io.restassured.RestAssured.given",
+            "matchesJsonSchemaInClasspath", "io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath"
+    );
+    private static final String MARKER = "\u0000";
+
+    private final Map<ErrorSignature, Outcome> outcomes = new ConcurrentHashMap<>();
+
+    public CompileFixCache() {
+    }
+
+    // Returns the source with every known signature repaired, or null when none of the errors has a usable fix.
+    Repair repair(String source, List<CompilationValidator.ValidationError> errors) {
+        List<String> lines = new ArrayList<>(source.lines().toList());
+        Set<ErrorSignature> applied = new LinkedHashSet<>();
+        List<CompilationValidator.ValidationError> bottomUp = new ArrayList<>(errors);
+        // Bottom-up, so an inserted import or a removed line never shifts an error still to be fixed.
+        bottomUp.sort(Comparator.comparingLong(CompilationValidator.ValidationError::line).reversed());
+        for (CompilationValidator.ValidationError error : bottomUp) {
+            int index = (int) error.line() - 1;
+            if (index < 0 || index >= lines.size()) {
+                continue;
+            }
+            ErrorSignature signature = ErrorSignature.of(error.message(), lines.get(index));
+            Outcome outcome = outcomes.get(signature);
+            if (outcome != null && outcome.failing()) {
+                continue;
+            }
+            boolean fixed = outcome != null && outcome.edit() != null
+                    ? replayEdit(outcome.edit(), lines, index)
+                    : applyDeclaredFix(signature, lines, index);
+            if (fixed) {
+                applied.add(signature);
+            }
+        }
+        if (applied.isEmpty()) {
+            return null;
+        }
+        return new Repair(String.join("\n", lines) + (source.endsWith("\n") ? "\n" : ""), List.copyOf(applied));
+    }
+
+    // A repair worked when its signature is gone from the file after recompiling.
+    void recordOutcome(Repair repair, List<CompilationValidator.ValidationError> remaining) {
+        Set<ErrorSignature> unresolved = signatures(repair.source(), remaining);
+        for (ErrorSignature signature : repair.signatures()) {
+            boolean resolved = !unresolved.contains(signature);
+            outcomes.merge(signature, Outcome.of(null, resolved), Outcome::plus);
+        }
+    }
+
+    /*
+     * Learns from an LLM fix: each line it rewrote in place whose error is gone becomes a replayable edit for that
+     * signature. Fixes that add or remove lines are not generalised.
+     */
+    void learn(String before,
+               List<CompilationValidator.ValidationError> errorsBefore,
+               String after,
+               List<CompilationValidator.ValidationError> errorsAfter) {
+        if (before == null || after == null) {
+            return;
+        }
+        List<String> beforeLines = before.lines().toList();
+        List<String> afterLines = after.lines().toList();
+        if (beforeLines.size() != afterLines.size()) {
+            return;
+        }
+        Set<ErrorSignature> unresolved = signatures(after, errorsAfter);
+        for (CompilationValidator.ValidationError error : errorsBefore) {
+            int index = (int) error.line() - 1;
+            if (index < 0 || index >= beforeLines.size() || beforeLines.get(index).equals(afterLines.get(index))) {
+                continue;
+            }
+            ErrorSignature signature = ErrorSignature.of(error.message(), beforeLines.get(index));
+            LineEdit edit = LineEdit.of(beforeLines.get(index), afterLines.get(index));
+            if (edit != null && !unresolved.contains(signature)) {
+                outcomes.merge(signature, Outcome.of(edit, true), Outcome::plus);
+            }
+        }
+    }
+
+    private Set<ErrorSignature> signatures(String source, List<CompilationValidator.ValidationError> errors) {
+        List<String> lines = source.lines().toList();
+        Set<ErrorSignature> signatures = new HashSet<>();
+        for (CompilationValidator.ValidationError error : errors) {
+            int index = (int) error.line() - 1;
+            String line = index >= 0 && index < lines.size() ? lines.get(index) : "";
+            signatures.add(ErrorSignature.of(error.message(), line));
+        }
+        return signatures;
+    }
+
+    private boolean replayEdit(LineEdit edit, List<String> lines, int index) {
+        String replaced = edit.apply(lines.get(index));
+        if (replaced == null || replaced.equals(lines.get(index))) {
+            return false;
+        }
+        lines.set(index, replaced);
+        return true;
+    }
+
+    private boolean applyDeclaredFix(ErrorSignature signature, List<String> lines, int index) {
+        if (!signature.message().startsWith("cannot find symbol") || signature.construct().isEmpty()) {
+            return false;
+        }
+        String[] construct = signature.construct().split(" ", 2);
+        String kind = construct[0];
+        String name = construct[1];
+        boolean onRestAssuredType = signature.message().contains("location: class io.restassured.")
+                || signature.message().contains("of type io.restassured.");
+
+        if ((kind.equals("class") || kind.equals("variable")) && KNOWN_TYPES.containsKey(name)) {
+            return addImport(lines, "import " + KNOWN_TYPES.get(name) + ";");
+        }
+        if (kind.equals("method") && !onRestAssuredType && KNOWN_STATIC_METHODS.containsKey(name)) {
+            return addImport(lines, "import static " + KNOWN_STATIC_METHODS.get(name) + ";");
+        }
+        if (kind.equals("method") && onRestAssuredType && HTTP_VERBS.contains(name)) {
+            // The stubs only know request(method, path), which every verb shortcut is sugar for.
+            return rewriteLine(lines, index, "\\.%s\\(\\s*(?=[^)\\s])".formatted(name),
+                    ".request(\"" + name.toUpperCase(Locale.ROOT) + "\", ");
+        }
+        if (kind.equals("method") && onRestAssuredType && name.equals("log")) {
+            // Logging never affects an assertion; dropping it keeps the chain compiling against the stubs.
+            boolean rewritten = rewriteLine(lines, index, "\\.log\\(\\)(\\.\\w+\\(\\))?", "");
+            if (rewritten && lines.get(index).isBlank()) {
+                lines.remove(index);
+            }
+            return rewritten;
+        }
+        return false;
+    }
+
+    private boolean rewriteLine(List<String> lines, int index, String regex, String replacement) {
+        String line = lines.get(index);
+        String rewritten = Pattern.compile(regex).matcher(line).replaceAll(Matcher.quoteReplacement(replacement));
+        if (rewritten.equals(line)) {
+            return false;
+        }
+        lines.set(index, rewritten);
+        return true;
+    }
+
+    private boolean addImport(List<String> lines, String importLine) {
+        int insertAt = -1;
+        for (int i = 0; i < lines.size(); i++) {
+            String trimmed = lines.get(i).trim();
+            if (trimmed.equals(importLine)) {
+                // Already imported: the error is about something else.
+                return false;
+            }
+            if (trimmed.startsWith("import ") || (insertAt < 0 && trimmed.startsWith("package "))) {
+                insertAt = i;
+            }
+        }
+        lines.add(insertAt + 1, importLine);
+        return true;
+    }
+
+    private static String normalizeSnippet(String line) {
+        String normalized = STRING_LITERAL.matcher(line.strip()).replaceAll("\"\"");
+        return NUMBER.matcher(normalized).replaceAll("0");
+    }
+
+    // The string and number literals of a line, in order: the parts the normalized snippet leaves out.
+    private static List<String> literals(String line) {
+        List<String> literals = new ArrayList<>();
+        Matcher matcher = LITERAL.matcher(line);
+        while (matcher.find()) {
+            literals.add(matcher.group());
+        }
+        return literals;
+    }
+
+    record ErrorSignature(String message, String construct, String snippet) {
+
+        static ErrorSignature of(String message, String sourceLine) {
+            String raw = message == null ? "" : message;
+            String normalized = STRING_LITERAL.matcher(raw).replaceAll("\"\"");
+            // The generated test class an error sits in differs per spec; only library locations tell fixes apart.
+            normalized = LOCATION_CLASS.matcher(normalized).replaceAll(location ->
+                    isLibraryType(location.group(2))
+                            ? Matcher.quoteReplacement(location.group())
+                            : Matcher.quoteReplacement(location.group(1) + "<generated>"));
+            normalized = ARGUMENT_LIST.matcher(normalized).replaceAll("(..)");
+            normalized = NUMBER.matcher(normalized).replaceAll("0").replaceAll("\\s+", " ").trim();
+            Matcher symbol = SYMBOL.matcher(raw);
+            String construct = symbol.find() ? symbol.group(1) + " " + symbol.group(2) : "";
+            return new ErrorSignature(normalized, construct, normalizeSnippet(sourceLine == null ? "" : sourceLine));
+        }
+    }
+
+    private static boolean isLibraryType(String className) {
+        return LIBRARY_PACKAGES.stream().anyMatch(className::startsWith);
+    }
+
+    record Repair(String source, List<ErrorSignature> signatures) {
+    }
+
+    private record Outcome(LineEdit edit, int successes, int failures) {
+
+        static Outcome of(LineEdit edit, boolean resolved) {
+            return new Outcome(edit, resolved ? 1 : 0, resolved ? 0 : 1);
+        }
+
+        Outcome plus(Outcome other) {
+            return new Outcome(
+                    edit != null ? edit : other.edit,
+                    successes + other.successes,
+                    failures + other.failures
+            );
+        }
+
+        boolean failing() {
+            return failures > successes;
+        }
+    }
+
+    /*
+     * The rewritten line with each string or number literal replaced by a marker for its position in the original.
+     * The signature snippet normalizes those literals away, so a replayed edit must take them from the line it fixes.
+     * A fix that introduces a literal of its own is specific to that line and is not learned.
+     */
+    private record LineEdit(String template, int literalCount) {
+
+        static LineEdit of(String before, String after) {
+            List<String> literals = literals(before);
+            StringBuilder template = new StringBuilder();
+            Matcher matcher = LITERAL.matcher(after.strip());
+            while (matcher.find()) {
+                int position = literals.indexOf(matcher.group());
+                if (position < 0) {
+                    return null;
+                }
+                matcher.appendReplacement(template, Matcher.quoteReplacement(MARKER + position + MARKER));
+            }
+            matcher.appendTail(template);
+            return new LineEdit(template.toString(), literals.size());
+        }
+
+        String apply(String line) {
+            List<String> literals = literals(line);
+            if (literals.size() != literalCount) {
+                return null;
+            }
+            String result = template;
+            for (int i = 0; i < literals.size(); i++) {
+                result = result.replace(MARKER + i + MARKER, literals.get(i));
+            }
+            return line.substring(0, line.length() - line.stripLeading().length()) + result;
+        }
+    }
+}
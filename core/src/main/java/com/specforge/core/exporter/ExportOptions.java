@@ -0,0 +1,78 @@
+package com.specforge.core.exporter;
+
+import com.specforge.core.prompt.PromptBudget;
+import com.specforge.core.validator.CompilationValidator;
+
+/*
+ * Everything an exporter is configured with besides its LLM routes. fromConfig() reads each option from system
+ * properties and environment variables; the with* methods replace one of them, the way CLI flags override config.
+ * A null component falls back to the exporter's default for it.
+ */
+public record ExportOptions(PromptBudget promptBudget,
+                            CompilationValidator compilationValidator,
+                            TestTemplates templates,
+                            ClassSplitPolicy splitPolicy,
+                            TestStyle testStyle,
+                            boolean chainResources,
+                            CompileFixCache fixCache) {
+
+    public static ExportOptions defaults() {
+        return new ExportOptions(null, null, null, null, null, false, null);
+    }
+
+    public static ExportOptions fromConfig() {
+        return new ExportOptions(
+                PromptBudget.fromConfig(),
+                null,
+                TestTemplates.fromConfig(),
+                ClassSplitPolicy.fromConfig(),
+                TestStyle.fromConfig(),
+                chainResourcesFromConfig(),
+                null
+        );
+    }
+
+    public ExportOptions withPromptBudget(PromptBudget promptBudget) {
+        return new ExportOptions(
+                promptBudget, compilationValidator, templates, splitPolicy, testStyle, chainResources, fixCache);
+    }
+
+    public ExportOptions withCompilationValidator(CompilationValidator compilationValidator) {
+        return new ExportOptions(
+                promptBudget, compilationValidator, templates, splitPolicy, testStyle, chainResources, fixCache);
+    }
+
+    public ExportOptions withTemplates(TestTemplates templates) {
+        return new ExportOptions(
+                promptBudget, compilationValidator, templates, splitPolicy, testStyle, chainResources, fixCache);
+    }
+
+    public ExportOptions withSplitPolicy(ClassSplitPolicy splitPolicy) {
+        return new ExportOptions(
+                promptBudget, compilationValidator, templates, splitPolicy, testStyle, chainResources, fixCache);
+    }
+
+    public ExportOptions withTestStyle(TestStyle testStyle) {
+        return new ExportOptions(
+                promptBudget, compilationValidator, templates, splitPolicy, testStyle, chainResources, fixCache);
+    }
+
+    public ExportOptions withChainResources(boolean chainResources) {
+        return new ExportOptions(
+                promptBudget, compilationValidator, templates, splitPolicy, testStyle, chainResources, fixCache);
+    }
+
+    // Sharing one cache across the exporters of a batch lets a fix learned on one spec repair the others.
+    public ExportOptions withFixCache(CompileFixCache fixCache) {
+        return new ExportOptions(
+                promptBudget, compilationValidator, templates, splitPolicy, testStyle, chainResources, fixCache);
+    }
+
+    private static boolean chainResourcesFromConfig() {
+        String configured = System.getProperty("specforge.export.chainResources");
+        if (configured == null || configured.isBlank()) {
+            configured = System.getenv("SPECFORGE_EXPORT_CHAIN_RESOURCES");
+        }
+        return configured != null && Boolean.parseBoolean(configured.trim());
+    }
+}
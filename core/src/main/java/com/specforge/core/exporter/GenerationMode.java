@@ -2,5 +2,6 @@ package com.specforge.core.exporter;
 
 public enum GenerationMode {
     STANDALONE,
-    EMBEDDED
-}
\ No newline at end of file
+    EMBEDDED,
+    MULTI_MODULE
+}
@@ -0,0 +1,97 @@
+package com.specforge.core.exporter;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/*
+ * Streaming counterpart of RestAssuredProjectExporter.indent(): prefixes every non-blank line with the padding as
+ * text passes through, holding at most one line. The output is byte-identical to indent() over the concatenation of
+ * everything written, including its String.split quirks: trailing empty lines are dropped and an empty input still
+ * yields a single newline. Call finish() (not close()) once the last chunk is written; the target stays open.
+ */
+final class IndentingWriter extends Writer {
+
+    private final Writer target;
+    private final String pad;
+    private final StringBuilder line = new StringBuilder();
+    private int pendingEmptyLines;
+    private boolean written;
+    private boolean afterCarriageReturn;
+
+    IndentingWriter(Writer target, int spaces) {
+        this.target = target;
+        this.pad = " ".repeat(spaces);
+    }
+
+    @Override
+    public void write(char[] buffer, int offset, int length) throws IOException {
+        for (int i = offset; i < offset + length; i++) {
+            char c = buffer[i];
+            written = true;
+            if (afterCarriageReturn) {
+                afterCarriageReturn = false;
+                if (c == '\n') {
+                    // \r\n is a single line break for \R.
+                    continue;
+                }
+            }
+            if (isLineBreak(c)) {
+                endLine();
+                afterCarriageReturn = c == '\r';
+            } else {
+                line.append(c);
+            }
+        }
+    }
+
+    @Override
+    public void write(String text) throws IOException {
+        write(text.toCharArray(), 0, text.length());
+    }
+
+    // Emits the last unterminated line; trailing empty lines are dropped as String.split would.
+    void finish() throws IOException {
+        if (!written) {
+            target.write('\n');
+            return;
+        }
+        if (!line.isEmpty()) {
+            endLine();
+        }
+        pendingEmptyLines = 0;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        target.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        finish();
+    }
+
+    private void endLine() throws IOException {
+        if (line.isEmpty()) {
+            // Only written once a later line proves it is not part of the trailing run.
+            pendingEmptyLines++;
+            return;
+        }
+        for (; pendingEmptyLines > 0; pendingEmptyLines--) {
+            target.write('\n');
+        }
+        if (line.toString().isBlank()) {
+            target.write('\n');
+        } else {
+            target.write(pad);
+            target.append(line);
+            target.write('\n');
+        }
+        line.setLength(0);
+    }
+
+    private static boolean isLineBreak(char c) {
+        return c == '\n' || c == '\r' || c == '\u000B' || c == '\u000C'
+                || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
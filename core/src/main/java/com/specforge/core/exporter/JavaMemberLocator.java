@@ -0,0 +1,231 @@
+package com.specforge.core.exporter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+final class JavaMemberLocator {
+
+    private static final Pattern LEADING_ANNOTATIONS = Pattern.compile("^(@[\\w.]+(\\([^)]*\\))?\\s*)+");
+    private static final Pattern METHOD_NAME = Pattern.compile("(\\w+)\\s*\\(");
+    private static final Pattern LAST_IDENTIFIER = Pattern.compile("(\\w+)\\W*$");
+
+    private JavaMemberLocator() {
+    }
+
+    static List<LineRange> enclosingMembers(String source, Collection<Long> errorLines) {
+        List<LineRange> members = members(source);
+        List<LineRange> selected = new ArrayList<>();
+        for (Long errorLine : errorLines) {
+            int index = errorLine == null ? -1 : (int) (errorLine - 1);
+            LineRange owner = members.stream().filter(member -> member.contains(index)).findFirst().orElse(null);
+            if (owner == null) {
+                // Errors in imports or the class header need the whole file.
+                return List.of();
+            }
+            if (!selected.contains(owner)) {
+                selected.add(owner);
+            }
+        }
+        selected.sort((a, b) -> Integer.compare(a.from(), b.from()));
+        return selected;
+    }
+
+    // Package, imports, class declaration and fields: what a member snippet needs to compile in the model's head.
+    static String header(String source, List<LineRange> members) {
+        if (members.isEmpty()) {
+            return "";
+        }
+        String[] lines = source.split("\n", -1);
+        int[] depthAtStart = new int[lines.length];
+        int[] depthAtEnd = new int[lines.length];
+        scanDepths(lines, depthAtStart, depthAtEnd);
+
+        boolean[] field = new boolean[lines.length];
+        for (LineRange member : members(source)) {
+            boolean bodiless = true;
+            for (int i = member.from(); i <= member.to(); i++) {
+                bodiless &= depthAtStart[i] == 1 && depthAtEnd[i] == 1;
+            }
+            for (int i = member.from(); bodiless && i <= member.to(); i++) {
+                field[i] = true;
+            }
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lines.length; i++) {
+            if (depthAtStart[i] == 0 || field[i]) {
+                sb.append(lines[i]).append('\n');
+            }
+        }
+        return sb.toString().strip();
+    }
+
+    static String slice(String source, LineRange range) {
+        String[] lines = source.split("\n", -1);
+        StringBuilder sb = new StringBuilder();
+        for (int i = range.from(); i <= range.to() && i < lines.length; i++) {
+            sb.append(lines[i]).append('\n');
+        }
+        return sb.toString();
+    }
+
+    static String splice(String source, List<LineRange> ranges, List<String> replacements) {
+        List<String> lines = new ArrayList<>(List.of(source.split("\n", -1)));
+        for (int i = ranges.size() - 1; i >= 0; i--) {
+            LineRange range = ranges.get(i);
+            String replacement = replacements.get(i);
+            if (replacement == null) {
+                continue;
+            }
+            for (int line = range.to(); line >= range.from(); line--) {
+                lines.remove(line);
+            }
+            lines.addAll(range.from(), List.of(replacement.stripTrailing().split("\n", -1)));
+        }
+        return String.join("\n", lines);
+    }
+
+    // A fix for a sliced member must still be that one member: balanced braces and the same declared name.
+    static boolean replaces(String source, LineRange member, String replacement) {
+        String[] lines = replacement.strip().split("\n", -1);
+        int[] depthAtStart = new int[lines.length];
+        int[] depthAtEnd = new int[lines.length];
+        if (!scanDepths(lines, depthAtStart, depthAtEnd) || depthAtEnd[lines.length - 1] != 0) {
+            return false;
+        }
+        for (int i = 0; i < lines.length - 1; i++) {
+            if (depthAtStart[i] > 0 && depthAtEnd[i] == 0) {
+                // The body closed early: the reply holds more than one member.
+                return false;
+            }
+        }
+        String declared = declaredName(slice(source, member));
+        return declared != null && declared.equals(declaredName(replacement));
+    }
+
+    private static String declaredName(String memberSource) {
+        for (String line : memberSource.split("\n")) {
+            String declaration = LEADING_ANNOTATIONS.matcher(line.trim()).replaceFirst("");
+            if (declaration.isEmpty() || declaration.startsWith("//") || declaration.startsWith("/*")
+                    || declaration.startsWith("*")) {
+                continue;
+            }
+            int end = declaration.length();
+            for (char delimiter : new char[]{'{', '='}) {
+                int at = declaration.indexOf(delimiter);
+                end = at >= 0 ? Math.min(end, at) : end;
+            }
+            declaration = declaration.substring(0, end);
+            Matcher name = declaration.contains("(")
+                    ? METHOD_NAME.matcher(declaration)
+                    : LAST_IDENTIFIER.matcher(declaration);
+            return name.find() ? name.group(1) : null;
+        }
+        return null;
+    }
+
+    static List<LineRange> members(String source) {
+        String[] lines = source.split("\n", -1);
+        int[] depthAtStart = new int[lines.length];
+        int[] depthAtEnd = new int[lines.length];
+        scanDepths(lines, depthAtStart, depthAtEnd);
+
+        List<LineRange> members = new ArrayList<>();
+        int start = -1;
+        int deepest = 0;
+        for (int i = 0; i < lines.length; i++) {
+            String trimmed = lines[i].trim();
+            if (start < 0) {
+                if (depthAtStart[i] != 1 || trimmed.isEmpty() || trimmed.equals("}")) {
+                    continue;
+                }
+                start = i;
+                deepest = depthAtStart[i];
+            }
+            deepest = Math.max(deepest, Math.max(depthAtStart[i], depthAtEnd[i]));
+            boolean bodyClosed = deepest > 1 && depthAtEnd[i] == 1;
+            boolean fieldEnded = deepest == 1 && depthAtEnd[i] == 1 && trimmed.endsWith(";");
+            if (bodyClosed || fieldEnded) {
+                members.add(new LineRange(start, i));
+                start = -1;
+            } else if (depthAtEnd[i] < 1) {
+                start = -1;
+            }
+        }
+        return members;
+    }
+
+    // Returns false when a closing brace has no matching opening one.
+    private static boolean scanDepths(String[] lines, int[] depthAtStart, int[] depthAtEnd) {
+        int depth = 0;
+        boolean balanced = true;
+        boolean blockComment = false;
+        boolean textBlock = false;
+        for (int i = 0; i < lines.length; i++) {
+            depthAtStart[i] = depth;
+            String line = lines[i];
+            int c = 0;
+            while (c < line.length()) {
+                char ch = line.charAt(c);
+                if (blockComment) {
+                    if (line.startsWith("*/", c)) {
+                        blockComment = false;
+                        c += 2;
+                    } else {
+                        c++;
+                    }
+                } else if (textBlock) {
+                    if (line.startsWith("\"\"\"", c)) {
+                        textBlock = false;
+                        c += 3;
+                    } else {
+                        c += ch == '\\' ? 2 : 1;
+                    }
+                } else if (line.startsWith("//", c)) {
+                    break;
+                } else if (line.startsWith("/*", c)) {
+                    blockComment = true;
+                    c += 2;
+                } else if (line.startsWith("\"\"\"", c)) {
+                    textBlock = true;
+                    c += 3;
+                } else if (ch == '"' || ch == '\'') {
+                    c = skipLiteral(line, c, ch);
+                } else {
+                    if (ch == '{') {
+                        depth++;
+                    } else if (ch == '}') {
+                        balanced &= depth > 0;
+                        depth = Math.max(0, depth - 1);
+                    }
+                    c++;
+                }
+            }
+            depthAtEnd[i] = depth;
+        }
+        return balanced;
+    }
+
+    private static int skipLiteral(String line, int start, char quote) {
+        int c = start + 1;
+        while (c < line.length()) {
+            char ch = line.charAt(c);
+            if (ch == '\\') {
+                c += 2;
+            } else if (ch == quote) {
+                return c + 1;
+            } else {
+                c++;
+            }
+        }
+        return c;
+    }
+
+    record LineRange(int from, int to) {
+        boolean contains(int line) {
+            return line >= from && line <= to;
+        }
+    }
+}
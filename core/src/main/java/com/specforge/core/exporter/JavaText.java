@@ -0,0 +1,54 @@
+package com.specforge.core.exporter;
+
+final class JavaText {
+
+    private JavaText() {
+    }
+
+    static String identifier(String s) {
+        String cleaned = s.replaceAll("[^a-zA-Z0-9_]", "_");
+        if (cleaned.isEmpty()) cleaned = "test";
+        if (Character.isDigit(cleaned.charAt(0))) cleaned = "_" + cleaned;
+        return cleaned;
+    }
+
+    static String escape(String raw) {
+        return raw
+                .replace("\\", "\\\\")
+                .replace("\"", "\\\"");
+    }
+
+    static String indent(String text, int spaces) {
+        String pad = " ".repeat(spaces);
+        String[] lines = text.split("\\R");
+        StringBuilder sb = new StringBuilder();
+        for (String line : lines) {
+            if (line.isBlank()) {
+                sb.append("\n");
+            } else {
+                sb.append(pad).append(line).append("\n");
+            }
+        }
+        return sb.toString();
+    }
+
+    // Strips the Markdown fence models tend to wrap code in.
+    static String sanitizeGeneratedCode(String generated) {
+        if (generated == null) {
+            return null;
+        }
+
+        String trimmed = generated.trim();
+        if (trimmed.startsWith("```")) {
+            int firstLineEnd = trimmed.indexOf('\n');
+            if (firstLineEnd > 0) {
+                trimmed = trimmed.substring(firstLineEnd + 1);
+            }
+            int fenceEnd = trimmed.lastIndexOf("```");
+            if (fenceEnd >= 0) {
+                trimmed = trimmed.substring(0, fenceEnd).trim();
+            }
+        }
+        return trimmed;
+    }
+}
@@ -0,0 +1,68 @@
+package com.specforge.core.exporter;
+
+import com.specforge.core.model.OperationModel;
+import com.specforge.core.model.TestCaseModel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Folds the 2xx cases of an operation into one method with the status as a parameter.
+final class ParameterizedRenderer {
+
+    static final String IMPORTS = """
+            import org.junit.jupiter.params.ParameterizedTest;
+            import org.junit.jupiter.params.provider.Arguments;
+            import org.junit.jupiter.params.provider.MethodSource;
+            """;
+    static final String STREAM_IMPORT = "import java.util.stream.Stream;\n";
+
+    private final TestTemplates templates;
+    private final TestStyle testStyle;
+
+    ParameterizedRenderer(TestTemplates templates, TestStyle testStyle) {
+        this.templates = templates;
+        this.testStyle = testStyle;
+    }
+
+    List<TestCaseModel> collapsedCases(OperationModel op) {
+        if (testStyle != TestStyle.PARAMETERIZED) {
+            return List.of();
+        }
+        List<TestCaseModel> successes = new ArrayList<>();
+        for (TestCaseModel tc : op.getTestCases()) {
+            if (RestAssuredProjectExporter.isSuccess(tc)) {
+                successes.add(tc);
+            }
+        }
+        return successes.size() > 1 ? successes : List.of();
+    }
+
+    String render(OperationModel op,
+                  List<TestCaseModel> testCases,
+                  String businessRulesComment,
+                  String requestSpecCode,
+                  String assertionBody) {
+        StringBuilder cases = new StringBuilder();
+        for (int i = 0; i < testCases.size(); i++) {
+            TestCaseModel tc = testCases.get(i);
+            cases.append("Arguments.of(\"")
+                    .append(JavaText.escape(String.valueOf(tc.getName())))
+                    .append("\", \"")
+                    .append(tc.getType())
+                    .append("\", ")
+                    .append(tc.getExpectedStatus())
+                    .append(i < testCases.size() - 1 ? "),\n" : ")\n");
+        }
+
+        return templates.renderParameterizedMethod(new TestTemplates.ParameterizedMethodView(
+                op.getHttpMethod(),
+                op.getPath(),
+                JavaText.identifier(op.getOperationId() + "_scenarios"),
+                JavaText.identifier(op.getOperationId() + "_cases"),
+                JavaText.indent(businessRulesComment, 8),
+                JavaText.indent(requestSpecCode, 8),
+                JavaText.indent(assertionBody, 8),
+                JavaText.indent(cases.toString(), 12)
+        ));
+    }
+}
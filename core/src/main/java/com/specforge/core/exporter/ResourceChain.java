@@ -0,0 +1,141 @@
+package com.specforge.core.exporter;
+
+import com.specforge.core.model.OperationModel;
+import com.specforge.core.model.ResourceLinkModel;
+import com.specforge.core.model.TestCaseModel;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Reuses the resources a class creates: producers capture the identifier into a static field, consumers bind it
+ * as the path parameter, and deletes run last, deepest first. Producers in another class are left unchained.
+ */
+record ResourceChain(List<OperationModel> operations,
+                     Map<String, Capture> captures,
+                     Map<String, Map<String, Capture>> bound) {
+
+    // Null when nothing in the class is chained.
+    static ResourceChain plan(List<OperationModel> ops) {
+        Map<String, OperationModel> byId = new HashMap<>();
+        for (OperationModel op : ops) {
+            if (op.getOperationId() != null) {
+                byId.putIfAbsent(op.getOperationId(), op);
+            }
+        }
+
+        Map<String, Capture> captures = new LinkedHashMap<>();
+        Map<String, Map<String, Capture>> bound = new HashMap<>();
+        for (OperationModel op : ops) {
+            List<ResourceLinkModel> links = op.getResourceLinks() == null ? List.of() : op.getResourceLinks();
+            for (ResourceLinkModel link : links) {
+                OperationModel producer = byId.get(link.getProducerOperationId());
+                if (producer == null || producer == op
+                        || producer.getTestCases().stream().noneMatch(RestAssuredProjectExporter::isSuccess)) {
+                    continue;
+                }
+                Capture capture = captures.computeIfAbsent(producer.getOperationId(), id -> new Capture(
+                        id, JavaText.identifier(id + "_" + link.getProducerProperty()), link.getProducerProperty()));
+                if (capture.property().equals(link.getProducerProperty())) {
+                    bound.computeIfAbsent(op.getOperationId(), id -> new LinkedHashMap<>())
+                            .put(link.getParamName(), capture);
+                }
+            }
+        }
+        if (captures.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Integer> depths = new HashMap<>();
+        List<OperationModel> ordered = new ArrayList<>(ops);
+        ordered.sort(Comparator
+                .comparingInt((OperationModel op) -> isChainedDelete(op, bound) ? 1 : 0)
+                .thenComparingInt(op -> isChainedDelete(op, bound)
+                        ? -depth(op, byId, bound, depths)
+                        : depth(op, byId, bound, depths)));
+        return new ResourceChain(ordered, captures, bound);
+    }
+
+    boolean involves(OperationModel op) {
+        return captures.containsKey(op.getOperationId()) || bound.containsKey(op.getOperationId());
+    }
+
+    MethodChain methodFor(OperationModel op, TestCaseModel tc, int order, boolean captured) {
+        if (!RestAssuredProjectExporter.isSuccess(tc)) {
+            return new MethodChain(order, null, Map.of());
+        }
+        return new MethodChain(
+                order,
+                captured ? null : captures.get(op.getOperationId()),
+                bound.getOrDefault(op.getOperationId(), Map.of())
+        );
+    }
+
+    String fieldDeclarations() {
+        StringBuilder fields = new StringBuilder();
+        for (Capture capture : captures.values()) {
+            fields.append("    static Object ").append(capture.field()).append(";\n");
+        }
+        return fields.append("\n").toString();
+    }
+
+    private static boolean isChainedDelete(OperationModel op, Map<String, Map<String, Capture>> bound) {
+        return "DELETE".equalsIgnoreCase(op.getHttpMethod()) && bound.containsKey(op.getOperationId());
+    }
+
+    // Producers always sit on a shorter path than their consumers, so links never form a cycle.
+    private static int depth(OperationModel op,
+                             Map<String, OperationModel> byId,
+                             Map<String, Map<String, Capture>> bound,
+                             Map<String, Integer> depths) {
+        Integer known = depths.get(op.getOperationId());
+        if (known != null) {
+            return known;
+        }
+        int depth = 0;
+        for (Capture capture : bound.getOrDefault(op.getOperationId(), Map.of()).values()) {
+            depth = Math.max(depth, 1 + depth(byId.get(capture.producerOperationId()), byId, bound, depths));
+        }
+        depths.put(op.getOperationId(), depth);
+        return depth;
+    }
+
+    record Capture(String producerOperationId, String field, String property) {
+    }
+
+    record MethodChain(int order, Capture capture, Map<String, Capture> boundParams) {
+
+        String pathParams() {
+            StringBuilder sb = new StringBuilder();
+            for (Map.Entry<String, Capture> param : boundParams.entrySet()) {
+                sb.append("\n.pathParam(\"")
+                        .append(JavaText.escape(param.getKey()))
+                        .append("\", ")
+                        .append(param.getValue().field())
+                        .append(")");
+            }
+            return sb.toString();
+        }
+
+        String assumptions() {
+            StringBuilder sb = new StringBuilder();
+            Set<String> assumed = new HashSet<>();
+            for (Capture producer : boundParams.values()) {
+                if (assumed.add(producer.field())) {
+                    sb.append("Assumptions.assumeTrue(")
+                            .append(producer.field())
+                            .append(" != null, \"needs the resource created by ")
+                            .append(JavaText.escape(producer.producerOperationId()))
+                            .append("\");\n");
+                }
+            }
+            return sb.toString();
+        }
+    }
+}
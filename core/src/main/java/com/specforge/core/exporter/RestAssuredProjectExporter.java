@@ -2,50 +2,136 @@ package com.specforge.core.exporter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.specforge.core.generator.GenerationJournal;
+import com.specforge.core.generator.OperationFingerprint;
+import com.specforge.core.generator.TestPlanBuilder;
 import com.specforge.core.generator.payload.PayloadGenerator;
+import com.specforge.core.llm.LlmPrompt;
 import com.specforge.core.llm.LlmProvider;
+import com.specforge.core.llm.LlmRouter;
+import com.specforge.core.llm.LlmTask;
+import com.specforge.core.llm.TimeBudget;
 import com.specforge.core.model.ApiSpecModel;
 import com.specforge.core.model.OperationModel;
 import com.specforge.core.model.ParamLocation;
 import com.specforge.core.model.ParamModel;
 import com.specforge.core.model.TestCaseModel;
+import com.specforge.core.model.schema.ArraySchema;
+import com.specforge.core.model.schema.ObjectSchema;
+import com.specforge.core.model.schema.SchemaType;
+import com.specforge.core.model.schema.StringSchema;
+import com.specforge.core.model.schema.TypedSchema;
+import com.specforge.core.prompt.PromptBudget;
 import com.specforge.core.validator.CompilationValidator;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 public class RestAssuredProjectExporter {
 
-    private static final long LLM_TIMEOUT_SECONDS = 20;
-    private static final int SELF_HEALING_MAX_ATTEMPTS = 3;
+    private static final Duration LLM_TIMEOUT = Duration.ofSeconds(20);
+    private static final String STAGING_DIR = ".specforge/staging";
+    private static final int PIPELINE_QUEUE_CAPACITY = 4;
+    private static final int STREAM_CHUNK_CHARS = 8192;
+    private static final long ESTIMATED_METHOD_SCAFFOLD_BYTES = 700;
+    private static final String METHOD_BODY_INSTRUCTIONS = """
+            Generate a RestAssured test method body for the scenario described in the next message.
+            Use strict assertions for the response body.
+            Assume 'requestSpec' is available. Return only the code inside the method.
+            """.strip();
 
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final PayloadGenerator payloadGenerator = new PayloadGenerator(1234L);
-    private final LlmProvider llmProvider;
-    private final CompilationValidator compilationValidator = new CompilationValidator();
+    private final PayloadGenerator payloadGenerator;
+    private final LlmProvider methodBodyProvider;
+    private final SelfHealer selfHealer;
+    private final PromptBudget promptBudget;
+    private final TimeBudget timeBudget;
+    private final TestTemplates templates;
+    private final ClassSplitPolicy splitPolicy;
+    private final ParameterizedRenderer parameterizedRenderer;
+    private final boolean chainResources;
+    private final Map<Path, String> classFingerprints = new ConcurrentHashMap<>();
 
     public RestAssuredProjectExporter() {
-        this(null);
+        this((LlmProvider) null);
     }
 
     public RestAssuredProjectExporter(LlmProvider llmProvider) {
-        this.llmProvider = llmProvider;
+        this(LlmRouter.single(llmProvider));
+    }
+
+    public RestAssuredProjectExporter(LlmRouter llmRouter) {
+        this(llmRouter, PromptBudget.fromConfig());
+    }
+
+    public RestAssuredProjectExporter(LlmRouter llmRouter, PromptBudget promptBudget) {
+        this(llmRouter, promptBudget, new CompilationValidator());
+    }
+
+    public RestAssuredProjectExporter(LlmRouter llmRouter,
+                                      PromptBudget promptBudget,
+                                      CompilationValidator compilationValidator) {
+        this(llmRouter, ExportOptions.fromConfig()
+                .withPromptBudget(promptBudget)
+                .withCompilationValidator(compilationValidator));
+    }
+
+    public RestAssuredProjectExporter(LlmRouter llmRouter, ExportOptions options) {
+        ExportOptions resolved = options != null ? options : ExportOptions.defaults();
+        this.chainResources = resolved.chainResources();
+        this.templates = resolved.templates() != null ? resolved.templates() : TestTemplates.bundled();
+        this.parameterizedRenderer = new ParameterizedRenderer(
+                templates, resolved.testStyle() != null ? resolved.testStyle() : TestStyle.METHODS);
+        this.splitPolicy = resolved.splitPolicy() != null ? resolved.splitPolicy() : ClassSplitPolicy.NONE;
+        this.promptBudget = resolved.promptBudget() != null ? resolved.promptBudget() : PromptBudget.defaults();
+        LlmRouter router = llmRouter != null ? llmRouter : LlmRouter.single(null);
+        this.timeBudget = router.timeBudget();
+        this.methodBodyProvider = router.forTask(LlmTask.METHOD_BODY);
+        this.selfHealer = new SelfHealer(
+                resolved.compilationValidator() != null ? resolved.compilationValidator() : new CompilationValidator(),
+                router.forTask(LlmTask.COMPILE_FIX),
+                promptBudget,
+                timeBudget,
+                resolved.fixCache() != null ? resolved.fixCache() : new CompileFixCache()
+        );
+        this.payloadGenerator = router.hasDedicatedRoute(LlmTask.PAYLOAD)
+                ? new PayloadGenerator(1234L, router.forTask(LlmTask.PAYLOAD))
+                : new PayloadGenerator(1234L);
     }
 
     public void export(ApiSpecModel model,
@@ -53,43 +139,287 @@ public class RestAssuredProjectExporter {
                        String basePackage,
                        GenerationMode mode,
                        String baseUrl) {
+        export(model, outputDir, basePackage, mode, baseUrl, null);
+    }
 
+    public void export(ApiSpecModel model,
+                       Path outputDir,
+                       String basePackage,
+                       GenerationMode mode,
+                       String baseUrl,
+                       GenerationJournal journal) {
+        planAndExport(model, null, outputDir, basePackage, mode, baseUrl, journal);
+    }
+
+    // Plan, render and write overlap through bounded queues; compilation is validated once every class is on disk.
+    public ApiSpecModel planAndExport(ApiSpecModel parsed,
+                                      TestPlanBuilder planBuilder,
+                                      Path outputDir,
+                                      String basePackage,
+                                      GenerationMode mode,
+                                      String baseUrl,
+                                      GenerationJournal journal) {
+        ExecutorService stages = Executors.newFixedThreadPool(2);
         try {
             Files.createDirectories(outputDir);
 
+            Map<String, List<OperationModel>> byTag = groupByPrimaryTag(parsed.getOperations());
             if (mode == GenerationMode.STANDALONE) {
                 writeStandaloneGradleProject(outputDir);
+            } else if (mode == GenerationMode.MULTI_MODULE) {
+                writeMultiModuleGradleProject(outputDir, byTag.keySet());
             }
 
-            Path testJavaRoot = outputDir.resolve("src/test/java");
-            Path testResRoot = outputDir.resolve("src/test/resources");
-            Files.createDirectories(testJavaRoot);
+            Path testResRoot = resourcesRoot(outputDir, mode);
             Files.createDirectories(testResRoot);
 
             writeBaseTestConfig(testResRoot, baseUrl);
-            Map<String, String> schemaByOperationId = writeResponseSchemas(model.getOperations(), testResRoot);
+            Map<String, String> schemaByOperationId = writeResponseSchemas(parsed.getOperations(), testResRoot);
 
-            Map<String, List<OperationModel>> byTag = groupByPrimaryTag(model.getOperations());
-            for (Map.Entry<String, List<OperationModel>> entry : byTag.entrySet()) {
-                String tag = entry.getKey();
-                String className = toPascalCase(tag) + "ApiTest";
-                String java = renderTestClass(basePackage, className, entry.getValue(), schemaByOperationId);
+            Map<String, Path> pkgDirByTag = new HashMap<>();
+            for (String tag : byTag.keySet()) {
+                pkgDirByTag.put(tag, Files.createDirectories(packageDir(moduleRoot(outputDir, mode, tag), basePackage)));
+            }
 
-                Path pkgDir = testJavaRoot.resolve(basePackage.replace('.', '/'));
-                Files.createDirectories(pkgDir);
+            StageQueue<ClassUnit> plannedClasses = new StageQueue<>(PIPELINE_QUEUE_CAPACITY);
+            StageQueue<ClassChunk> renderedChunks = new StageQueue<>(PIPELINE_QUEUE_CAPACITY);
+            Future<?> planning = stages.submit(stage(() -> {
+                planStage(parsed, planBuilder, byTag, plannedClasses);
+                plannedClasses.finish();
+            }, plannedClasses, renderedChunks));
+            Future<?> rendering = stages.submit(stage(() -> {
+                ClassUnit unit;
+                while ((unit = plannedClasses.take()) != null) {
+                    String className = unit.className();
+                    Path classFile = pkgDirByTag.get(unit.tag()).resolve(className + ".java");
+                    List<OperationModel> ops = unit.operations();
+                    String fingerprint = classFingerprint(basePackage, className, ops, schemaByOperationId);
+                    if (fingerprint.equals(classFingerprints.get(classFile)) && Files.exists(classFile)) {
+                        continue;
+                    }
+                    // Not try-with-resources: closing marks the class complete.
+                    Writer chunks = new BufferedWriter(new ClassChunkWriter(
+                            classFile, moduleRoot(outputDir, mode, unit.tag()), fingerprint, renderedChunks
+                    ), STREAM_CHUNK_CHARS);
+                    renderTestClass(basePackage, className, ops, schemaByOperationId, journal, chunks);
+                    chunks.close();
+                }
+                renderedChunks.finish();
+            }, plannedClasses, renderedChunks));
 
-                Files.writeString(
-                        pkgDir.resolve(className + ".java"),
-                        java,
-                        StandardCharsets.UTF_8,
-                        StandardOpenOption.CREATE,
-                        StandardOpenOption.TRUNCATE_EXISTING
-                );
+            Set<Path> changedModules = new LinkedHashSet<>();
+            Writer classWriter = null;
+            Path partialFile = null;
+            try {
+                ClassChunk chunk;
+                while ((chunk = renderedChunks.take()) != null) {
+                    if (classWriter == null) {
+                        // A temp sibling keeps the previous class if the render fails halfway.
+                        partialFile = Files.createTempFile(
+                                chunk.classFile().getParent(), "." + chunk.classFile().getFileName(), ".partial");
+                        classWriter = Files.newBufferedWriter(partialFile, StandardCharsets.UTF_8);
+                    }
+                    classWriter.write(chunk.text());
+                    if (chunk.last()) {
+                        classWriter.close();
+                        classWriter = null;
+                        moveAtomically(partialFile, chunk.classFile());
+                        partialFile = null;
+                        classFingerprints.put(chunk.classFile(), chunk.fingerprint());
+                        changedModules.add(chunk.moduleRoot());
+                    }
+                }
+            } catch (CancellationException e) {
+                awaitStage(planning);
+                awaitStage(rendering);
+                throw e;
+            } catch (IOException | RuntimeException e) {
+                plannedClasses.cancel();
+                renderedChunks.cancel();
+                throw e;
+            } finally {
+                if (classWriter != null) {
+                    classWriter.close();
+                }
+                if (partialFile != null) {
+                    Files.deleteIfExists(partialFile);
+                }
             }
-            validateAndSelfHeal(outputDir);
+            awaitStage(planning);
+            awaitStage(rendering);
 
+            Map<Path, List<OperationModel>> classOperations = new HashMap<>();
+            for (ClassUnit unit : groupIntoClasses(parsed.getOperations())) {
+                classOperations.put(pkgDirByTag.get(unit.tag()).resolve(unit.className() + ".java"), unit.operations());
+            }
+            deleteStaleClasses(mode == GenerationMode.MULTI_MODULE ? outputDir : outputDir.resolve("src/test/java"),
+                    classOperations.keySet());
+            deleteReplacedShards(pkgDirByTag, classOperations.keySet());
+            for (Path moduleRoot : changedModules) {
+                selfHealer.validateAndSelfHeal(moduleRoot, classFile -> {
+                    List<OperationModel> ops = classOperations.get(classFile);
+                    String fileName = classFile.getFileName().toString();
+                    // Journaled methods may be the failing ones, so the fallback skips them.
+                    return ops == null ? null : renderTestClass(
+                            basePackage, fileName.substring(0, fileName.length() - ".java".length()), ops, schemaByOperationId, null);
+                }, journal);
+            }
+            return parsed;
         } catch (IOException e) {
             throw new RuntimeException("Failed to export tests: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while exporting tests", e);
+        } finally {
+            stages.shutdownNow();
+        }
+    }
+
+    private void planStage(ApiSpecModel parsed,
+                           TestPlanBuilder planBuilder,
+                           Map<String, List<OperationModel>> byTag,
+                           StageQueue<ClassUnit> plannedClasses) throws InterruptedException {
+        if (planBuilder == null) {
+            for (Map.Entry<String, List<OperationModel>> entry : byTag.entrySet()) {
+                putClasses(entry.getKey(), entry.getValue(), plannedClasses);
+            }
+            return;
+        }
+
+        Map<String, Integer> pending = new HashMap<>();
+        byTag.forEach((tag, ops) -> pending.put(tag, ops.size()));
+        planBuilder.build(parsed, op -> {
+            String tag = primaryTag(op);
+            if (pending.merge(tag, -1, Integer::sum) == 0) {
+                try {
+                    putClasses(tag, byTag.get(tag), plannedClasses);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException("Interrupted while planning");
+                }
+            }
+        });
+    }
+
+    private void putClasses(String tag,
+                            List<OperationModel> ops,
+                            StageQueue<ClassUnit> plannedClasses) throws InterruptedException {
+        for (Map.Entry<String, List<OperationModel>> shard : shardTag(tag, ops).entrySet()) {
+            plannedClasses.put(new ClassUnit(tag, shard.getKey(), shard.getValue()));
+        }
+    }
+
+    private Callable<Void> stage(PipelineStep step, StageQueue<?>... queues) {
+        return () -> {
+            try {
+                step.run();
+                return null;
+            } catch (Exception | Error e) {
+                for (StageQueue<?> queue : queues) {
+                    queue.cancel();
+                }
+                throw e;
+            }
+        };
+    }
+
+    private void awaitStage(Future<?> stage) throws IOException, InterruptedException {
+        try {
+            stage.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CancellationException) {
+                return;
+            }
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Pipeline stage failed", cause);
+        }
+    }
+
+    // Re-renders each class with the LLM in staging and swaps it in once it compiles; returns the swap count.
+    public int enrich(ApiSpecModel model,
+                      Path outputDir,
+                      String basePackage,
+                      GenerationMode mode,
+                      GenerationJournal journal,
+                      Consumer<Path> onSwapped) {
+        try {
+            Path testResRoot = resourcesRoot(outputDir, mode);
+            Files.createDirectories(testResRoot);
+            Map<String, String> schemaByOperationId = writeResponseSchemas(model.getOperations(), testResRoot);
+
+            int swapped = 0;
+            for (ClassUnit unit : groupIntoClasses(model.getOperations())) {
+                String className = unit.className();
+                List<OperationModel> ops = unit.operations();
+                Path classFile = Files.createDirectories(packageDir(moduleRoot(outputDir, mode, unit.tag()), basePackage))
+                        .resolve(className + ".java");
+                String fingerprint = classFingerprint(basePackage, className, ops, schemaByOperationId);
+                if (fingerprint.equals(classFingerprints.get(classFile)) && Files.exists(classFile)) {
+                    continue;
+                }
+
+                Path stagingDir = outputDir.resolve(STAGING_DIR).resolve(className);
+                Path stagedFile = packageDir(stagingDir, basePackage).resolve(className + ".java");
+                try {
+                    Files.createDirectories(stagedFile.getParent());
+                    Files.writeString(
+                            stagedFile,
+                            renderTestClass(basePackage, className, ops, schemaByOperationId, journal),
+                            StandardCharsets.UTF_8
+                    );
+                    selfHealer.validateAndSelfHeal(stagingDir, file -> file.equals(stagedFile)
+                            ? renderTestClass(basePackage, className, ops, schemaByOperationId, null)
+                            : null, journal);
+                    moveAtomically(stagedFile, classFile);
+                    classFingerprints.put(classFile, fingerprint);
+                    swapped++;
+                    if (onSwapped != null) {
+                        onSwapped.accept(classFile);
+                    }
+                } catch (IllegalStateException ignored) {
+                    // Keep the deterministic class already on disk.
+                } finally {
+                    deleteRecursively(stagingDir);
+                }
+            }
+            deleteRecursively(outputDir.resolve(STAGING_DIR));
+            return swapped;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to enrich tests: " + e.getMessage(), e);
+        }
+    }
+
+    private void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void deleteRecursively(Path root) {
+        if (!Files.exists(root)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException ignored) {
+                    // Leftovers are overwritten by the next run.
+                }
+            });
+        } catch (IOException ignored) {
+            // Leftovers are overwritten by the next run.
         }
     }
 
@@ -133,6 +463,84 @@ public class RestAssuredProjectExporter {
         );
     }
 
+    // One subproject per tag plus a shared support library with the dependencies, config and schemas.
+    private void writeMultiModuleGradleProject(Path outputDir, Set<String> tags) throws IOException {
+        Set<String> modules = new TreeSet<>();
+        for (String tag : tags) {
+            modules.add(moduleName(tag));
+        }
+
+        StringBuilder settings = new StringBuilder("rootProject.name = \"generated-api-tests\"\n\n");
+        settings.append("include 'support'\n");
+        for (String module : modules) {
+            settings.append("include '").append(module).append("'\n");
+        }
+        writeFile(outputDir.resolve("settings.gradle"), settings.toString());
+
+        writeFile(outputDir.resolve("gradle.properties"), """
+                org.gradle.parallel=true
+                org.gradle.caching=true
+                org.gradle.configuration-cache=true
+                """);
+
+        writeFile(outputDir.resolve("build.gradle"), """
+                subprojects {
+                    apply plugin: 'java-library'
+
+                    repositories {
+                        mavenCentral()
+                    }
+
+                    tasks.withType(Test).configureEach {
+                        useJUnitPlatform()
+                    }
+                }
+                """);
+
+        Files.createDirectories(outputDir.resolve("support"));
+        writeFile(outputDir.resolve("support/build.gradle"), """
+                dependencies {
+                    api platform('org.junit:junit-bom:5.10.2')
+                    api 'org.junit.jupiter:junit-jupiter'
+                    api 'io.rest-assured:rest-assured:5.5.0'
+                    api 'io.rest-assured:json-schema-validator:5.5.0'
+                }
+                """);
+
+        for (String module : modules) {
+            Files.createDirectories(outputDir.resolve(module));
+            writeFile(outputDir.resolve(module).resolve("build.gradle"), """
+                    dependencies {
+                        testImplementation project(':support')
+                        testRuntimeOnly 'org.junit.platform:junit-platform-launcher'
+                    }
+                    """);
+        }
+    }
+
+    private void writeFile(Path file, String content) throws IOException {
+        Files.writeString(file, content, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private Path resourcesRoot(Path outputDir, GenerationMode mode) {
+        return mode == GenerationMode.MULTI_MODULE
+                ? outputDir.resolve("support/src/main/resources")
+                : outputDir.resolve("src/test/resources");
+    }
+
+    private Path moduleRoot(Path outputDir, GenerationMode mode, String tag) {
+        return mode == GenerationMode.MULTI_MODULE ? outputDir.resolve(moduleName(tag)) : outputDir;
+    }
+
+    private Path packageDir(Path moduleRoot, String basePackage) {
+        return moduleRoot.resolve("src/test/java").resolve(basePackage.replace('.', '/'));
+    }
+
+    private String moduleName(String tag) {
+        String name = tag.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("(^-+|-+$)", "");
+        return (name.isEmpty() ? "default" : name) + "-tests";
+    }
+
     private void writeBaseTestConfig(Path testResRoot, String baseUrl) throws IOException {
         String content = "baseUrl=" + (baseUrl == null ? "http://localhost:8080" : baseUrl) + "\n";
         Files.writeString(
@@ -144,29 +552,163 @@ public class RestAssuredProjectExporter {
         );
     }
 
+    private String classFingerprint(String basePackage,
+                                    String className,
+                                    List<OperationModel> ops,
+                                    Map<String, String> schemaByOperationId) {
+        List<String> parts = new ArrayList<>();
+        parts.add(basePackage);
+        parts.add(className);
+        parts.add(templates.digest());
+        for (OperationModel op : ops) {
+            parts.add(OperationFingerprint.ofPlanned(op));
+            parts.add(String.valueOf(schemaByOperationId.get(op.getOperationId())));
+        }
+        return OperationFingerprint.hash(parts);
+    }
+
+    private boolean deleteReplacedShards(Map<String, Path> pkgDirByTag, Set<Path> currentClassFiles) throws IOException {
+        boolean deleted = false;
+        for (Map.Entry<String, Path> entry : pkgDirByTag.entrySet()) {
+            String tag = entry.getKey();
+            Path pkgDir = entry.getValue();
+            Pattern layout = Pattern.compile(Pattern.quote(toPascalCase(tag) + "ApiTest") + "(Part\\d+)?\\.java");
+            try (Stream<Path> files = Files.list(pkgDir)) {
+                for (Path file : files.toList()) {
+                    if (layout.matcher(file.getFileName().toString()).matches() && !currentClassFiles.contains(file)) {
+                        Files.deleteIfExists(file);
+                        classFingerprints.remove(file);
+                        deleted = true;
+                    }
+                }
+            }
+        }
+        return deleted;
+    }
+
+    private boolean deleteStaleClasses(Path testJavaRoot, Set<Path> currentClassFiles) throws IOException {
+        boolean deleted = false;
+        Iterator<Path> tracked = classFingerprints.keySet().iterator();
+        while (tracked.hasNext()) {
+            Path classFile = tracked.next();
+            if (classFile.startsWith(testJavaRoot) && !currentClassFiles.contains(classFile)) {
+                Files.deleteIfExists(classFile);
+                tracked.remove();
+                deleted = true;
+            }
+        }
+        return deleted;
+    }
+
     private Map<String, List<OperationModel>> groupByPrimaryTag(List<OperationModel> ops) {
         Map<String, List<OperationModel>> map = new LinkedHashMap<>();
         for (OperationModel op : ops) {
-            String tag = (op.getTags() != null && !op.getTags().isEmpty()) ? op.getTags().get(0) : "default";
-            map.computeIfAbsent(tag, k -> new ArrayList<>()).add(op);
+            map.computeIfAbsent(primaryTag(op), k -> new ArrayList<>()).add(op);
         }
         return map;
     }
 
+    private List<ClassUnit> groupIntoClasses(List<OperationModel> ops) {
+        List<ClassUnit> classes = new ArrayList<>();
+        groupByPrimaryTag(ops).forEach((tag, tagOps) -> shardTag(tag, tagOps).forEach(
+                (className, classOps) -> classes.add(new ClassUnit(tag, className, classOps))));
+        return classes;
+    }
+
+    // Packs operations in spec order into <Class>Part1..N, never splitting one across parts.
+    private Map<String, List<OperationModel>> shardTag(String tag, List<OperationModel> ops) {
+        String className = toPascalCase(tag) + "ApiTest";
+        Map<String, List<OperationModel>> shards = new LinkedHashMap<>();
+        int totalMethods = 0;
+        long totalBytes = 0;
+        for (OperationModel op : ops) {
+            totalMethods += op.getTestCases().size();
+            totalBytes += estimatedMethodBytes(op) * op.getTestCases().size();
+        }
+        if (!splitPolicy.exceeded(totalMethods, totalBytes)) {
+            shards.put(className, ops);
+            return shards;
+        }
+
+        List<OperationModel> part = new ArrayList<>();
+        int partMethods = 0;
+        long partBytes = 0;
+        for (OperationModel op : ops) {
+            int methods = op.getTestCases().size();
+            long bytes = estimatedMethodBytes(op) * methods;
+            if (!part.isEmpty() && splitPolicy.exceeded(partMethods + methods, partBytes + bytes)) {
+                shards.put(className + "Part" + (shards.size() + 1), part);
+                part = new ArrayList<>();
+                partMethods = 0;
+                partBytes = 0;
+            }
+            part.add(op);
+            partMethods += methods;
+            partBytes += bytes;
+        }
+        shards.put(className + "Part" + (shards.size() + 1), part);
+        return shards;
+    }
+
+    private long estimatedMethodBytes(OperationModel op) {
+        long bytes = ESTIMATED_METHOD_SCAFFOLD_BYTES;
+        if (op.getRequestBody() != null) {
+            bytes += estimatedSchemaBytes(op.getRequestBody().getTypedSchema());
+        }
+        if (op.getBusinessRules() != null) {
+            for (String rule : op.getBusinessRules()) {
+                bytes += rule == null ? 0 : 2L * rule.length();
+            }
+        }
+        return bytes;
+    }
+
+    private static long estimatedSchemaBytes(TypedSchema schema) {
+        if (schema == null) {
+            return 0;
+        }
+        return switch (schema) {
+            case ObjectSchema object -> {
+                long bytes = 2;
+                for (Map.Entry<String, TypedSchema> property : object.properties().entrySet()) {
+                    bytes += property.getKey().length() + 4 + estimatedSchemaBytes(property.getValue());
+                }
+                yield bytes;
+            }
+            case ArraySchema array -> 2 + estimatedSchemaBytes(array.items());
+            default -> 16 + 8L * schema.facets().enumValues().size();
+        };
+    }
+
+    private String primaryTag(OperationModel op) {
+        return (op.getTags() != null && !op.getTags().isEmpty()) ? op.getTags().get(0) : "default";
+    }
+
     private String renderTestClass(String basePackage,
                                    String className,
                                    List<OperationModel> ops,
-                                   Map<String, String> schemaByOperationId) {
-        StringBuilder methods = new StringBuilder();
-        boolean needsSchemaAssertionImport = false;
+                                   Map<String, String> schemaByOperationId,
+                                   GenerationJournal journal) {
+        StringWriter out = new StringWriter();
+        try {
+            renderTestClass(basePackage, className, ops, schemaByOperationId, journal, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
 
+    private void renderTestClass(String basePackage,
+                                 String className,
+                                 List<OperationModel> ops,
+                                 Map<String, String> schemaByOperationId,
+                                 GenerationJournal journal,
+                                 Writer out) throws IOException {
+        boolean needsSchemaAssertionImport = false;
         for (OperationModel op : ops) {
-            for (TestCaseModel tc : op.getTestCases()) {
-                String schemaResource = schemaByOperationId.get(op.getOperationId());
-                methods.append(renderTestMethod(op, tc, schemaResource)).append("\n");
-                if (schemaResource != null) {
-                    needsSchemaAssertionImport = true;
-                }
+            if (!op.getTestCases().isEmpty() && schemaByOperationId.get(op.getOperationId()) != null) {
+                needsSchemaAssertionImport = true;
+                break;
             }
         }
 
@@ -174,83 +716,170 @@ public class RestAssuredProjectExporter {
                 ? "import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;\n"
                 : "";
 
-        return """
-                package %s;
-
-                import io.restassured.RestAssured;
-                import io.restassured.http.ContentType;
-                import io.restassured.specification.RequestSpecification;
-                import org.junit.jupiter.api.BeforeAll;
-                import org.junit.jupiter.api.DisplayName;
-                import org.junit.jupiter.api.Test;
-
-                import java.io.IOException;
-                import java.io.InputStream;
-                import java.util.Properties;
-
-                import static io.restassured.RestAssured.given;
-                import static org.hamcrest.Matchers.*;
-                %s
+        ResourceChain chain = chainResources ? ResourceChain.plan(ops) : null;
+        boolean parameterized = false;
+        int order = 0;
+        List<Supplier<String>> methods = new ArrayList<>();
+        for (OperationModel op : chain == null ? ops : chain.operations()) {
+            String schemaResource = schemaByOperationId.get(op.getOperationId());
+            // Chained operations keep one method per case.
+            List<TestCaseModel> collapsed = chain != null && chain.involves(op) ? List.of() : parameterizedRenderer.collapsedCases(op);
+            if (!collapsed.isEmpty()) {
+                parameterized = true;
+                methods.add(() -> renderParameterizedMethod(op, collapsed, schemaResource));
+            }
+            boolean captured = false;
+            for (TestCaseModel tc : op.getTestCases()) {
+                if (collapsed.contains(tc)) {
+                    continue;
+                }
+                ResourceChain.MethodChain methodChain = chain == null
+                        ? null
+                        : chain.methodFor(op, tc, ++order, captured);
+                captured |= methodChain != null && methodChain.capture() != null;
+                methods.add(() -> renderTestMethod(op, tc, schemaResource, journal, methodChain));
+            }
+        }
+        String parameterizedImports = parameterized ? ParameterizedRenderer.IMPORTS : "";
+        String streamImport = parameterized ? ParameterizedRenderer.STREAM_IMPORT : "";
+        String chainImports = chain == null
+                ? ""
+                : """
+                import org.junit.jupiter.api.Assumptions;
+                import org.junit.jupiter.api.MethodOrderer;
+                import org.junit.jupiter.api.Order;
+                import org.junit.jupiter.api.TestMethodOrder;
+                """;
+        String classAnnotations = chain == null ? "" : "@TestMethodOrder(MethodOrderer.OrderAnnotation.class)\n";
+        templates.renderClass(out, new TestTemplates.ClassView(
+                basePackage, className, schemaImport, chainImports, parameterizedImports, streamImport,
+                classAnnotations, chain == null ? "" : chain.fieldDeclarations(), indented(methods, 4)));
+    }
 
-                public class %s {
+    private Iterable<String> indented(List<Supplier<String>> methods, int spaces) {
+        return () -> new Iterator<>() {
+            private final StringWriter buffer = new StringWriter();
+            private final IndentingWriter indenting = new IndentingWriter(buffer, spaces);
+            private int next;
 
-                    @BeforeAll
-                    static void setup() {
-                        Properties props = new Properties();
-                        try (InputStream is = %s.class.getClassLoader().getResourceAsStream("specforge.properties")) {
-                            if (is != null) props.load(is);
-                        } catch (IOException ignored) {}
+            @Override
+            public boolean hasNext() {
+                return next < Math.max(1, methods.size());
+            }
 
-                        String baseUrl = props.getProperty("baseUrl", "http://localhost:8080");
-                        RestAssured.baseURI = baseUrl;
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    if (next < methods.size()) {
+                        indenting.write(methods.get(next).get());
+                        indenting.write("\n");
                     }
-
-                %s
+                    next++;
+                    if (!hasNext()) {
+                        indenting.finish();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
                 }
-                """.formatted(basePackage, schemaImport, className, className, indent(methods.toString(), 4));
+                String chunk = buffer.toString();
+                buffer.getBuffer().setLength(0);
+                return chunk;
+            }
+        };
     }
 
-    private String renderTestMethod(OperationModel op, TestCaseModel tc, String responseSchemaResource) {
-        String safeName = toSafeJavaIdentifier(tc.getName());
-        String resolvedPath = resolvePathForHappyPath(op);
+    private String renderTestMethod(OperationModel op,
+                                    TestCaseModel tc,
+                                    String responseSchemaResource,
+                                    GenerationJournal journal,
+                                    ResourceChain.MethodChain chain) {
+        List<Object> journalParts = new ArrayList<>(List.of(
+                OperationFingerprint.of(op),
+                String.valueOf(tc.getType()),
+                String.valueOf(tc.getName()),
+                tc.getExpectedStatus(),
+                String.valueOf(responseSchemaResource),
+                templates.digest()
+        ));
+        if (chain != null) {
+            journalParts.add(chain.toString());
+        }
+        String journalKey = journal == null ? null : OperationFingerprint.hash(journalParts);
+        String journaled = journal == null ? null : journal.method(journalKey);
+        if (journaled != null) {
+            return journaled;
+        }
+
+        String safeName = JavaText.identifier(tc.getName());
+        Map<String, ResourceChain.Capture> boundParams = chain == null ? Map.of() : chain.boundParams();
+        ResourceChain.Capture capture = chain == null ? null : chain.capture();
+        String resolvedPath = resolvePathForHappyPath(op, boundParams.keySet());
         RequestContext requestContext = renderRequestSpec(op);
+        String requestSpecCode = requestContext.requestSpecCode() + (chain == null ? "" : chain.pathParams());
         List<String> businessRules = op.getBusinessRules() == null ? List.of() : op.getBusinessRules();
-        String llmMethodBody = generateMethodBodyWithLlm(
+        // Chained consumers need the capturing body's extract(), so it stays deterministic.
+        String llmMethodBody = capture != null ? null : generateMethodBodyWithLlm(
                 tc.getName(),
                 op.getHttpMethod(),
                 resolvedPath,
                 requestContext.payloadJson(),
                 tc.getExpectedStatus(),
                 responseSchemaResource,
-                businessRules
+                businessRules,
+                boundParams.keySet()
         );
         String methodBody = llmMethodBody == null || llmMethodBody.isBlank()
-                ? renderFallbackMethodBody(op, resolvedPath, tc.getExpectedStatus(), responseSchemaResource, businessRules)
+                ? renderFallbackMethodBody(
+                        op, resolvedPath, String.valueOf(tc.getExpectedStatus()), responseSchemaResource, businessRules,
+                        capture)
                 : llmMethodBody;
+        methodBody = (chain == null ? "" : chain.assumptions()) + methodBody;
         String businessRulesComment = renderBusinessRulesComment(businessRules);
 
-        return """
-                @Test
-                @DisplayName("%s %s - %s")
-                void %s() {
-                %s
-                    RequestSpecification requestSpec = given()
-                %s
-                    ;
-                %s
-                }
-                """.formatted(
+        String rendered = templates.renderMethod(new TestTemplates.MethodView(
+                chain == null ? "" : "@Order(" + chain.order() + ")\n",
                 op.getHttpMethod(),
                 op.getPath(),
-                tc.getType(),
+                String.valueOf(tc.getType()),
                 safeName,
-                indent(businessRulesComment, 8),
-                indent(requestContext.requestSpecCode(), 8),
-                indent(methodBody, 8)
+                JavaText.indent(businessRulesComment, 8),
+                JavaText.indent(requestSpecCode, 8),
+                JavaText.indent(methodBody, 8)
+        ));
+        // Only methods with LLM output in them (body or payload) are checkpointed.
+        boolean llmOutput = requestContext.llmPayload() || (llmMethodBody != null && !llmMethodBody.isBlank());
+        if (journalKey != null && llmOutput) {
+            journal.recordMethod(journalKey, rendered);
+        }
+        return rendered;
+    }
+
+    static boolean isSuccess(TestCaseModel tc) {
+        return tc.getExpectedStatus() >= 200 && tc.getExpectedStatus() < 300;
+    }
+
+    private String renderParameterizedMethod(OperationModel op,
+                                             List<TestCaseModel> testCases,
+                                             String responseSchemaResource) {
+        List<String> businessRules = op.getBusinessRules() == null ? List.of() : op.getBusinessRules();
+        return parameterizedRenderer.render(
+                op,
+                testCases,
+                renderBusinessRulesComment(businessRules),
+                renderRequestSpec(op).requestSpecCode(),
+                renderFallbackMethodBody(op, resolvePathForHappyPath(op), "expectedStatus", responseSchemaResource,
+                        businessRules, null)
         );
     }
 
     private String resolvePathForHappyPath(OperationModel op) {
+        return resolvePathForHappyPath(op, Set.of());
+    }
+
+    private String resolvePathForHappyPath(OperationModel op, Set<String> boundParams) {
         String originalPath = op.getPath() == null ? "/" : op.getPath();
         Map<String, String> valuesByParam = new HashMap<>();
 
@@ -268,6 +897,10 @@ public class RestAssuredProjectExporter {
         StringBuffer resolved = new StringBuffer();
         while (matcher.find()) {
             String paramName = matcher.group(1);
+            if (boundParams.contains(paramName)) {
+                matcher.appendReplacement(resolved, Matcher.quoteReplacement(matcher.group()));
+                continue;
+            }
             String replacement = valuesByParam.getOrDefault(paramName, "1");
             matcher.appendReplacement(resolved, Matcher.quoteReplacement(replacement));
         }
@@ -291,6 +924,7 @@ public class RestAssuredProjectExporter {
     private RequestContext renderRequestSpec(OperationModel op) {
         StringBuilder sb = new StringBuilder();
         String payloadJson = "{}";
+        boolean llmPayload = false;
         sb.append(".accept(ContentType.JSON)\n");
 
         if (op.getParams() != null) {
@@ -299,100 +933,105 @@ public class RestAssuredProjectExporter {
                     continue;
                 }
                 sb.append(".queryParam(\"")
-                        .append(escapeJavaString(param.getName()))
+                        .append(JavaText.escape(param.getName()))
                         .append("\", ")
                         .append(queryLiteralForType(param.getType()))
                         .append(")\n");
             }
         }
 
-        if (op.getRequestBody() != null && op.getRequestBody().getSchema() != null) {
+        if (op.getRequestBody() != null && op.getRequestBody().getTypedSchema() != null) {
+            TypedSchema requestSchema = op.getRequestBody().getTypedSchema();
             String contentType = op.getRequestBody().getContentType();
             if (contentType == null || contentType.isBlank()) {
                 contentType = "application/json";
             }
 
-            Object payload = payloadGenerator.generate(op.getRequestBody().getSchema());
-            String jsonPayload = toJson(payload);
+            PayloadGenerator.Generated payload = payloadGenerator.generateWithOrigin(requestSchema);
+            String jsonPayload = toJson(payload.value());
             payloadJson = jsonPayload;
+            llmPayload = payload.fromLlm();
             String normalizedContentType = contentType.toLowerCase(Locale.ROOT);
 
             if (normalizedContentType.contains("multipart/form-data")) {
                 sb.append(".contentType(\"")
-                        .append(escapeJavaString(contentType))
+                        .append(JavaText.escape(contentType))
                         .append("\")\n");
-                appendMultipartSpec(sb, op.getRequestBody().getSchema());
+                llmPayload |= appendMultipartSpec(sb, requestSchema);
             } else if (normalizedContentType.contains("application/x-www-form-urlencoded")) {
                 sb.append(".contentType(\"")
-                        .append(escapeJavaString(contentType))
+                        .append(JavaText.escape(contentType))
                         .append("\")\n");
-                appendFormSpec(sb, op.getRequestBody().getSchema());
+                appendFormSpec(sb, requestSchema);
             } else {
                 sb.append(".contentType(\"")
-                        .append(escapeJavaString(contentType))
+                        .append(JavaText.escape(contentType))
                         .append("\")\n")
                         .append(".body(\"")
-                        .append(escapeJavaString(jsonPayload))
+                        .append(JavaText.escape(jsonPayload))
                         .append("\")\n");
             }
         }
 
-        return new RequestContext(sb.toString().trim(), payloadJson);
+        return new RequestContext(sb.toString().trim(), payloadJson, llmPayload);
     }
 
-    private void appendMultipartSpec(StringBuilder sb, Map<String, Object> schema) {
-        Map<String, Object> properties = asMap(schema.get("properties"));
+    // Returns whether any part value came from the payload model.
+    private boolean appendMultipartSpec(StringBuilder sb, TypedSchema schema) {
+        Map<String, TypedSchema> properties = properties(schema);
         if (properties.isEmpty()) {
             sb.append(".multiPart(\"file\", \"dummy\")\n");
-            return;
+            return false;
         }
 
-        for (Map.Entry<String, Object> entry : properties.entrySet()) {
+        boolean llmValues = false;
+        for (Map.Entry<String, TypedSchema> entry : properties.entrySet()) {
             String name = entry.getKey();
-            Map<String, Object> propSchema = asMap(entry.getValue());
+            TypedSchema propSchema = entry.getValue();
             if (isBinaryProperty(propSchema)) {
                 sb.append(".multiPart(\"")
-                        .append(escapeJavaString(name))
+                        .append(JavaText.escape(name))
                         .append("\", \"dummy.txt\", \"dummy\".getBytes(), \"text/plain\")\n");
                 continue;
             }
 
-            String value = literalStringForSchema(propSchema);
+            PayloadGenerator.Generated value = payloadGenerator.generateWithOrigin(propSchema);
+            llmValues |= value.fromLlm();
             sb.append(".multiPart(\"")
-                    .append(escapeJavaString(name))
+                    .append(JavaText.escape(name))
                     .append("\", \"")
-                    .append(escapeJavaString(value))
+                    .append(JavaText.escape(literalString(value.value())))
                     .append("\")\n");
         }
+        return llmValues;
     }
 
-    private void appendFormSpec(StringBuilder sb, Map<String, Object> schema) {
-        Map<String, Object> properties = asMap(schema.get("properties"));
+    private void appendFormSpec(StringBuilder sb, TypedSchema schema) {
+        Map<String, TypedSchema> properties = properties(schema);
         if (properties.isEmpty()) {
             sb.append(".formParam(\"value\", \"value\")\n");
             return;
         }
 
-        for (Map.Entry<String, Object> entry : properties.entrySet()) {
-            String name = entry.getKey();
-            Map<String, Object> propSchema = asMap(entry.getValue());
+        for (Map.Entry<String, TypedSchema> entry : properties.entrySet()) {
             sb.append(".formParam(\"")
-                    .append(escapeJavaString(name))
+                    .append(JavaText.escape(entry.getKey()))
                     .append("\", ")
-                    .append(queryLiteralForType(asString(propSchema.get("type"))))
+                    .append(queryLiteralForType(entry.getValue().typeName()))
                     .append(")\n");
         }
     }
 
-    private boolean isBinaryProperty(Map<String, Object> schema) {
-        String type = asString(schema.get("type")).toLowerCase(Locale.ROOT);
-        String format = asString(schema.get("format")).toLowerCase(Locale.ROOT);
-        return ("string".equals(type) && "binary".equals(format))
-                || "file".equals(type);
+    private Map<String, TypedSchema> properties(TypedSchema schema) {
+        return schema instanceof ObjectSchema object ? object.properties() : Map.of();
+    }
+
+    private boolean isBinaryProperty(TypedSchema schema) {
+        return (schema instanceof StringSchema string && string.isBinary())
+                || schema.type() == SchemaType.FILE;
     }
 
-    private String literalStringForSchema(Map<String, Object> schema) {
-        Object value = payloadGenerator.generate(schema);
+    private String literalString(Object value) {
         if (value == null) {
             return "value";
         }
@@ -404,27 +1043,24 @@ public class RestAssuredProjectExporter {
 
     private String renderFallbackMethodBody(OperationModel op,
                                             String resolvedPath,
-                                            int expectedStatus,
+                                            String expectedStatus,
                                             String responseSchemaResource,
-                                            List<String> businessRules) {
+                                            List<String> businessRules,
+                                            ResourceChain.Capture capture) {
         String responseSchemaAssertion = responseSchemaResource == null
                 ? ""
                 : "\n            .body(matchesJsonSchemaInClasspath(\"" + responseSchemaResource + "\"))";
         String businessRuleAssertions = renderBusinessRuleAssertions(businessRules);
 
-        return """
-                requestSpec
-                    .when()
-                        .request("%s", "%s")
-                    .then()
-                        .statusCode(%d)%s%s;
-                """.formatted(
+        return templates.renderFallbackBody(new TestTemplates.FallbackBodyView(
+                capture == null ? "" : capture.field() + " = ",
                 op.getHttpMethod(),
                 resolvedPath,
                 expectedStatus,
                 responseSchemaAssertion,
-                businessRuleAssertions
-        ).trim();
+                businessRuleAssertions,
+                capture == null ? "" : "\n        .extract().path(\"" + JavaText.escape(capture.property()) + "\")"
+        )).trim();
     }
 
     private String generateMethodBodyWithLlm(String scenarioName,
@@ -433,22 +1069,21 @@ public class RestAssuredProjectExporter {
                                              String payloadJson,
                                              int expectedStatus,
                                              String responseSchemaResource,
-                                             List<String> businessRules) {
-        if (llmProvider == null) {
+                                             List<String> businessRules,
+                                             Set<String> boundPathParams) {
+        if (methodBodyProvider == null) {
             return null;
         }
 
         String businessRulesText = formatBusinessRulesForPrompt(businessRules);
 
-        String prompt = """
-                Generate a RestAssured test method body for a scenario: '%s'.
+        String scenario = """
+                Scenario: '%s'.
                 Endpoint: %s %s.
                 Input JSON: %s.
                 Expected Status: %d.
                 Additionally validate these business rules in assertions:
                 %s
-                Use strict assertions for the response body.
-                Assume 'requestSpec' is available. Return only the code inside the method.
                 """.formatted(
                 safe(scenarioName),
                 safe(method),
@@ -459,176 +1094,26 @@ public class RestAssuredProjectExporter {
         );
 
         if (responseSchemaResource != null && !responseSchemaResource.isBlank()) {
-            prompt = prompt + "\nSchema assertion helper available: matchesJsonSchemaInClasspath(\""
+            scenario = scenario + "\nSchema assertion helper available: matchesJsonSchemaInClasspath(\""
                     + responseSchemaResource + "\").";
         }
+        if (!boundPathParams.isEmpty()) {
+            scenario = scenario + "\nPath parameters " + boundPathParams
+                    + " are already bound on requestSpec; keep them as {placeholders} in the request path.";
+        }
+        LlmPrompt prompt = new LlmPrompt(METHOD_BODY_INSTRUCTIONS, scenario);
+        if (!promptBudget.fits(LlmTask.METHOD_BODY, prompt.text())) {
+            return null;
+        }
 
-        String finalPrompt = prompt;
-        CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> llmProvider.generate(finalPrompt));
         try {
-            String generated = future.get(LLM_TIMEOUT_SECONDS, TimeUnit.SECONDS);
-            return sanitizeGeneratedCode(generated);
+            String generated = methodBodyProvider.generateAsync(prompt, LLM_TIMEOUT).toCompletableFuture().get();
+            return JavaText.sanitizeGeneratedCode(generated);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             return null;
-        } catch (ExecutionException | TimeoutException e) {
+        } catch (ExecutionException e) {
             return null;
-        } finally {
-            future.cancel(true);
-        }
-    }
-
-    private String sanitizeGeneratedCode(String generated) {
-        if (generated == null) {
-            return null;
-        }
-
-        String trimmed = generated.trim();
-        if (trimmed.startsWith("```")) {
-            int firstLineEnd = trimmed.indexOf('\n');
-            if (firstLineEnd > 0) {
-                trimmed = trimmed.substring(firstLineEnd + 1);
-            }
-            int fenceEnd = trimmed.lastIndexOf("```");
-            if (fenceEnd >= 0) {
-                trimmed = trimmed.substring(0, fenceEnd).trim();
-            }
-        }
-        return trimmed;
-    }
-
-    private void validateAndSelfHeal(Path outputDir) {
-        CompilationValidator.ValidationResult initialResult = safeValidate(outputDir);
-        if (initialResult.success()) {
-            return;
-        }
-
-        if (llmProvider == null) {
-            throw new IllegalStateException("Generated tests failed compilation: " + initialResult.formatForPrompt());
-        }
-
-        Map<Path, String> baselineSources = snapshotGeneratedSources(outputDir);
-        CompilationValidator.ValidationResult currentResult = initialResult;
-
-        for (int attempt = 1; attempt <= SELF_HEALING_MAX_ATTEMPTS; attempt++) {
-            boolean attempted = applyCompilationFixes(currentResult);
-            if (!attempted) {
-                break;
-            }
-
-            currentResult = safeValidate(outputDir);
-            if (currentResult.success()) {
-                return;
-            }
-        }
-
-        restoreSources(baselineSources);
-        throw new IllegalStateException(
-                "Generated tests failed compilation after self-healing attempts: " + currentResult.formatForPrompt()
-        );
-    }
-
-    private CompilationValidator.ValidationResult safeValidate(Path outputDir) {
-        try {
-            return compilationValidator.validate(outputDir);
-        } catch (RuntimeException ex) {
-            return new CompilationValidator.ValidationResult(
-                    false,
-                    List.of(new CompilationValidator.ValidationError(null, 0, "Validator error: " + ex.getMessage()))
-            );
-        }
-    }
-
-    private boolean applyCompilationFixes(CompilationValidator.ValidationResult result) {
-        Map<Path, List<CompilationValidator.ValidationError>> errorsByFile = result.errorsByFile();
-        if (errorsByFile.isEmpty()) {
-            return false;
-        }
-
-        boolean updated = false;
-        for (Map.Entry<Path, List<CompilationValidator.ValidationError>> entry : errorsByFile.entrySet()) {
-            Path file = entry.getKey();
-            if (file == null || !Files.exists(file)) {
-                continue;
-            }
-
-            try {
-                String originalCode = Files.readString(file);
-                String prompt = """
-                        Tu codigo anterior genero este error de compilacion: %s.
-                        Corrigelo.
-                        Codigo anterior:
-                        %s
-                        """.formatted(formatErrors(entry.getValue()), originalCode);
-
-                String fixedCode = sanitizeGeneratedCode(llmProvider.generate(prompt));
-                if (fixedCode == null || fixedCode.isBlank()) {
-                    continue;
-                }
-                Files.writeString(file, fixedCode, StandardCharsets.UTF_8, StandardOpenOption.TRUNCATE_EXISTING);
-                updated = true;
-            } catch (IOException ignored) {
-                // Best effort self-healing per file.
-            }
-        }
-
-        return updated;
-    }
-
-    private String formatErrors(List<CompilationValidator.ValidationError> errors) {
-        if (errors == null || errors.isEmpty()) {
-            return "Unknown compilation error.";
-        }
-
-        StringBuilder sb = new StringBuilder();
-        for (CompilationValidator.ValidationError error : errors) {
-            if (sb.length() > 0) {
-                sb.append("\\n");
-            }
-            sb.append("line ")
-                    .append(error.line())
-                    .append(": ")
-                    .append(error.message());
-        }
-        return sb.toString();
-    }
-
-    private Map<Path, String> snapshotGeneratedSources(Path outputDir) {
-        Map<Path, String> snapshot = new LinkedHashMap<>();
-        Path root = outputDir.resolve("src/test/java");
-        if (!Files.exists(root)) {
-            return snapshot;
-        }
-
-        try (var stream = Files.walk(root)) {
-            List<Path> files = stream
-                    .filter(Files::isRegularFile)
-                    .filter(path -> path.getFileName().toString().endsWith(".java"))
-                    .sorted(Comparator.naturalOrder())
-                    .toList();
-            for (Path file : files) {
-                snapshot.put(file, Files.readString(file));
-            }
-        } catch (IOException ignored) {
-            // Best effort snapshot.
-        }
-
-        return snapshot;
-    }
-
-    private void restoreSources(Map<Path, String> sources) {
-        for (Map.Entry<Path, String> entry : sources.entrySet()) {
-            try {
-                Files.writeString(
-                        entry.getKey(),
-                        entry.getValue(),
-                        StandardCharsets.UTF_8,
-                        StandardOpenOption.CREATE,
-                        StandardOpenOption.TRUNCATE_EXISTING
-                );
-            } catch (IOException ignored) {
-                // Best effort restore.
-            }
         }
     }
 
@@ -718,7 +1203,7 @@ public class RestAssuredProjectExporter {
         Files.createDirectories(schemasDir);
 
         for (OperationModel op : ops) {
-            if (op.getPreferredResponse() == null || op.getPreferredResponse().getSchema() == null) {
+            if (op.getPreferredResponse() == null || op.getPreferredResponse().getTypedSchema() == null) {
                 continue;
             }
 
@@ -752,28 +1237,10 @@ public class RestAssuredProjectExporter {
         return raw.replaceAll("[^a-zA-Z0-9._-]", "_");
     }
 
-    private String escapeJavaString(String raw) {
-        return raw
-                .replace("\\", "\\\\")
-                .replace("\"", "\\\"");
-    }
-
     private String safe(String value) {
         return value == null ? "" : value;
     }
 
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> asMap(Object value) {
-        if (value instanceof Map<?, ?> m) {
-            return (Map<String, Object>) m;
-        }
-        return Map.of();
-    }
-
-    private String asString(Object value) {
-        return value == null ? "" : String.valueOf(value);
-    }
-
     private String toPascalCase(String s) {
         String[] parts = s.replaceAll("[^a-zA-Z0-9]+", " ").trim().split("\\s+");
         StringBuilder sb = new StringBuilder();
@@ -785,27 +1252,57 @@ public class RestAssuredProjectExporter {
         return sb.length() == 0 ? "Default" : sb.toString();
     }
 
-    private String toSafeJavaIdentifier(String s) {
-        String cleaned = s.replaceAll("[^a-zA-Z0-9_]", "_");
-        if (cleaned.isEmpty()) cleaned = "test";
-        if (Character.isDigit(cleaned.charAt(0))) cleaned = "_" + cleaned;
-        return cleaned;
+    private record RequestContext(String requestSpecCode, String payloadJson, boolean llmPayload) {
     }
 
-    private String indent(String text, int spaces) {
-        String pad = " ".repeat(spaces);
-        String[] lines = text.split("\\R");
-        StringBuilder sb = new StringBuilder();
-        for (String line : lines) {
-            if (line.isBlank()) {
-                sb.append("\n");
-            } else {
-                sb.append(pad).append(line).append("\n");
+    @FunctionalInterface
+    private interface PipelineStep {
+        void run() throws Exception;
+    }
+
+    private record ClassUnit(String tag, String className, List<OperationModel> operations) {
+    }
+
+    private record ClassChunk(Path classFile, Path moduleRoot, String fingerprint, String text, boolean last) {
+    }
+
+    private static final class ClassChunkWriter extends Writer {
+
+        private final Path classFile;
+        private final Path moduleRoot;
+        private final String fingerprint;
+        private final StageQueue<ClassChunk> queue;
+
+        ClassChunkWriter(Path classFile, Path moduleRoot, String fingerprint, StageQueue<ClassChunk> queue) {
+            this.classFile = classFile;
+            this.moduleRoot = moduleRoot;
+            this.fingerprint = fingerprint;
+            this.queue = queue;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            if (length > 0) {
+                put(new ClassChunk(classFile, moduleRoot, fingerprint, new String(buffer, offset, length), false));
             }
         }
-        return sb.toString();
-    }
 
-    private record RequestContext(String requestSpecCode, String payloadJson) {
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() throws IOException {
+            put(new ClassChunk(classFile, moduleRoot, fingerprint, "", true));
+        }
+
+        private void put(ClassChunk chunk) throws IOException {
+            try {
+                queue.put(chunk);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while streaming " + classFile);
+            }
+        }
     }
 }
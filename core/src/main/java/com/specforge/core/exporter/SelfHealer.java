@@ -0,0 +1,381 @@
+package com.specforge.core.exporter;
+
+import com.specforge.core.generator.GenerationJournal;
+import com.specforge.core.llm.LlmPrompt;
+import com.specforge.core.llm.LlmProvider;
+import com.specforge.core.llm.LlmTask;
+import com.specforge.core.llm.TimeBudget;
+import com.specforge.core.prompt.PromptBudget;
+import com.specforge.core.validator.CompilationValidator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/*
+ * Gets a generated module to compile: local signature repairs first, then the compile-fix model, then a
+ * deterministic re-render once the time budget is spent. A failure leaves the sources as they were.
+ */
+final class SelfHealer {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String COMPILE_FIX_INSTRUCTIONS = """
+            Corrige los errores de compilacion del codigo Java del siguiente mensaje.
+            Devuelve solo el codigo corregido, sin explicaciones.
+            """.strip();
+
+    private final CompilationValidator compilationValidator;
+    private final LlmProvider compileFixProvider;
+    private final PromptBudget promptBudget;
+    private final TimeBudget timeBudget;
+    private final CompileFixCache fixCache;
+
+    SelfHealer(CompilationValidator compilationValidator,
+               LlmProvider compileFixProvider,
+               PromptBudget promptBudget,
+               TimeBudget timeBudget,
+               CompileFixCache fixCache) {
+        this.compilationValidator = compilationValidator;
+        this.compileFixProvider = compileFixProvider;
+        this.promptBudget = promptBudget;
+        this.timeBudget = timeBudget;
+        this.fixCache = fixCache;
+    }
+
+    void validateAndSelfHeal(Path outputDir, Function<Path, String> classRenderer, GenerationJournal journal) {
+        CompilationValidator.ValidationResult initialResult = safeValidate(outputDir);
+        if (initialResult.success()) {
+            return;
+        }
+
+        Map<Path, String> baselineSources = snapshotGeneratedSources(outputDir);
+        CompilationValidator.ValidationResult currentResult = applyKnownFixes(outputDir, initialResult);
+        if (currentResult.success()) {
+            forgetRewrittenMethods(journal, baselineSources);
+            return;
+        }
+
+        if (compileFixProvider == null) {
+            restoreSources(baselineSources);
+            throw new IllegalStateException("Generated tests failed compilation: " + initialResult.formatForPrompt());
+        }
+
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            if (!timeBudget.allows(LlmTask.COMPILE_FIX)) {
+                break;
+            }
+            Map<Path, String> beforeFix = readSources(currentResult.errorsByFile().keySet());
+            boolean attempted = applyCompilationFixes(currentResult);
+            if (!attempted) {
+                break;
+            }
+
+            CompilationValidator.ValidationResult fixedResult = safeValidate(outputDir);
+            learnFromFixes(currentResult, beforeFix, fixedResult);
+            currentResult = applyKnownFixes(outputDir, fixedResult);
+            if (currentResult.success()) {
+                forgetRewrittenMethods(journal, baselineSources);
+                return;
+            }
+        }
+
+        restoreSources(baselineSources);
+        if (!timeBudget.allows(LlmTask.COMPILE_FIX)
+                && rerenderDeterministically(initialResult.errorsByFile().keySet(), classRenderer)) {
+            CompilationValidator.ValidationResult fallbackResult = safeValidate(outputDir);
+            if (fallbackResult.success()) {
+                forgetRewrittenMethods(journal, baselineSources);
+                return;
+            }
+            currentResult = fallbackResult;
+            restoreSources(baselineSources);
+        }
+        throw new IllegalStateException(
+                "Generated tests failed compilation after self-healing attempts: " + currentResult.formatForPrompt()
+        );
+    }
+
+    // A checkpointed method that had to be rewritten would fail again on resume.
+    private void forgetRewrittenMethods(GenerationJournal journal, Map<Path, String> baselineSources) {
+        if (journal == null) {
+            return;
+        }
+        Map<Path, String> healed = readSources(baselineSources.keySet());
+        baselineSources.forEach((file, before) -> {
+            String after = healed.get(file);
+            if (after != null && !after.equals(before)) {
+                journal.forgetRewrittenMethods(before, after);
+            }
+        });
+    }
+
+    // With the budget spent every LLM task falls back, so rendering again is deterministic.
+    private boolean rerenderDeterministically(Set<Path> failingFiles, Function<Path, String> classRenderer) {
+        boolean rewritten = false;
+        for (Path file : failingFiles) {
+            String source = file == null ? null : classRenderer.apply(file);
+            if (source == null) {
+                continue;
+            }
+            try {
+                Files.writeString(file, source, StandardCharsets.UTF_8, StandardOpenOption.TRUNCATE_EXISTING);
+                rewritten = true;
+            } catch (IOException ignored) {
+                // Best effort per file, like self-healing.
+            }
+        }
+        return rewritten;
+    }
+
+    private CompilationValidator.ValidationResult applyKnownFixes(Path outputDir,
+                                                                  CompilationValidator.ValidationResult result) {
+        for (int pass = 1; pass <= MAX_ATTEMPTS && !result.success(); pass++) {
+            Map<Path, CompileFixCache.Repair> repairs = new LinkedHashMap<>();
+            for (Map.Entry<Path, List<CompilationValidator.ValidationError>> entry : result.errorsByFile().entrySet()) {
+                try {
+                    CompileFixCache.Repair repair = fixCache.repair(Files.readString(entry.getKey()), entry.getValue());
+                    if (repair != null) {
+                        Files.writeString(entry.getKey(), repair.source(), StandardCharsets.UTF_8,
+                                StandardOpenOption.TRUNCATE_EXISTING);
+                        repairs.put(entry.getKey(), repair);
+                    }
+                } catch (IOException ignored) {
+                    // Best effort per file, like self-healing.
+                }
+            }
+            if (repairs.isEmpty()) {
+                return result;
+            }
+            result = safeValidate(outputDir);
+            Map<Path, List<CompilationValidator.ValidationError>> remaining = result.errorsByFile();
+            repairs.forEach((file, repair) -> fixCache.recordOutcome(repair, remaining.getOrDefault(file, List.of())));
+        }
+        return result;
+    }
+
+    private void learnFromFixes(CompilationValidator.ValidationResult before,
+                                Map<Path, String> sourcesBefore,
+                                CompilationValidator.ValidationResult after) {
+        Map<Path, List<CompilationValidator.ValidationError>> remaining = after.errorsByFile();
+        for (Map.Entry<Path, List<CompilationValidator.ValidationError>> entry : before.errorsByFile().entrySet()) {
+            Map<Path, String> fixed = readSources(Set.of(entry.getKey()));
+            fixCache.learn(
+                    sourcesBefore.get(entry.getKey()),
+                    entry.getValue(),
+                    fixed.get(entry.getKey()),
+                    remaining.getOrDefault(entry.getKey(), List.of())
+            );
+        }
+    }
+
+    private Map<Path, String> readSources(Set<Path> files) {
+        Map<Path, String> sources = new HashMap<>();
+        for (Path file : files) {
+            try {
+                sources.put(file, Files.readString(file));
+            } catch (IOException ignored) {
+                // A file that cannot be read is simply not learned from.
+            }
+        }
+        return sources;
+    }
+
+    private CompilationValidator.ValidationResult safeValidate(Path outputDir) {
+        try {
+            return compilationValidator.validate(outputDir);
+        } catch (RuntimeException ex) {
+            return new CompilationValidator.ValidationResult(
+                    false,
+                    List.of(new CompilationValidator.ValidationError(null, 0, "Validator error: " + ex.getMessage()))
+            );
+        }
+    }
+
+    private boolean applyCompilationFixes(CompilationValidator.ValidationResult result) {
+        Map<Path, List<CompilationValidator.ValidationError>> errorsByFile = result.errorsByFile();
+        if (errorsByFile.isEmpty()) {
+            return false;
+        }
+
+        List<CompileFix> fixes = new ArrayList<>();
+        List<LlmPrompt> prompts = new ArrayList<>();
+        for (Map.Entry<Path, List<CompilationValidator.ValidationError>> entry : errorsByFile.entrySet()) {
+            Path file = entry.getKey();
+            if (file == null || !Files.exists(file)) {
+                continue;
+            }
+
+            try {
+                String originalCode = Files.readString(file);
+                String errors = formatErrors(entry.getValue());
+                LlmPrompt wholeFilePrompt = new LlmPrompt(COMPILE_FIX_INSTRUCTIONS, """
+                        Tu codigo anterior genero este error de compilacion: %s.
+                        Corrigelo.
+                        Codigo anterior:
+                        %s
+                        """.formatted(errors, originalCode));
+
+                boolean wholeFileFits = promptBudget.fits(LlmTask.COMPILE_FIX, wholeFilePrompt.text());
+                List<JavaMemberLocator.LineRange> members = wholeFileFits
+                        ? List.of()
+                        : JavaMemberLocator.enclosingMembers(originalCode, errorLines(entry.getValue()));
+                if (members.isEmpty()) {
+                    prompts.add(wholeFilePrompt);
+                    fixes.add(new CompileFix(file, originalCode, null));
+                    continue;
+                }
+
+                // Oversized classes only ship the failing members; the header is context only.
+                String header = JavaMemberLocator.header(originalCode, members);
+                for (JavaMemberLocator.LineRange member : members) {
+                    LlmPrompt memberPrompt = new LlmPrompt(COMPILE_FIX_INSTRUCTIONS, """
+                            Tu codigo anterior genero este error de compilacion: %s.
+                            Corrigelo.
+                            Solo se incluye el miembro afectado (lineas %d-%d de %s). Devuelve unicamente ese fragmento corregido.
+                            Cabecera de la clase (solo contexto, no la devuelvas):
+                            %s
+                            Codigo anterior:
+                            %s
+                            """.formatted(
+                            formatErrors(errorsWithin(entry.getValue(), member)),
+                            member.from() + 1,
+                            member.to() + 1,
+                            file.getFileName(),
+                            header,
+                            JavaMemberLocator.slice(originalCode, member)
+                    ));
+                    if (promptBudget.fits(LlmTask.COMPILE_FIX, memberPrompt.text())) {
+                        prompts.add(memberPrompt);
+                        fixes.add(new CompileFix(file, originalCode, member));
+                    }
+                }
+            } catch (IOException ignored) {
+                // Best effort self-healing per file.
+            }
+        }
+
+        List<String> responses = compileFixProvider.generateAll(prompts);
+        Map<Path, String> fixedSources = new LinkedHashMap<>();
+        Map<Path, List<JavaMemberLocator.LineRange>> fixedMembers = new LinkedHashMap<>();
+        Map<Path, List<String>> memberReplacements = new LinkedHashMap<>();
+        for (int i = 0; i < fixes.size(); i++) {
+            CompileFix fix = fixes.get(i);
+            String fixedCode = JavaText.sanitizeGeneratedCode(responses.get(i));
+            if (fixedCode == null || fixedCode.isBlank()) {
+                continue;
+            }
+            if (fix.member() == null) {
+                fixedSources.put(fix.file(), fixedCode);
+            } else if (JavaMemberLocator.replaces(fix.originalCode(), fix.member(), fixedCode)) {
+                fixedMembers.computeIfAbsent(fix.file(), ignored -> new ArrayList<>()).add(fix.member());
+                memberReplacements.computeIfAbsent(fix.file(), ignored -> new ArrayList<>()).add(fixedCode);
+                fixedSources.putIfAbsent(fix.file(), fix.originalCode());
+            }
+        }
+
+        boolean updated = false;
+        for (Map.Entry<Path, String> entry : fixedSources.entrySet()) {
+            Path file = entry.getKey();
+            String source = fixedMembers.containsKey(file)
+                    ? JavaMemberLocator.splice(entry.getValue(), fixedMembers.get(file), memberReplacements.get(file))
+                    : entry.getValue();
+            try {
+                Files.writeString(file, source, StandardCharsets.UTF_8, StandardOpenOption.TRUNCATE_EXISTING);
+                updated = true;
+            } catch (IOException ignored) {
+                // Best effort self-healing per file.
+            }
+        }
+
+        return updated;
+    }
+
+    private List<Long> errorLines(List<CompilationValidator.ValidationError> errors) {
+        List<Long> lines = new ArrayList<>();
+        for (CompilationValidator.ValidationError error : errors) {
+            lines.add(error.line());
+        }
+        return lines;
+    }
+
+    private List<CompilationValidator.ValidationError> errorsWithin(List<CompilationValidator.ValidationError> errors,
+                                                                   JavaMemberLocator.LineRange member) {
+        List<CompilationValidator.ValidationError> within = new ArrayList<>();
+        for (CompilationValidator.ValidationError error : errors) {
+            if (member.contains((int) error.line() - 1)) {
+                within.add(error);
+            }
+        }
+        return within;
+    }
+
+    private String formatErrors(List<CompilationValidator.ValidationError> errors) {
+        if (errors == null || errors.isEmpty()) {
+            return "Unknown compilation error.";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (CompilationValidator.ValidationError error : errors) {
+            if (sb.length() > 0) {
+                sb.append("\\n");
+            }
+            sb.append("line ")
+                    .append(error.line())
+                    .append(": ")
+                    .append(error.message());
+        }
+        return sb.toString();
+    }
+
+    private Map<Path, String> snapshotGeneratedSources(Path outputDir) {
+        Map<Path, String> snapshot = new LinkedHashMap<>();
+        Path root = outputDir.resolve("src/test/java");
+        if (!Files.exists(root)) {
+            return snapshot;
+        }
+
+        try (var stream = Files.walk(root)) {
+            List<Path> files = stream
+                    .filter(Files::isRegularFile)
+                    .filter(path -> path.getFileName().toString().endsWith(".java"))
+                    .sorted(Comparator.naturalOrder())
+                    .toList();
+            for (Path file : files) {
+                snapshot.put(file, Files.readString(file));
+            }
+        } catch (IOException ignored) {
+            // Best effort snapshot.
+        }
+
+        return snapshot;
+    }
+
+    private void restoreSources(Map<Path, String> sources) {
+        for (Map.Entry<Path, String> entry : sources.entrySet()) {
+            try {
+                Files.writeString(
+                        entry.getKey(),
+                        entry.getValue(),
+                        StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING
+                );
+            } catch (IOException ignored) {
+                // Best effort restore.
+            }
+        }
+    }
+
+    private record CompileFix(Path file, String originalCode, JavaMemberLocator.LineRange member) {
+    }
+}
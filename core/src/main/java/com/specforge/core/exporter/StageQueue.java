@@ -0,0 +1,63 @@
+package com.specforge.core.exporter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Bounded hand-off between two pipeline stages. A full queue blocks the producer, which is what keeps a fast stage
+ * from buffering a whole spec ahead of a slow one. Either side can cancel it, so a failing stage never leaves the
+ * other one blocked forever.
+ */
+final class StageQueue<T> {
+
+    private static final Object END = new Object();
+    private static final long POLL_MILLIS = 50;
+
+    private final BlockingQueue<Object> queue;
+    private volatile boolean cancelled;
+
+    StageQueue(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+    }
+
+    void put(T item) throws InterruptedException {
+        offer(item);
+    }
+
+    // Signals the consumer that no more items will come.
+    void finish() throws InterruptedException {
+        offer(END);
+    }
+
+    // Returns null once the producer has finished.
+    @SuppressWarnings("unchecked")
+    T take() throws InterruptedException {
+        while (true) {
+            if (cancelled) {
+                throw new CancellationException("Pipeline stage cancelled");
+            }
+            Object next = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            if (next == END) {
+                return null;
+            }
+            if (next != null) {
+                return (T) next;
+            }
+        }
+    }
+
+    void cancel() {
+        cancelled = true;
+        queue.clear();
+    }
+
+    private void offer(Object item) throws InterruptedException {
+        while (!queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (cancelled) {
+                throw new CancellationException("Pipeline stage cancelled");
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.specforge.core.exporter;
+
+import java.util.Locale;
+
+public enum TestStyle {
+    // One @Test method per planned test case.
+    METHODS,
+    // The 2xx test cases of an operation become one @ParameterizedTest fed by a generated @MethodSource.
+    PARAMETERIZED;
+
+    public static TestStyle parse(String raw) {
+        String value = raw == null ? "" : raw.trim().toLowerCase(Locale.ROOT);
+        return switch (value) {
+            case "", "methods" -> METHODS;
+            case "parameterized" -> PARAMETERIZED;
+            default -> throw new IllegalArgumentException("Invalid test style: " + raw + ". Use: methods | parameterized");
+        };
+    }
+
+    public static TestStyle fromConfig() {
+        String configured = System.getProperty("specforge.export.testStyle");
+        if (configured == null || configured.isBlank()) {
+            configured = System.getenv("SPECFORGE_EXPORT_TEST_STYLE");
+        }
+        return parse(configured);
+    }
+}
@@ -0,0 +1,262 @@
+package com.specforge.core.exporter;
+
+import com.github.mustachejava.DefaultMustacheFactory;
+import com.github.mustachejava.Mustache;
+import com.github.mustachejava.MustacheException;
+import com.github.mustachejava.MustacheFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Mustache templates for the generated test sources, compiled once per template directory and content and shared by
+ * every exporter; editing an override recompiles it on the next lookup. A directory only needs the templates it overrides (test-class, test-method, parameterized-method,
+ * fallback-body); the rest come from the bundled ones. Values are written verbatim: these templates produce Java,
+ * not HTML.
+ */
+public final class TestTemplates {
+
+    public static final String CLASS_TEMPLATE = "test-class";
+    public static final String METHOD_TEMPLATE = "test-method";
+    public static final String PARAMETERIZED_METHOD_TEMPLATE = "parameterized-method";
+    public static final String FALLBACK_BODY_TEMPLATE = "fallback-body";
+
+    private static final String BUNDLED_BASE_PATH = "templates";
+    private static final String EXTENSION = ".mustache";
+    private static final Path BUNDLED_KEY = Path.of("");
+    private static final List<String> TEMPLATE_NAMES =
+            List.of(CLASS_TEMPLATE, METHOD_TEMPLATE, PARAMETERIZED_METHOD_TEMPLATE, FALLBACK_BODY_TEMPLATE);
+    private static final Map<Path, TestTemplates> COMPILED = new ConcurrentHashMap<>();
+
+    private final Path templateDir;
+    private final String digest;
+    private final Mustache classTemplate;
+    private final Mustache methodTemplate;
+    private final Mustache parameterizedMethodTemplate;
+    private final Mustache fallbackBodyTemplate;
+
+    private TestTemplates(Path templateDir, String digest) {
+        this.templateDir = templateDir;
+        this.digest = digest;
+        MustacheFactory factory = new VerbatimMustacheFactory(templateDir);
+        this.classTemplate = compile(factory, CLASS_TEMPLATE);
+        this.methodTemplate = compile(factory, METHOD_TEMPLATE);
+        this.parameterizedMethodTemplate = compile(factory, PARAMETERIZED_METHOD_TEMPLATE);
+        this.fallbackBodyTemplate = compile(factory, FALLBACK_BODY_TEMPLATE);
+    }
+
+    public static TestTemplates bundled() {
+        return COMPILED.computeIfAbsent(BUNDLED_KEY, key -> new TestTemplates(null, digest(null)));
+    }
+
+    public static TestTemplates fromDirectory(Path templateDir) {
+        if (templateDir == null) {
+            return bundled();
+        }
+        if (!Files.isDirectory(templateDir)) {
+            throw new IllegalArgumentException("Template directory not found: " + templateDir);
+        }
+        Path key = templateDir.toAbsolutePath().normalize();
+        String digest = digest(key);
+        return COMPILED.compute(key, (dir, cached) -> cached != null && cached.digest.equals(digest)
+                ? cached
+                : new TestTemplates(dir, digest));
+    }
+
+    public static TestTemplates fromConfig() {
+        String configured = System.getProperty("specforge.templates.dir");
+        if (configured == null || configured.isBlank()) {
+            configured = System.getenv("SPECFORGE_TEMPLATES_DIR");
+        }
+        return configured == null || configured.isBlank() ? bundled() : fromDirectory(Path.of(configured.trim()));
+    }
+
+    // The override files these templates were read from, present or not; empty for the bundled set.
+    public List<Path> overrideFiles() {
+        if (templateDir == null) {
+            return List.of();
+        }
+        return TEMPLATE_NAMES.stream().map(name -> templateDir.resolve(name + EXTENSION)).toList();
+    }
+
+    // SHA-256 over the effective template sources, so generated output can be keyed on the templates it came from.
+    String digest() {
+        return digest;
+    }
+
+    void renderClass(Writer out, ClassView view) throws IOException {
+        execute(classTemplate, out, view);
+    }
+
+    String renderMethod(MethodView view) {
+        return render(methodTemplate, view);
+    }
+
+    String renderParameterizedMethod(ParameterizedMethodView view) {
+        return render(parameterizedMethodTemplate, view);
+    }
+
+    String renderFallbackBody(FallbackBodyView view) {
+        return render(fallbackBodyTemplate, view);
+    }
+
+    private static String render(Mustache template, Object view) {
+        StringWriter out = new StringWriter();
+        try {
+            execute(template, out, view);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    private static void execute(Mustache template, Writer out, Object view) throws IOException {
+        try {
+            template.execute(out, view);
+        } catch (MustacheException e) {
+            // Writer failures (a full disk, a cancelled pipeline stage) arrive wrapped; keep their original type.
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof IOException io) {
+                    throw io;
+                }
+                if (cause instanceof RuntimeException runtime && !(runtime instanceof MustacheException)) {
+                    throw runtime;
+                }
+            }
+            throw e;
+        }
+    }
+
+    private static String digest(Path templateDir) {
+        try {
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            for (String name : TEMPLATE_NAMES) {
+                sha.update((name + '\n').getBytes(StandardCharsets.UTF_8));
+                sha.update(source(templateDir, name + EXTENSION));
+            }
+            return HexFormat.of().formatHex(sha.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static byte[] source(Path templateDir, String resourceName) {
+        try {
+            if (templateDir != null && Files.isRegularFile(templateDir.resolve(resourceName))) {
+                return Files.readAllBytes(templateDir.resolve(resourceName));
+            }
+            try (InputStream bundled = bundledTemplate(resourceName)) {
+                return bundled == null ? new byte[0] : bundled.readAllBytes();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read test template: " + resourceName, e);
+        }
+    }
+
+    private static InputStream bundledTemplate(String resourceName) {
+        return TestTemplates.class.getClassLoader().getResourceAsStream(BUNDLED_BASE_PATH + "/" + resourceName);
+    }
+
+    private static Mustache compile(MustacheFactory factory, String name) {
+        try {
+            return factory.compile(name + EXTENSION);
+        } catch (MustacheException e) {
+            throw new IllegalStateException("Invalid test template " + name + EXTENSION + ": " + e.getMessage(), e);
+        }
+    }
+
+    record ClassView(String basePackage,
+                     String className,
+                     String schemaImport,
+                     String chainImports,
+                     String parameterizedImports,
+                     String streamImport,
+                     String classAnnotations,
+                     String fields,
+                     Iterable<String> methods) {
+    }
+
+    record MethodView(String annotations,
+                      String httpMethod,
+                      String path,
+                      String testType,
+                      String methodName,
+                      String businessRulesComment,
+                      String requestSpec,
+                      String body) {
+    }
+
+    record ParameterizedMethodView(String httpMethod,
+                                   String path,
+                                   String methodName,
+                                   String casesMethod,
+                                   String businessRulesComment,
+                                   String requestSpec,
+                                   String body,
+                                   String cases) {
+    }
+
+    /*
+     * expectedStatus is a Java expression: a literal for plain methods, the parameter name for parameterized ones.
+     * capture and extract wrap the chain when its response feeds later tests ("field = " ... ".extract().path(..)").
+     */
+    record FallbackBodyView(String capture,
+                            String httpMethod,
+                            String path,
+                            String expectedStatus,
+                            String schemaAssertion,
+                            String businessRuleAssertions,
+                            String extract) {
+    }
+
+    private static final class VerbatimMustacheFactory extends DefaultMustacheFactory {
+
+        private final Path templateDir;
+
+        VerbatimMustacheFactory(Path templateDir) {
+            this.templateDir = templateDir;
+        }
+
+        @Override
+        public Reader getReader(String resourceName) {
+            if (templateDir != null) {
+                Path override = templateDir.resolve(resourceName);
+                if (Files.isRegularFile(override)) {
+                    try {
+                        return Files.newBufferedReader(override, StandardCharsets.UTF_8);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Unable to read test template: " + override, e);
+                    }
+                }
+            }
+            InputStream bundled = bundledTemplate(resourceName);
+            if (bundled == null) {
+                throw new MustacheException("Test template not found: " + BUNDLED_BASE_PATH + "/" + resourceName);
+            }
+            return new InputStreamReader(bundled, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void encode(String value, Writer writer) {
+            try {
+                writer.write(value);
+            } catch (IOException e) {
+                throw new MustacheException("Failed to write template value", e);
+            }
+        }
+    }
+}
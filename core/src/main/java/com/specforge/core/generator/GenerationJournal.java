@@ -0,0 +1,239 @@
+package com.specforge.core.generator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.specforge.core.model.TestCaseModel;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Append-only JSON-lines log of finished LLM-backed work: planned test cases per operation fingerprint and rendered
+ * test methods per method key. Every record is flushed as soon as it is written, so a run that dies half-way can be
+ * resumed without repeating the calls that already completed. Journals live beside the parsed-spec cache, one per
+ * output directory, so the generated project never ships them.
+ */
+public final class GenerationJournal implements AutoCloseable {
+
+    public static final String DIR_NAME = "journal";
+
+    private static final String KIND_PLAN = "plan";
+    private static final String KIND_METHOD = "method";
+    private static final String KIND_FORGET = "forget";
+    private static final TypeReference<Map<String, Object>> RECORD_TYPE = new TypeReference<>() {};
+    private static final TypeReference<List<TestCaseModel>> TEST_CASES_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, List<TestCaseModel>> plans = new ConcurrentHashMap<>();
+    private final Map<String, String> methods = new ConcurrentHashMap<>();
+    private final Path file;
+    private final int resumedEntries;
+    private BufferedWriter writer;
+
+    private GenerationJournal(Path file, boolean resume) {
+        this.file = file;
+        if (resume) {
+            load();
+        }
+        this.resumedEntries = plans.size() + methods.size();
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            boolean cutShort = resume && endsMidLine(file);
+            this.writer = resume ? openAppending() : Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            if (cutShort) {
+                // Keep the first new record off the partial line a killed run may have left behind.
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to open generation journal: " + file, e);
+        }
+    }
+
+    // Without resume the previous journal is discarded; with it, its records are loaded and new ones appended.
+    public static GenerationJournal open(Path file, boolean resume) {
+        return new GenerationJournal(file, resume);
+    }
+
+    // The journal of an output directory, in a directory next to the parsed-spec cache directory.
+    public static Path defaultFile(Path cacheDir, Path outputDir) {
+        String key = OperationFingerprint.hash(outputDir.toAbsolutePath().normalize().toString());
+        return cacheDir.toAbsolutePath().normalize().resolveSibling(DIR_NAME).resolve(key.substring(0, 16) + ".jsonl");
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public int resumedEntries() {
+        return resumedEntries;
+    }
+
+    public List<TestCaseModel> plan(String fingerprint) {
+        return fingerprint == null ? null : plans.get(fingerprint);
+    }
+
+    public void recordPlan(String fingerprint, List<TestCaseModel> testCases) {
+        plans.put(fingerprint, List.copyOf(testCases));
+        append(Map.of("kind", KIND_PLAN, "key", fingerprint, "testCases", testCases));
+    }
+
+    public String method(String key) {
+        return key == null ? null : methods.get(key);
+    }
+
+    public void recordMethod(String key, String source) {
+        methods.put(key, source);
+        append(Map.of("kind", KIND_METHOD, "key", key, "source", source));
+    }
+
+    /*
+     * Drops the checkpointed methods a class had before self-healing and no longer has after it: a resumed run would
+     * replay the code that failed to compile. Indentation is ignored, since the class template re-indents methods.
+     */
+    public void forgetRewrittenMethods(String before, String after) {
+        String was = withoutWhitespace(before);
+        String is = withoutWhitespace(after);
+        methods.forEach((key, source) -> {
+            String method = withoutWhitespace(source);
+            if (was.contains(method) && !is.contains(method) && methods.remove(key, source)) {
+                append(Map.of("kind", KIND_FORGET, "key", key));
+            }
+        });
+    }
+
+    /*
+     * Rewrites the journal as one record per live entry, dropping overwritten records, forgotten methods and lines a
+     * killed run cut short, so a journal extended by resumed runs and --watch iterations does not keep growing.
+     */
+    public synchronized void compact() {
+        if (writer == null) {
+            return;
+        }
+        Path temp = null;
+        try {
+            writer.close();
+            temp = Files.createTempFile(file.toAbsolutePath().getParent(), "journal-", ".tmp");
+            try (BufferedWriter compacted = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, List<TestCaseModel>> plan : plans.entrySet()) {
+                    writeRecord(compacted,
+                            Map.of("kind", KIND_PLAN, "key", plan.getKey(), "testCases", plan.getValue()));
+                }
+                for (Map.Entry<String, String> method : methods.entrySet()) {
+                    writeRecord(compacted,
+                            Map.of("kind", KIND_METHOD, "key", method.getKey(), "source", method.getValue()));
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            temp = null;
+        } catch (IOException ignored) {
+            // The uncompacted journal is still valid; it is only larger than it needs to be.
+        } finally {
+            try {
+                if (temp != null) {
+                    Files.deleteIfExists(temp);
+                }
+                writer = openAppending();
+            } catch (IOException e) {
+                writer = null;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException ignored) {
+            // Every record was already flushed.
+        }
+        writer = null;
+    }
+
+    private synchronized void append(Map<String, Object> record) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writeRecord(writer, record);
+            writer.flush();
+        } catch (IOException ignored) {
+            // A lost checkpoint only costs a repeated LLM call on resume; it must not fail generation.
+        }
+    }
+
+    private void writeRecord(BufferedWriter out, Map<String, Object> record) throws IOException {
+        out.write(objectMapper.writeValueAsString(record));
+        out.newLine();
+    }
+
+    private BufferedWriter openAppending() throws IOException {
+        return Files.newBufferedWriter(
+                file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static String withoutWhitespace(String text) {
+        return text == null ? "" : text.replaceAll("\\s+", "");
+    }
+
+    private static boolean endsMidLine(Path file) throws IOException {
+        if (!Files.isRegularFile(file) || Files.size(file) == 0) {
+            return false;
+        }
+        try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+            ByteBuffer last = ByteBuffer.allocate(1);
+            channel.position(channel.size() - 1).read(last);
+            return last.get(0) != '\n';
+        }
+    }
+
+    private void load() {
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read generation journal: " + file, e);
+        }
+
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                Map<String, Object> record = objectMapper.readValue(line, RECORD_TYPE);
+                String key = String.valueOf(record.get("key"));
+                if (KIND_PLAN.equals(record.get("kind"))) {
+                    plans.put(key, List.copyOf(objectMapper.convertValue(record.get("testCases"), TEST_CASES_TYPE)));
+                } else if (KIND_METHOD.equals(record.get("kind")) && record.get("source") instanceof String source) {
+                    methods.put(key, source);
+                } else if (KIND_FORGET.equals(record.get("kind"))) {
+                    methods.remove(key);
+                }
+            } catch (JsonProcessingException | IllegalArgumentException ignored) {
+                // The last line of a killed run may be cut short; everything before it is still valid.
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.specforge.core.generator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.specforge.core.model.OperationModel;
+import com.specforge.core.model.ParamModel;
+import com.specforge.core.model.RequestBodyModel;
+import com.specforge.core.model.ResourceLinkModel;
+import com.specforge.core.model.ResponseModel;
+import com.specforge.core.model.TestCaseModel;
+import com.specforge.core.model.schema.TypedSchemaModule;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class OperationFingerprint {
+
+    private static final ObjectMapper CANONICAL_MAPPER = new ObjectMapper()
+            .registerModule(new TypedSchemaModule())
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    private OperationFingerprint() {
+    }
+
+    // Covers everything the planner and the exporter read from an operation except its planned test cases.
+    public static String of(OperationModel operation) {
+        if (operation == null) {
+            return "";
+        }
+
+        Map<String, Object> canonical = new LinkedHashMap<>();
+        canonical.put("operationId", operation.getOperationId());
+        canonical.put("method", operation.getHttpMethod());
+        canonical.put("path", operation.getPath());
+        canonical.put("description", operation.getDescription());
+        canonical.put("successStatus", operation.getPreferredSuccessStatus());
+        canonical.put("tags", operation.getTags());
+        canonical.put("businessRules", operation.getBusinessRules());
+        canonical.put("params", params(operation.getParams()));
+        canonical.put("requestBody", requestBody(operation.getRequestBody()));
+        canonical.put("response", response(operation.getPreferredResponse()));
+        return hash(canonical);
+    }
+
+    // Same as of(operation) plus the planned test cases and resource links, i.e. everything a generated test method
+    // depends on. Unlinked operations hash as before, so existing caches stay valid.
+    public static String ofPlanned(OperationModel operation) {
+        List<Object> testCases = new ArrayList<>();
+        if (operation != null && operation.getTestCases() != null) {
+            for (TestCaseModel testCase : operation.getTestCases()) {
+                if (testCase != null) {
+                    testCases.add(List.of(
+                            String.valueOf(testCase.getType()),
+                            String.valueOf(testCase.getName()),
+                            testCase.getExpectedStatus()
+                    ));
+                }
+            }
+        }
+        List<Object> links = new ArrayList<>();
+        if (operation != null && operation.getResourceLinks() != null) {
+            for (ResourceLinkModel link : operation.getResourceLinks()) {
+                links.add(List.of(
+                        String.valueOf(link.getParamName()),
+                        String.valueOf(link.getProducerOperationId()),
+                        String.valueOf(link.getProducerProperty())
+                ));
+            }
+        }
+        return hash(links.isEmpty() ? List.of(of(operation), testCases) : List.of(of(operation), testCases, links));
+    }
+
+    // Hashes any JSON-serialisable structure with map keys sorted, so equal content always yields equal digests.
+    public static String hash(Object canonical) {
+        try {
+            byte[] bytes = CANONICAL_MAPPER.writeValueAsBytes(canonical);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to fingerprint value", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static List<Object> params(List<ParamModel> params) {
+        List<Object> values = new ArrayList<>();
+        if (params == null) {
+            return values;
+        }
+        for (ParamModel param : params) {
+            if (param == null) {
+                continue;
+            }
+            values.add(List.of(
+                    String.valueOf(param.getName()),
+                    String.valueOf(param.getIn()),
+                    param.isRequired(),
+                    String.valueOf(param.getType())
+            ));
+        }
+        return values;
+    }
+
+    private static Map<String, Object> requestBody(RequestBodyModel requestBody) {
+        if (requestBody == null) {
+            return null;
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("contentType", requestBody.getContentType());
+        values.put("schema", requestBody.getTypedSchema());
+        return values;
+    }
+
+    private static Map<String, Object> response(ResponseModel response) {
+        if (response == null) {
+            return null;
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("status", response.getStatusCode());
+        values.put("contentType", response.getContentType());
+        values.put("schema", response.getTypedSchema());
+        return values;
+    }
+}
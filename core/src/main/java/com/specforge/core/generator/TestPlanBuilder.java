@@ -5,26 +5,70 @@ import com.specforge.core.model.OperationModel;
 import com.specforge.core.model.TestCaseModel;
 import com.specforge.core.model.TestType;
 import com.specforge.core.planner.AiScenarioPlanner;
+import com.specforge.core.planner.ResourceLinkPlanner;
 import com.specforge.core.planner.TestScenario;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public class TestPlanBuilder {
 
     private final AiScenarioPlanner scenarioPlanner;
+    private final TestPlanMemo planMemo;
+    private final GenerationJournal journal;
+    private final ResourceLinkPlanner linkPlanner = new ResourceLinkPlanner();
 
     public TestPlanBuilder() {
         this(null);
     }
 
     public TestPlanBuilder(AiScenarioPlanner scenarioPlanner) {
+        this(scenarioPlanner, null);
+    }
+
+    public TestPlanBuilder(AiScenarioPlanner scenarioPlanner, TestPlanMemo planMemo) {
+        this(scenarioPlanner, planMemo, null);
+    }
+
+    public TestPlanBuilder(AiScenarioPlanner scenarioPlanner, TestPlanMemo planMemo, GenerationJournal journal) {
         this.scenarioPlanner = scenarioPlanner;
+        this.planMemo = planMemo;
+        this.journal = journal;
     }
 
     public ApiSpecModel build(ApiSpecModel parsed) {
+        return build(parsed, null);
+    }
+
+    // onPlanned sees each operation as soon as its test cases are set, so later stages can start before planning ends.
+    public ApiSpecModel build(ApiSpecModel parsed, Consumer<OperationModel> onPlanned) {
+        // Links only depend on the spec, and are needed before the first class can be rendered.
+        linkPlanner.link(parsed.getOperations());
+        Set<String> fingerprints = new HashSet<>();
         for (OperationModel op : parsed.getOperations()) {
+            String fingerprint = planMemo != null || journal != null ? OperationFingerprint.of(op) : null;
+            List<TestCaseModel> memoized = planMemo != null ? planMemo.get(fingerprint) : null;
+            if (memoized == null && journal != null) {
+                memoized = journal.plan(fingerprint);
+            }
+            if (fingerprint != null) {
+                fingerprints.add(fingerprint);
+            }
+            if (memoized != null) {
+                op.setTestCases(new ArrayList<>(memoized));
+                if (planMemo != null) {
+                    planMemo.put(fingerprint, memoized);
+                }
+                if (onPlanned != null) {
+                    onPlanned.accept(op);
+                }
+                continue;
+            }
+
             List<TestScenario> scenarios = scenarioPlanner != null ? scenarioPlanner.plan(op) : List.of();
             List<TestCaseModel> testCases = new ArrayList<>();
 
@@ -53,6 +97,21 @@ public class TestPlanBuilder {
             }
 
             op.setTestCases(testCases);
+            // An empty plan usually means the LLM failed or timed out, which is worth retrying next build.
+            if (fingerprint != null && !scenarios.isEmpty()) {
+                if (planMemo != null) {
+                    planMemo.put(fingerprint, testCases);
+                }
+                if (journal != null) {
+                    journal.recordPlan(fingerprint, testCases);
+                }
+            }
+            if (onPlanned != null) {
+                onPlanned.accept(op);
+            }
+        }
+        if (planMemo != null) {
+            planMemo.retainOnly(fingerprints);
         }
         return parsed;
     }
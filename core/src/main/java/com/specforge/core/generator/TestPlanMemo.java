@@ -0,0 +1,30 @@
+package com.specforge.core.generator;
+
+import com.specforge.core.model.TestCaseModel;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Planned test cases keyed by OperationFingerprint, so repeated builds (e.g. --watch) only re-plan changed operations.
+public final class TestPlanMemo {
+
+    private final Map<String, List<TestCaseModel>> plans = new HashMap<>();
+
+    public synchronized int size() {
+        return plans.size();
+    }
+
+    synchronized List<TestCaseModel> get(String fingerprint) {
+        return plans.get(fingerprint);
+    }
+
+    synchronized void put(String fingerprint, List<TestCaseModel> testCases) {
+        plans.put(fingerprint, List.copyOf(testCases));
+    }
+
+    synchronized void retainOnly(Set<String> fingerprints) {
+        plans.keySet().retainAll(fingerprints);
+    }
+}
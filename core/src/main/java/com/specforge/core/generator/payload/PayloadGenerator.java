@@ -2,15 +2,23 @@ package com.specforge.core.generator.payload;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.specforge.core.llm.LlmPrompt;
 import com.specforge.core.llm.LlmProvider;
+import com.specforge.core.llm.LlmTask;
+import com.specforge.core.model.schema.AnySchema;
+import com.specforge.core.model.schema.ArraySchema;
+import com.specforge.core.model.schema.BooleanSchema;
+import com.specforge.core.model.schema.NumericSchema;
+import com.specforge.core.model.schema.ObjectSchema;
+import com.specforge.core.model.schema.StringSchema;
+import com.specforge.core.model.schema.TypedSchema;
+import com.specforge.core.prompt.PromptBudget;
 import com.specforge.core.prompt.PromptManager;
+import com.specforge.core.prompt.SchemaCompactor;
 
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -22,12 +30,15 @@ public class PayloadGenerator {
     private static final Duration DEFAULT_LLM_TIMEOUT = Duration.ofSeconds(10);
     private static final String TEMPLATE_NAME = "payload-generator";
     private static final String DEFAULT_RULES = "Respect types, enum values, and all required fields.";
+    private static final int MIN_SCHEMA_TOKENS = 64;
 
     private final Random random;
     private final ObjectMapper objectMapper;
     private final LlmProvider llmProvider;
     private final PromptManager promptManager;
     private final Duration llmTimeout;
+    private final PromptBudget promptBudget;
+    private final SchemaCompactor schemaCompactor;
 
     public PayloadGenerator() {
         this(1234L, null);
@@ -46,26 +57,51 @@ public class PayloadGenerator {
     }
 
     public PayloadGenerator(long seed, LlmProvider llmProvider, PromptManager promptManager, Duration llmTimeout) {
+        this(seed, llmProvider, promptManager, llmTimeout, PromptBudget.fromConfig());
+    }
+
+    public PayloadGenerator(long seed,
+                            LlmProvider llmProvider,
+                            PromptManager promptManager,
+                            Duration llmTimeout,
+                            PromptBudget promptBudget) {
         this.random = new Random(seed);
         this.objectMapper = new ObjectMapper();
         this.llmProvider = llmProvider;
         this.promptManager = promptManager != null ? promptManager : new PromptManager();
         this.llmTimeout = llmTimeout != null ? llmTimeout : DEFAULT_LLM_TIMEOUT;
+        this.promptBudget = promptBudget != null ? promptBudget : PromptBudget.defaults();
+        this.schemaCompactor = new SchemaCompactor();
     }
 
     public Object generate(Map<String, Object> schema) {
         if (schema == null || schema.isEmpty()) {
             return new LinkedHashMap<String, Object>();
         }
-        return generateBySchema(schema);
-    }
 
-    private Object generateBySchema(Map<String, Object> schema) {
         Object llmGenerated = generateByLlm(schema);
         if (llmGenerated != null) {
             return llmGenerated;
         }
-        return generateBySchemaRandom(schema);
+        return generateBySchemaRandom(TypedSchema.fromMap(schema));
+    }
+
+    public Object generate(TypedSchema schema) {
+        return generateWithOrigin(schema).value();
+    }
+
+    // Tells callers that checkpoint LLM output whether the payload came from the model.
+    public Generated generateWithOrigin(TypedSchema schema) {
+        if (schema == null) {
+            return new Generated(new LinkedHashMap<String, Object>(), false);
+        }
+
+        // The map view is only materialised when a model actually needs the schema as JSON.
+        Object llmGenerated = llmProvider == null ? null : generateByLlm(schema.toMap());
+        if (llmGenerated != null) {
+            return new Generated(llmGenerated, true);
+        }
+        return new Generated(generateBySchemaRandom(schema), false);
     }
 
     private Object generateByLlm(Map<String, Object> schema) {
@@ -74,14 +110,11 @@ public class PayloadGenerator {
         }
 
         try {
-            String schemaJson = objectMapper.writeValueAsString(schema);
-            String prompt = promptManager.render(
-                    TEMPLATE_NAME,
-                    Map.of(
-                            "schemaJson", schemaJson,
-                            "rules", resolveRules()
-                    )
-            );
+            String rules = resolveRules();
+            int promptOverhead = PromptBudget.estimateTokens(renderPrompt("", rules).text());
+            int schemaBudget = Math.max(MIN_SCHEMA_TOKENS, promptBudget.tokensFor(LlmTask.PAYLOAD) - promptOverhead);
+            String schemaJson = objectMapper.writeValueAsString(schemaCompactor.compact(schema, schemaBudget));
+            LlmPrompt prompt = renderPrompt(schemaJson, rules);
 
             String rawResponse = generateWithTimeout(prompt);
             if (rawResponse == null || rawResponse.isBlank()) {
@@ -92,50 +125,53 @@ public class PayloadGenerator {
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             return null;
-        } catch (JsonProcessingException | ExecutionException | TimeoutException e) {
+        } catch (JsonProcessingException | ExecutionException e) {
             return null;
         }
     }
 
-    private String generateWithTimeout(String prompt)
-            throws InterruptedException, ExecutionException, TimeoutException {
-        CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> llmProvider.generate(prompt));
-        try {
-            return future.get(llmTimeout.toMillis(), TimeUnit.MILLISECONDS);
-        } finally {
-            future.cancel(true);
-        }
+    private LlmPrompt renderPrompt(String schemaJson, String rules) {
+        return promptManager.renderPrompt(
+                TEMPLATE_NAME,
+                Map.of(
+                        "schemaJson", schemaJson,
+                        "rules", rules
+                )
+        );
     }
 
-    private Object generateBySchemaRandom(Map<String, Object> schema) {
-        List<?> enumValues = list(schema.get("enum"));
+    private String generateWithTimeout(LlmPrompt prompt) throws InterruptedException, ExecutionException {
+        return llmProvider.generateAsync(prompt, llmTimeout).toCompletableFuture().get();
+    }
+
+    private Object generateBySchemaRandom(TypedSchema schema) {
+        if (schema == null) {
+            return "value";
+        }
+
+        List<Object> enumValues = schema.facets().enumValues();
         if (!enumValues.isEmpty()) {
             return enumValues.getFirst();
         }
 
-        String type = asString(schema.get("type")).toLowerCase(Locale.ROOT);
-        return switch (type) {
-            case "object" -> generateObject(schema);
-            case "array" -> generateArray(schema);
-            case "integer" -> generateInteger(schema);
-            case "number" -> generateNumber(schema);
-            case "boolean" -> Boolean.TRUE;
-            case "string" -> generateString(schema);
-            default -> generateFallback(schema);
+        return switch (schema) {
+            case ObjectSchema object -> generateObject(object);
+            case ArraySchema array -> generateArray(array);
+            case NumericSchema numeric -> numeric.integer() ? generateInteger(numeric) : generateNumber(numeric);
+            case BooleanSchema ignored -> Boolean.TRUE;
+            case StringSchema string -> generateString(string);
+            case AnySchema ignored -> "value";
         };
     }
 
-    private Map<String, Object> generateObject(Map<String, Object> schema) {
+    private Map<String, Object> generateObject(ObjectSchema schema) {
         Map<String, Object> out = new LinkedHashMap<>();
 
-        Map<String, Object> properties = map(schema.get("properties"));
-        List<String> required = toStringList(schema.get("required"));
-
-        for (Map.Entry<String, Object> entry : properties.entrySet()) {
+        for (Map.Entry<String, TypedSchema> entry : schema.properties().entrySet()) {
             String propertyName = entry.getKey();
-            Map<String, Object> propertySchema = map(entry.getValue());
+            TypedSchema propertySchema = entry.getValue();
 
-            if (!required.contains(propertyName)) {
+            if (!schema.isRequired(propertyName)) {
                 // Deterministic but seedable optional inclusion for future extensibility.
                 if (random.nextBoolean()) {
                     out.put(propertyName, generateBySchemaRandom(propertySchema));
@@ -148,33 +184,32 @@ public class PayloadGenerator {
         return out;
     }
 
-    private List<Object> generateArray(Map<String, Object> schema) {
-        int minItems = asInt(schema.get("minItems"), 1);
-        int maxItems = asInt(schema.get("maxItems"), Math.max(minItems, 1));
+    private List<Object> generateArray(ArraySchema schema) {
+        int minItems = orDefault(schema.minItems(), 1);
+        int maxItems = orDefault(schema.maxItems(), Math.max(minItems, 1));
         int size = clamp(1, minItems, maxItems);
 
-        Map<String, Object> itemSchema = map(schema.get("items"));
         List<Object> out = new ArrayList<>();
         for (int i = 0; i < size; i++) {
-            out.add(generateBySchemaRandom(itemSchema));
+            out.add(generateBySchemaRandom(schema.items()));
         }
         return out;
     }
 
-    private Long generateInteger(Map<String, Object> schema) {
-        long minimum = asLong(schema.get("minimum"), 1L);
-        long maximum = asLong(schema.get("maximum"), Math.max(minimum, 1L));
+    private Long generateInteger(NumericSchema schema) {
+        long minimum = schema.hasMinimum() ? (long) schema.minimum() : 1L;
+        long maximum = schema.hasMaximum() ? (long) schema.maximum() : Math.max(minimum, 1L);
         return clamp(1L, minimum, maximum);
     }
 
-    private Double generateNumber(Map<String, Object> schema) {
-        double minimum = asDouble(schema.get("minimum"), 1.0);
-        double maximum = asDouble(schema.get("maximum"), Math.max(minimum, 1.0));
+    private Double generateNumber(NumericSchema schema) {
+        double minimum = schema.hasMinimum() ? schema.minimum() : 1.0;
+        double maximum = schema.hasMaximum() ? schema.maximum() : Math.max(minimum, 1.0);
         return clamp(1.0, minimum, maximum);
     }
 
-    private String generateString(Map<String, Object> schema) {
-        String format = asString(schema.get("format")).toLowerCase(Locale.ROOT);
+    private String generateString(StringSchema schema) {
+        String format = schema.facets().format() == null ? "" : schema.facets().format().toLowerCase(Locale.ROOT);
         String base = switch (format) {
             case "email" -> "user@example.com";
             case "uuid" -> "00000000-0000-4000-8000-000000000000";
@@ -183,8 +218,8 @@ public class PayloadGenerator {
             default -> "value";
         };
 
-        int minLength = asInt(schema.get("minLength"), 0);
-        int maxLength = asInt(schema.get("maxLength"), Integer.MAX_VALUE);
+        int minLength = orDefault(schema.minLength(), 0);
+        int maxLength = orDefault(schema.maxLength(), Integer.MAX_VALUE);
 
         String adjusted = ensureMinLength(base, minLength);
         if (adjusted.length() > maxLength) {
@@ -196,16 +231,6 @@ public class PayloadGenerator {
         return adjusted;
     }
 
-    private Object generateFallback(Map<String, Object> schema) {
-        if (schema.containsKey("properties")) {
-            return generateObject(schema);
-        }
-        if (schema.containsKey("items")) {
-            return generateArray(schema);
-        }
-        return "value";
-    }
-
     private String ensureMinLength(String source, int minLength) {
         if (source.length() >= minLength) {
             return source;
@@ -239,54 +264,8 @@ public class PayloadGenerator {
         return Math.max(min, Math.min(max, preferred));
     }
 
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> map(Object value) {
-        if (value instanceof Map<?, ?> m) {
-            return (Map<String, Object>) m;
-        }
-        return Map.of();
-    }
-
-    @SuppressWarnings("unchecked")
-    private List<Object> list(Object value) {
-        if (value instanceof List<?> l) {
-            return (List<Object>) l;
-        }
-        return List.of();
-    }
-
-    private List<String> toStringList(Object value) {
-        List<Object> raw = list(value);
-        List<String> out = new ArrayList<>();
-        for (Object o : raw) {
-            out.add(String.valueOf(o));
-        }
-        return out;
-    }
-
-    private String asString(Object value) {
-        return value == null ? "" : String.valueOf(value);
-    }
-
-    private int asInt(Object value, int fallback) {
-        if (value instanceof Number n) {
-            return n.intValue();
-        }
-        return fallback;
-    }
-
-    private long asLong(Object value, long fallback) {
-        if (value instanceof Number n) {
-            return n.longValue();
-        }
-        return fallback;
-    }
-
-    private double asDouble(Object value, double fallback) {
-        if (value instanceof Number n) {
-            return n.doubleValue();
-        }
-        return fallback;
+    private int orDefault(int value, int fallback) {
+        return value == TypedSchema.UNSET ? fallback : value;
     }
 
     private String resolveRules() {
@@ -305,4 +284,7 @@ public class PayloadGenerator {
         }
         return null;
     }
+
+    public record Generated(Object value, boolean fromLlm) {
+    }
 }
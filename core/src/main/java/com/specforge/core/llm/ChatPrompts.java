@@ -0,0 +1,26 @@
+package com.specforge.core.llm;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+
+import java.util.List;
+import java.util.Objects;
+
+final class ChatPrompts {
+
+    private ChatPrompts() {
+    }
+
+    static List<ChatMessage> messages(LlmPrompt prompt) {
+        Objects.requireNonNull(prompt, "prompt must not be null");
+        if (prompt.user().isBlank()) {
+            throw new IllegalArgumentException("prompt must not be blank");
+        }
+        // The system message goes first and byte-identical across calls, so backends can reuse the cached prefix.
+        if (prompt.hasSystem()) {
+            return List.of(SystemMessage.from(prompt.system()), UserMessage.from(prompt.user()));
+        }
+        return List.of(UserMessage.from(prompt.user()));
+    }
+}
@@ -0,0 +1,36 @@
+package com.specforge.core.llm;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.output.Response;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+final class FutureResponseHandler implements StreamingResponseHandler<AiMessage> {
+
+    private final CompletableFuture<String> result;
+
+    FutureResponseHandler(CompletableFuture<String> result) {
+        this.result = result;
+    }
+
+    @Override
+    public void onNext(String token) {
+        if (result.isDone()) {
+            // Throwing from the token callback makes the client close the underlying stream.
+            throw new CancellationException("LLM response no longer needed");
+        }
+    }
+
+    @Override
+    public void onComplete(Response<AiMessage> response) {
+        AiMessage message = response == null ? null : response.content();
+        result.complete(message == null ? null : message.text());
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        result.completeExceptionally(error);
+    }
+}
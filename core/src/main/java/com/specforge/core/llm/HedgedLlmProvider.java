@@ -0,0 +1,148 @@
+package com.specforge.core.llm;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public class HedgedLlmProvider implements LlmProvider {
+
+    public static final Duration DEFAULT_HEDGE_DELAY = Duration.ofSeconds(2);
+
+    private final LlmProvider primary;
+    private final LlmProvider secondary;
+    private final Duration hedgeDelay;
+
+    public HedgedLlmProvider(LlmProvider primary, LlmProvider secondary) {
+        this(primary, secondary, DEFAULT_HEDGE_DELAY);
+    }
+
+    public HedgedLlmProvider(LlmProvider primary, LlmProvider secondary, Duration hedgeDelay) {
+        this.primary = Objects.requireNonNull(primary, "primary must not be null");
+        this.secondary = Objects.requireNonNull(secondary, "secondary must not be null");
+        this.hedgeDelay = hedgeDelay == null || hedgeDelay.isNegative() ? DEFAULT_HEDGE_DELAY : hedgeDelay;
+    }
+
+    @Override
+    public String generate(String prompt) {
+        return generate(LlmPrompt.of(prompt));
+    }
+
+    @Override
+    public String generate(LlmPrompt prompt) {
+        return LlmFutures.await(generateAsync(prompt, null));
+    }
+
+    @Override
+    public CompletionStage<String> generateAsync(String prompt, Duration deadline) {
+        return generateAsync(LlmPrompt.of(prompt), deadline);
+    }
+
+    @Override
+    public CompletionStage<String> generateAsync(LlmPrompt prompt, Duration deadline) {
+        long startNanos = System.nanoTime();
+        HedgedCall call = new HedgedCall(() -> secondary.generateAsync(prompt, remaining(deadline, startNanos)));
+        call.launch(() -> primary.generateAsync(prompt, deadline));
+        CompletableFuture.delayedExecutor(hedgeDelay.toMillis(), TimeUnit.MILLISECONDS)
+                .execute(call::launchHedge);
+        return LlmFutures.withDeadline(call.result, deadline);
+    }
+
+    @Override
+    public int maxConcurrency() {
+        // A hedged call can occupy a slot on both backends.
+        return Math.min(primary.maxConcurrency(), secondary.maxConcurrency());
+    }
+
+    @Override
+    public void close() {
+        primary.close();
+        secondary.close();
+    }
+
+    private static Duration remaining(Duration deadline, long startNanos) {
+        if (deadline == null) {
+            return null;
+        }
+        Duration left = deadline.minusNanos(System.nanoTime() - startNanos);
+        return left.isNegative() || left.isZero() ? Duration.ofMillis(1) : left;
+    }
+
+    private static final class HedgedCall {
+
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+        private final List<CompletableFuture<String>> attempts = new ArrayList<>();
+        private final Supplier<CompletionStage<String>> hedge;
+        private boolean hedgeLaunched;
+        private int failedAttempts;
+        private Throwable lastError;
+
+        private HedgedCall(Supplier<CompletionStage<String>> hedge) {
+            this.hedge = hedge;
+            // Whoever loses the race (or every attempt, on timeout) gets cancelled.
+            result.whenComplete((ignored, error) -> cancelAttempts());
+        }
+
+        private synchronized void launchHedge() {
+            if (hedgeLaunched || result.isDone()) {
+                return;
+            }
+            hedgeLaunched = true;
+            launch(hedge);
+        }
+
+        private synchronized void launch(Supplier<CompletionStage<String>> call) {
+            if (result.isDone()) {
+                return;
+            }
+
+            CompletableFuture<String> attempt;
+            try {
+                attempt = call.get().toCompletableFuture();
+            } catch (RuntimeException e) {
+                attempt = CompletableFuture.failedFuture(e);
+            }
+            attempts.add(attempt);
+            attempt.whenComplete(this::onAttemptCompleted);
+        }
+
+        private synchronized void onAttemptCompleted(String value, Throwable error) {
+            if (result.isDone()) {
+                return;
+            }
+            if (error == null && value != null && !value.isBlank()) {
+                result.complete(value);
+                return;
+            }
+
+            failedAttempts++;
+            lastError = error != null ? unwrap(error) : new IllegalStateException("LLM returned a blank response");
+            if (!hedgeLaunched) {
+                // No point waiting for the hedge delay once the primary has already failed.
+                launchHedge();
+            } else if (failedAttempts >= attempts.size()) {
+                result.completeExceptionally(lastError);
+            }
+        }
+
+        private void cancelAttempts() {
+            List<CompletableFuture<String>> snapshot;
+            synchronized (this) {
+                snapshot = List.copyOf(attempts);
+            }
+            snapshot.forEach(attempt -> attempt.cancel(true));
+        }
+
+        private static Throwable unwrap(Throwable error) {
+            if (error instanceof CompletionException && error.getCause() != null) {
+                return error.getCause();
+            }
+            return error;
+        }
+    }
+}
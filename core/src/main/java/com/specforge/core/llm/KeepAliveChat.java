@@ -0,0 +1,92 @@
+package com.specforge.core.llm;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/*
+ * Non-streaming Ollama /api/chat requests that carry keep_alive, which the langchain4j chat models do not send.
+ * Without it every call resets the model's residency to the server default (5m) and a slower batch pays the
+ * reload, losing the cached system prefix with it.
+ */
+final class KeepAliveChat implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final URI chatUri;
+    private final String modelName;
+    private final Integer numCtx;
+    private final Object keepAlive;
+
+    KeepAliveChat(String baseUrl, String modelName, Integer numCtx, String keepAlive) {
+        String normalizedBaseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.chatUri = URI.create(normalizedBaseUrl + "/api/chat");
+        this.modelName = modelName;
+        this.numCtx = numCtx;
+        // Ollama reads a bare number as seconds and anything else as a duration string ("30m", "-1").
+        this.keepAlive = keepAlive.matches("-?\\d+") ? Long.parseLong(keepAlive) : keepAlive;
+    }
+
+    CompletableFuture<String> send(LlmPrompt prompt) {
+        HttpRequest request = HttpRequest.newBuilder(chatUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body(prompt)))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenApply(this::content);
+    }
+
+    String body(LlmPrompt prompt) {
+        Objects.requireNonNull(prompt, "prompt must not be null");
+        if (prompt.user().isBlank()) {
+            throw new IllegalArgumentException("prompt must not be blank");
+        }
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("model", modelName);
+        ArrayNode messages = body.putArray("messages");
+        // Same layout as ChatPrompts: the system message first, byte-identical across calls.
+        if (prompt.hasSystem()) {
+            messages.addObject().put("role", "system").put("content", prompt.system());
+        }
+        messages.addObject().put("role", "user").put("content", prompt.user());
+        body.put("stream", false);
+        body.putPOJO("keep_alive", keepAlive);
+        if (numCtx != null) {
+            body.putObject("options").put("num_ctx", numCtx);
+        }
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to build Ollama chat request", e);
+        }
+    }
+
+    private String content(HttpResponse<String> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Ollama chat failed with HTTP " + response.statusCode() + ": "
+                    + response.body());
+        }
+        try {
+            JsonNode content = objectMapper.readTree(response.body()).path("message").path("content");
+            if (!content.isTextual()) {
+                throw new IllegalStateException("Ollama chat response has no message content");
+            }
+            return content.asText();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to parse Ollama chat response", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        httpClient.close();
+    }
+}
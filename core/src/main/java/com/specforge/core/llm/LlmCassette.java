@@ -0,0 +1,171 @@
+package com.specforge.core.llm;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Prompt to response recordings stored as JSON lines ({@code {"k":sha256,"r":response,"ms":latency}}),
+ * gzip-compressed when the file name ends with {@code .gz}.
+ */
+public final class LlmCassette implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, List<Entry>> entriesByKey = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> cursors = new ConcurrentHashMap<>();
+    private final Writer writer;
+    private boolean closed;
+
+    private LlmCassette(Writer writer) {
+        this.writer = writer;
+    }
+
+    public static LlmCassette openForRecording(Path file) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            OutputStream out = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            if (isGzip(file)) {
+                // Sync-flush after every entry so an interrupted run still leaves a readable cassette.
+                out = new GZIPOutputStream(out, true);
+            }
+            return new LlmCassette(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open LLM cassette for recording: " + file, e);
+        }
+    }
+
+    public static LlmCassette load(Path file) {
+        if (!Files.exists(file)) {
+            throw new IllegalArgumentException("LLM cassette not found: " + file);
+        }
+
+        LlmCassette cassette = new LlmCassette(null);
+        try (InputStream raw = Files.newInputStream(file);
+             InputStream in = isGzip(file) ? new GZIPInputStream(raw) : raw;
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = readLine(reader)) != null) {
+                if (!line.isBlank()) {
+                    cassette.addLine(line);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read LLM cassette: " + file, e);
+        }
+        return cassette;
+    }
+
+    public Optional<Entry> next(String prompt) {
+        String key = key(prompt);
+        List<Entry> entries = entriesByKey.get(key);
+        if (entries == null || entries.isEmpty()) {
+            return Optional.empty();
+        }
+        // Identical prompts replay their recorded responses in order, cycling when exhausted.
+        int index = cursors.computeIfAbsent(key, ignored -> new AtomicInteger()).getAndIncrement();
+        return Optional.of(entries.get(Math.floorMod(index, entries.size())));
+    }
+
+    public int size() {
+        return entriesByKey.values().stream().mapToInt(List::size).sum();
+    }
+
+    public synchronized void record(String prompt, String response, long latencyMillis) {
+        if (writer == null || closed || response == null) {
+            return;
+        }
+
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("k", key(prompt));
+        node.put("r", response);
+        node.put("ms", Math.max(0L, latencyMillis));
+        try {
+            writer.write(objectMapper.writeValueAsString(node));
+            writer.write('\n');
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write LLM cassette entry", e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to close LLM cassette", e);
+            }
+        }
+    }
+
+    static String key(String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((prompt == null ? "" : prompt).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private void addLine(String line) throws IOException {
+        JsonNode node = objectMapper.readTree(line);
+        if (node == null || !node.hasNonNull("k") || !node.hasNonNull("r")) {
+            return;
+        }
+        entriesByKey.computeIfAbsent(node.get("k").asText(), ignored -> new ArrayList<>())
+                .add(new Entry(node.get("r").asText(), node.path("ms").asLong(0L)));
+    }
+
+    private static String readLine(BufferedReader reader) throws IOException {
+        try {
+            return reader.readLine();
+        } catch (EOFException e) {
+            // A recording that was never closed ends without a gzip trailer; keep what was flushed.
+            return null;
+        }
+    }
+
+    private static boolean isGzip(Path file) {
+        Path fileName = file.getFileName();
+        return fileName != null && fileName.toString().toLowerCase(Locale.ROOT).endsWith(".gz");
+    }
+
+    public record Entry(String response, long latencyMillis) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.specforge.core.llm;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+final class LlmFutures {
+
+    private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("specforge-llm-", 0).factory()
+    );
+
+    private LlmFutures() {
+    }
+
+    static ExecutorService executor() {
+        return EXECUTOR;
+    }
+
+    static CompletableFuture<String> withDeadline(CompletableFuture<String> future, Duration deadline) {
+        if (deadline == null || deadline.isNegative() || deadline.isZero()) {
+            return future;
+        }
+        return future.orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    static String await(CompletionStage<String> stage) {
+        try {
+            return stage.toCompletableFuture().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for LLM response", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("LLM generation failed", cause);
+        }
+    }
+
+    static <P> List<String> joinAll(List<P> prompts,
+                                    Function<P, CompletionStage<String>> generator,
+                                    int maxConcurrency) {
+        if (prompts == null || prompts.isEmpty()) {
+            return List.of();
+        }
+
+        Semaphore permits = new Semaphore(Math.max(1, maxConcurrency));
+        List<CompletableFuture<String>> futures = new ArrayList<>(prompts.size());
+        try {
+            for (P prompt : prompts) {
+                permits.acquire();
+                CompletableFuture<String> future;
+                try {
+                    future = generator.apply(prompt).toCompletableFuture();
+                } catch (RuntimeException e) {
+                    future = CompletableFuture.failedFuture(e);
+                }
+                future.whenComplete((ignored, error) -> permits.release());
+                futures.add(future);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+        }
+
+        List<String> results = new ArrayList<>(prompts.size());
+        for (int i = 0; i < prompts.size(); i++) {
+            results.add(i < futures.size() ? futures.get(i).exceptionally(error -> null).join() : null);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,27 @@
+package com.specforge.core.llm;
+
+import java.util.Objects;
+
+/**
+ * A prompt split into a stable instruction prefix and the per-call input. Providers that support chat roles
+ * send {@link #system()} as a system message so the backend can reuse its cached prefill across calls.
+ */
+public record LlmPrompt(String system, String user) {
+
+    public LlmPrompt {
+        Objects.requireNonNull(user, "user must not be null");
+        system = system == null || system.isBlank() ? null : system;
+    }
+
+    public static LlmPrompt of(String user) {
+        return new LlmPrompt(null, user);
+    }
+
+    public boolean hasSystem() {
+        return system != null;
+    }
+
+    public String text() {
+        return hasSystem() ? system + "\n\n" + user : user;
+    }
+}
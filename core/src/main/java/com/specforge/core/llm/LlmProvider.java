@@ -1,6 +1,63 @@
 package com.specforge.core.llm;
 
-public interface LlmProvider {
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+
+public interface LlmProvider extends AutoCloseable {
 
     String generate(String prompt);
+
+    /**
+     * Completes with the generated text, or exceptionally with a {@link java.util.concurrent.TimeoutException}
+     * once {@code deadline} elapses. A {@code null} deadline waits indefinitely.
+     */
+    default CompletionStage<String> generateAsync(String prompt, Duration deadline) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        Future<?> task = LlmFutures.executor().submit(() -> {
+            try {
+                result.complete(generate(prompt));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        result.whenComplete((ignored, error) -> {
+            if (error != null) {
+                task.cancel(true);
+            }
+        });
+        return LlmFutures.withDeadline(result, deadline);
+    }
+
+    default String generate(LlmPrompt prompt) {
+        return generate(prompt.text());
+    }
+
+    /**
+     * Role-aware providers override this to send {@link LlmPrompt#system()} as a separate system message;
+     * the default flattens the prompt into a single text.
+     */
+    default CompletionStage<String> generateAsync(LlmPrompt prompt, Duration deadline) {
+        return generateAsync(prompt.text(), deadline);
+    }
+
+    /**
+     * How many calls {@link #generateAll} keeps in flight. Wrappers report the limit of the backend they call.
+     */
+    default int maxConcurrency() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns one response per prompt, in input order. Prompts that fail produce a {@code null} entry.
+     */
+    default List<String> generateAll(List<LlmPrompt> prompts) {
+        return LlmFutures.joinAll(prompts, prompt -> generateAsync(prompt, null), maxConcurrency());
+    }
+
+    @Override
+    default void close() {
+    }
 }
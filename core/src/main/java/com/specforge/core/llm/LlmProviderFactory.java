@@ -1,17 +1,66 @@
 package com.specforge.core.llm;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
 import java.util.Locale;
+import java.util.Map;
 
 public final class LlmProviderFactory {
 
     public static final String PROVIDER_OLLAMA = "OLLAMA";
     public static final String PROVIDER_OPENAI = "OPENAI";
 
+    public static final String CASSETTE_RECORD = "RECORD";
+    public static final String CASSETTE_REPLAY = "REPLAY";
+    public static final String DEFAULT_CASSETTE_FILE = ".specforge/llm-cassette.jsonl.gz";
+
+    // Local OpenAI-compatible servers usually ignore the key, but the client refuses a blank one.
+    private static final String PLACEHOLDER_API_KEY = "not-needed";
+
     private LlmProviderFactory() {
     }
 
     public static LlmProvider createFromConfig() {
-        return create(resolveProviderName());
+        String cassetteMode = resolveCassetteMode();
+        if (CASSETTE_REPLAY.equals(cassetteMode)) {
+            return createReplayFromConfig();
+        }
+
+        LlmProvider provider = withHedgingFromConfig(create(resolveProviderName()));
+        if (CASSETTE_RECORD.equals(cassetteMode)) {
+            return new RecordingLlmProvider(provider, resolveCassetteFile());
+        }
+        return provider;
+    }
+
+    public static LlmRouter createRouterFromConfig() {
+        String cassetteMode = resolveCassetteMode();
+        if (CASSETTE_REPLAY.equals(cassetteMode)) {
+            // Replays never touch a live backend, whatever the per-task routing says.
+            return LlmRouter.single(createReplayFromConfig());
+        }
+
+        LlmRouter router = createLiveRouterFromConfig();
+        if (CASSETTE_RECORD.equals(cassetteMode)) {
+            LlmCassette cassette = LlmCassette.openForRecording(resolveCassetteFile());
+            return router.map(provider -> new RecordingLlmProvider(provider, cassette));
+        }
+        return router;
+    }
+
+    private static LlmRouter createLiveRouterFromConfig() {
+        String defaultProviderName = resolveProviderName();
+        LlmProvider defaultProvider = withHedgingFromConfig(create(defaultProviderName));
+
+        Map<LlmTask, LlmProvider> routes = new EnumMap<>(LlmTask.class);
+        for (LlmTask task : LlmTask.values()) {
+            LlmProvider routed = createTaskProviderFromConfig(task, defaultProviderName, defaultProvider);
+            if (routed != null) {
+                routes.put(task, routed);
+            }
+        }
+        return new LlmRouter(defaultProvider, routes);
     }
 
     public static LlmProvider create(String providerName) {
@@ -19,12 +68,145 @@ public final class LlmProviderFactory {
         return switch (normalized) {
             case PROVIDER_OLLAMA -> new OllamaLlmProvider();
             case PROVIDER_OPENAI -> new OpenAiLlmProvider();
-            default -> throw new IllegalArgumentException(
-                    "Unsupported LLM provider: " + providerName + ". Supported values: OLLAMA, OPENAI"
+            default -> throw unsupportedProvider(providerName);
+        };
+    }
+
+    public static LlmProvider create(String providerName, String baseUrl, String modelName) {
+        String normalized = normalizeProviderName(providerName);
+        return switch (normalized) {
+            case PROVIDER_OLLAMA -> new OllamaLlmProvider(
+                    firstNonBlank(baseUrl, OllamaLlmProvider.resolveBaseUrl()),
+                    firstNonBlank(modelName, OllamaLlmProvider.resolveModelName())
             );
+            case PROVIDER_OPENAI -> new OpenAiLlmProvider(
+                    resolveOpenAiApiKey(baseUrl),
+                    firstNonBlank(modelName, OpenAiLlmProvider.resolveModelName()),
+                    firstNonBlank(baseUrl, OpenAiLlmProvider.resolveBaseUrl())
+            );
+            default -> throw unsupportedProvider(providerName);
         };
     }
 
+    public static LlmProvider withHedgingFromConfig(LlmProvider primary) {
+        String hedgeProvider = firstNonBlank(
+                System.getProperty("specforge.llm.hedge.provider"),
+                System.getenv("SPECFORGE_LLM_HEDGE_PROVIDER")
+        );
+        if (primary == null || hedgeProvider == null) {
+            return primary;
+        }
+
+        LlmProvider secondary = create(
+                hedgeProvider,
+                firstNonBlank(
+                        System.getProperty("specforge.llm.hedge.baseUrl"),
+                        System.getenv("SPECFORGE_LLM_HEDGE_BASE_URL")
+                ),
+                firstNonBlank(
+                        System.getProperty("specforge.llm.hedge.model"),
+                        System.getenv("SPECFORGE_LLM_HEDGE_MODEL")
+                )
+        );
+        return new HedgedLlmProvider(primary, secondary, resolveHedgeDelay());
+    }
+
+    private static LlmProvider createReplayFromConfig() {
+        String seed = firstNonBlank(
+                System.getProperty("specforge.llm.cassette.seed"),
+                System.getenv("SPECFORGE_LLM_CASSETTE_SEED")
+        );
+        SimulatedLatency latency = SimulatedLatency.parse(
+                firstNonBlank(
+                        System.getProperty("specforge.llm.cassette.latency"),
+                        System.getenv("SPECFORGE_LLM_CASSETTE_LATENCY")
+                ),
+                parseInt(seed, 42, "specforge.llm.cassette.seed")
+        );
+        return new ReplayLlmProvider(resolveCassetteFile(), latency);
+    }
+
+    private static String resolveCassetteMode() {
+        String configured = firstNonBlank(
+                System.getProperty("specforge.llm.cassette.mode"),
+                System.getenv("SPECFORGE_LLM_CASSETTE_MODE")
+        );
+        return configured == null ? "" : configured.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static Path resolveCassetteFile() {
+        return Path.of(firstNonBlank(
+                System.getProperty("specforge.llm.cassette.file"),
+                System.getenv("SPECFORGE_LLM_CASSETTE_FILE"),
+                DEFAULT_CASSETTE_FILE
+        ));
+    }
+
+    private static LlmProvider createTaskProviderFromConfig(LlmTask task,
+                                                            String defaultProviderName,
+                                                            LlmProvider defaultProvider) {
+        String providerName = taskSetting(task, "provider", "PROVIDER");
+        String baseUrl = taskSetting(task, "baseUrl", "BASE_URL");
+        String modelName = taskSetting(task, "model", "MODEL");
+        String maxConcurrency = taskSetting(task, "maxConcurrency", "MAX_CONCURRENCY");
+        String timeoutMs = taskSetting(task, "timeoutMs", "TIMEOUT_MS");
+        if (providerName == null && baseUrl == null && modelName == null
+                && maxConcurrency == null && timeoutMs == null) {
+            return null;
+        }
+
+        LlmProvider backend = providerName == null && baseUrl == null && modelName == null
+                ? defaultProvider
+                : create(providerName == null ? defaultProviderName : providerName, baseUrl, modelName);
+        return new TaskLimitedLlmProvider(
+                backend,
+                parseInt(maxConcurrency, 0, "specforge.llm.task." + task.propertyKey() + ".maxConcurrency"),
+                timeoutMs == null ? null : Duration.ofMillis(
+                        parseInt(timeoutMs, 0, "specforge.llm.task." + task.propertyKey() + ".timeoutMs"))
+        );
+    }
+
+    private static String taskSetting(LlmTask task, String propertySuffix, String envSuffix) {
+        return firstNonBlank(
+                System.getProperty("specforge.llm.task." + task.propertyKey() + "." + propertySuffix),
+                System.getenv("SPECFORGE_LLM_TASK_" + task.envKey() + "_" + envSuffix)
+        );
+    }
+
+    private static int parseInt(String raw, int fallback, String settingName) {
+        if (raw == null) {
+            return fallback;
+        }
+        try {
+            return Integer.parseInt(raw.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + settingName + ": " + raw, e);
+        }
+    }
+
+    private static Duration resolveHedgeDelay() {
+        String configured = firstNonBlank(
+                System.getProperty("specforge.llm.hedge.delayMs"),
+                System.getenv("SPECFORGE_LLM_HEDGE_DELAY_MS")
+        );
+        if (configured == null) {
+            return HedgedLlmProvider.DEFAULT_HEDGE_DELAY;
+        }
+        try {
+            return Duration.ofMillis(Math.max(0L, Long.parseLong(configured.trim())));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid hedge delay (ms): " + configured, e);
+        }
+    }
+
+    private static String resolveOpenAiApiKey(String baseUrl) {
+        String apiKey = OpenAiLlmProvider.resolveApiKey();
+        if (apiKey == null && baseUrl != null && !baseUrl.isBlank()) {
+            return PLACEHOLDER_API_KEY;
+        }
+        return apiKey;
+    }
+
     private static String resolveProviderName() {
         String configured = firstNonBlank(
                 System.getProperty("specforge.llm.provider"),
@@ -38,6 +220,12 @@ public final class LlmProviderFactory {
         return providerName == null ? "" : providerName.trim().toUpperCase(Locale.ROOT);
     }
 
+    private static IllegalArgumentException unsupportedProvider(String providerName) {
+        return new IllegalArgumentException(
+                "Unsupported LLM provider: " + providerName + ". Supported values: OLLAMA, OPENAI"
+        );
+    }
+
     private static String firstNonBlank(String... candidates) {
         for (String candidate : candidates) {
             if (candidate != null && !candidate.isBlank()) {
@@ -0,0 +1,89 @@
+package com.specforge.core.llm;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+public final class LlmRouter implements AutoCloseable {
+
+    private final LlmProvider defaultProvider;
+    private final Map<LlmTask, LlmProvider> routes;
+    private final TimeBudget timeBudget;
+    private final Map<LlmTask, LlmProvider> budgeted = new EnumMap<>(LlmTask.class);
+
+    public LlmRouter(LlmProvider defaultProvider, Map<LlmTask, LlmProvider> routes) {
+        this(defaultProvider, routes, TimeBudget.UNLIMITED);
+    }
+
+    private LlmRouter(LlmProvider defaultProvider, Map<LlmTask, LlmProvider> routes, TimeBudget timeBudget) {
+        this.defaultProvider = defaultProvider;
+        this.timeBudget = timeBudget;
+        EnumMap<LlmTask, LlmProvider> copy = new EnumMap<>(LlmTask.class);
+        if (routes != null) {
+            routes.forEach((task, provider) -> {
+                if (task != null && provider != null) {
+                    copy.put(task, provider);
+                }
+            });
+        }
+        this.routes = Collections.unmodifiableMap(copy);
+        if (timeBudget.isLimited()) {
+            for (LlmTask task : LlmTask.values()) {
+                LlmProvider provider = resolve(task);
+                if (provider != null) {
+                    budgeted.put(task, new TimeBudgetedLlmProvider(provider, timeBudget, task));
+                }
+            }
+        }
+    }
+
+    public static LlmRouter single(LlmProvider provider) {
+        return new LlmRouter(provider, Map.of());
+    }
+
+    public LlmProvider forTask(LlmTask task) {
+        LlmProvider limited = task == null ? null : budgeted.get(task);
+        return limited != null ? limited : resolve(task);
+    }
+
+    // Same routes, but every task's calls are gated by the shared deadline; close() still closes the raw providers.
+    public LlmRouter withTimeBudget(TimeBudget timeBudget) {
+        return new LlmRouter(defaultProvider, routes, timeBudget != null ? timeBudget : TimeBudget.UNLIMITED);
+    }
+
+    public TimeBudget timeBudget() {
+        return timeBudget;
+    }
+
+    private LlmProvider resolve(LlmTask task) {
+        LlmProvider routed = task == null ? null : routes.get(task);
+        return routed != null ? routed : defaultProvider;
+    }
+
+    public boolean hasDedicatedRoute(LlmTask task) {
+        return task != null && routes.containsKey(task);
+    }
+
+    public LlmProvider defaultProvider() {
+        return defaultProvider;
+    }
+
+    public LlmRouter map(UnaryOperator<LlmProvider> decorator) {
+        Map<LlmTask, LlmProvider> decorated = new EnumMap<>(LlmTask.class);
+        routes.forEach((task, provider) -> decorated.put(task, decorator.apply(provider)));
+        return new LlmRouter(defaultProvider == null ? null : decorator.apply(defaultProvider), decorated, timeBudget);
+    }
+
+    @Override
+    public void close() {
+        Set<LlmProvider> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (defaultProvider != null) {
+            distinct.add(defaultProvider);
+        }
+        distinct.addAll(routes.values());
+        distinct.forEach(LlmProvider::close);
+    }
+}
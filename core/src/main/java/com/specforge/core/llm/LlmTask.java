@@ -0,0 +1,24 @@
+package com.specforge.core.llm;
+
+public enum LlmTask {
+    SCENARIO_PLANNING("planner", "PLANNER"),
+    PAYLOAD("payload", "PAYLOAD"),
+    METHOD_BODY("methodBody", "METHOD_BODY"),
+    COMPILE_FIX("compileFix", "COMPILE_FIX");
+
+    private final String propertyKey;
+    private final String envKey;
+
+    LlmTask(String propertyKey, String envKey) {
+        this.propertyKey = propertyKey;
+        this.envKey = envKey;
+    }
+
+    public String propertyKey() {
+        return propertyKey;
+    }
+
+    public String envKey() {
+        return envKey;
+    }
+}
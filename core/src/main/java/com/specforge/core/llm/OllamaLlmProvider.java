@@ -1,38 +1,111 @@
 package com.specforge.core.llm;
 
 import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
 import dev.langchain4j.model.ollama.OllamaChatModel;
+import dev.langchain4j.model.ollama.OllamaStreamingChatModel;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 public class OllamaLlmProvider implements LlmProvider {
 
     public static final String DEFAULT_BASE_URL = "http://localhost:11434";
     public static final String DEFAULT_MODEL = "kimi-k2.5:cloud";
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
 
     private final ChatLanguageModel chatModel;
+    private final StreamingChatLanguageModel streamingChatModel;
+    private final int maxConcurrency;
+    private final KeepAliveChat keepAliveChat;
 
     public OllamaLlmProvider() {
         this(resolveBaseUrl(), resolveModelName());
     }
 
     public OllamaLlmProvider(String baseUrl, String modelName) {
+        this(baseUrl, modelName, resolveMaxConcurrency());
+    }
+
+    public OllamaLlmProvider(String baseUrl, String modelName, int maxConcurrency) {
+        this(baseUrl, modelName, maxConcurrency, resolveNumCtx(), resolveKeepAlive());
+    }
+
+    public OllamaLlmProvider(String baseUrl,
+                             String modelName,
+                             int maxConcurrency,
+                             Integer numCtx,
+                             String keepAlive) {
         String resolvedBaseUrl = requireNonBlank(baseUrl, "baseUrl");
         String resolvedModelName = requireNonBlank(modelName, "modelName");
 
+        // A fixed num_ctx keeps Ollama from reloading the model (and dropping its prompt cache) between calls.
         this.chatModel = OllamaChatModel.builder()
                 .baseUrl(resolvedBaseUrl)
                 .modelName(resolvedModelName)
+                .numCtx(numCtx)
+                .build();
+        this.streamingChatModel = OllamaStreamingChatModel.builder()
+                .baseUrl(resolvedBaseUrl)
+                .modelName(resolvedModelName)
+                .numCtx(numCtx)
                 .build();
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        // langchain4j 0.35 cannot set keep_alive, so a configured window is sent on chat requests of our own.
+        this.keepAliveChat = keepAlive == null || keepAlive.isBlank()
+                ? null
+                : new KeepAliveChat(resolvedBaseUrl, resolvedModelName, numCtx, keepAlive.trim());
     }
 
     @Override
     public String generate(String prompt) {
-        String sanitizedPrompt = requireNonBlank(prompt, "prompt");
-        return chatModel.generate(sanitizedPrompt);
+        return generate(LlmPrompt.of(requireNonBlank(prompt, "prompt")));
+    }
+
+    @Override
+    public String generate(LlmPrompt prompt) {
+        if (keepAliveChat != null) {
+            return LlmFutures.await(keepAliveChat.send(prompt));
+        }
+        return chatModel.generate(ChatPrompts.messages(prompt)).content().text();
+    }
+
+    @Override
+    public CompletionStage<String> generateAsync(String prompt, Duration deadline) {
+        return generateAsync(LlmPrompt.of(requireNonBlank(prompt, "prompt")), deadline);
+    }
+
+    @Override
+    public CompletionStage<String> generateAsync(LlmPrompt prompt, Duration deadline) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        try {
+            if (keepAliveChat != null) {
+                result = keepAliveChat.send(prompt);
+            } else {
+                streamingChatModel.generate(ChatPrompts.messages(prompt), new FutureResponseHandler(result));
+            }
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+        return LlmFutures.withDeadline(result, deadline);
+    }
+
+    @Override
+    public int maxConcurrency() {
+        // Ollama serves a handful of requests in parallel (OLLAMA_NUM_PARALLEL); queue the rest locally.
+        return maxConcurrency;
+    }
+
+    @Override
+    public void close() {
+        if (keepAliveChat != null) {
+            keepAliveChat.close();
+        }
     }
 
-    private static String resolveBaseUrl() {
+    static String resolveBaseUrl() {
         return firstNonBlank(
                 System.getProperty("specforge.llm.ollama.baseUrl"),
                 System.getenv("SPECFORGE_OLLAMA_BASE_URL"),
@@ -40,7 +113,7 @@ public class OllamaLlmProvider implements LlmProvider {
         );
     }
 
-    private static String resolveModelName() {
+    static String resolveModelName() {
         return firstNonBlank(
                 System.getProperty("specforge.llm.ollama.model"),
                 System.getenv("SPECFORGE_OLLAMA_MODEL"),
@@ -48,6 +121,42 @@ public class OllamaLlmProvider implements LlmProvider {
         );
     }
 
+    private static int resolveMaxConcurrency() {
+        String configured = firstNonBlank(
+                System.getProperty("specforge.llm.ollama.maxConcurrency"),
+                System.getenv("SPECFORGE_OLLAMA_MAX_CONCURRENCY")
+        );
+        return parsePositiveInt(configured, DEFAULT_MAX_CONCURRENCY);
+    }
+
+    private static Integer resolveNumCtx() {
+        String configured = firstNonBlank(
+                System.getProperty("specforge.llm.ollama.numCtx"),
+                System.getenv("SPECFORGE_OLLAMA_NUM_CTX")
+        );
+        int numCtx = parsePositiveInt(configured, 0);
+        return numCtx > 0 ? numCtx : null;
+    }
+
+    private static String resolveKeepAlive() {
+        return firstNonBlank(
+                System.getProperty("specforge.llm.ollama.keepAlive"),
+                System.getenv("SPECFORGE_OLLAMA_KEEP_ALIVE")
+        );
+    }
+
+    private static int parsePositiveInt(String raw, int fallback) {
+        if (raw == null) {
+            return fallback;
+        }
+        try {
+            int value = Integer.parseInt(raw.trim());
+            return value > 0 ? value : fallback;
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
     private static String firstNonBlank(String... candidates) {
         for (String candidate : candidates) {
             if (candidate != null && !candidate.isBlank()) {
@@ -1,42 +1,85 @@
 package com.specforge.core.llm;
 
 import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
 import dev.langchain4j.model.openai.OpenAiChatModel;
+import dev.langchain4j.model.openai.OpenAiStreamingChatModel;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 public class OpenAiLlmProvider implements LlmProvider {
 
     public static final String DEFAULT_MODEL = "gpt-4o-mini";
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
 
     private final ChatLanguageModel chatModel;
+    private final StreamingChatLanguageModel streamingChatModel;
+    private final int maxConcurrency;
 
     public OpenAiLlmProvider() {
         this(resolveApiKey(), resolveModelName(), resolveBaseUrl());
     }
 
     public OpenAiLlmProvider(String apiKey, String modelName, String baseUrl) {
+        this(apiKey, modelName, baseUrl, resolveMaxConcurrency());
+    }
+
+    public OpenAiLlmProvider(String apiKey, String modelName, String baseUrl, int maxConcurrency) {
         String resolvedApiKey = requireNonBlank(apiKey, "apiKey");
         String resolvedModelName = requireNonBlank(modelName, "modelName");
 
         OpenAiChatModel.OpenAiChatModelBuilder builder = OpenAiChatModel.builder()
                 .apiKey(resolvedApiKey)
                 .modelName(resolvedModelName);
+        OpenAiStreamingChatModel.OpenAiStreamingChatModelBuilder streamingBuilder = OpenAiStreamingChatModel.builder()
+                .apiKey(resolvedApiKey)
+                .modelName(resolvedModelName);
 
         if (baseUrl != null && !baseUrl.isBlank()) {
             builder.baseUrl(baseUrl);
+            streamingBuilder.baseUrl(baseUrl);
         }
 
         this.chatModel = builder.build();
+        this.streamingChatModel = streamingBuilder.build();
+        this.maxConcurrency = Math.max(1, maxConcurrency);
     }
 
     @Override
     public String generate(String prompt) {
-        String sanitizedPrompt = requireNonBlank(prompt, "prompt");
-        return chatModel.generate(sanitizedPrompt);
+        return generate(LlmPrompt.of(requireNonBlank(prompt, "prompt")));
+    }
+
+    @Override
+    public String generate(LlmPrompt prompt) {
+        return chatModel.generate(ChatPrompts.messages(prompt)).content().text();
+    }
+
+    @Override
+    public CompletionStage<String> generateAsync(String prompt, Duration deadline) {
+        return generateAsync(LlmPrompt.of(requireNonBlank(prompt, "prompt")), deadline);
+    }
+
+    @Override
+    public CompletionStage<String> generateAsync(LlmPrompt prompt, Duration deadline) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        try {
+            streamingChatModel.generate(ChatPrompts.messages(prompt), new FutureResponseHandler(result));
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+        return LlmFutures.withDeadline(result, deadline);
+    }
+
+    @Override
+    public int maxConcurrency() {
+        return maxConcurrency;
     }
 
-    private static String resolveApiKey() {
+    static String resolveApiKey() {
         return firstNonBlank(
                 System.getProperty("specforge.llm.openai.apiKey"),
                 System.getenv("OPENAI_API_KEY"),
@@ -44,7 +87,7 @@ public class OpenAiLlmProvider implements LlmProvider {
         );
     }
 
-    private static String resolveModelName() {
+    static String resolveModelName() {
         return firstNonBlank(
                 System.getProperty("specforge.llm.openai.model"),
                 System.getenv("SPECFORGE_OPENAI_MODEL"),
@@ -52,7 +95,7 @@ public class OpenAiLlmProvider implements LlmProvider {
         );
     }
 
-    private static String resolveBaseUrl() {
+    static String resolveBaseUrl() {
         return firstNonBlank(
                 System.getProperty("specforge.llm.openai.baseUrl"),
                 System.getenv("OPENAI_BASE_URL"),
@@ -60,6 +103,26 @@ public class OpenAiLlmProvider implements LlmProvider {
         );
     }
 
+    private static int resolveMaxConcurrency() {
+        String configured = firstNonBlank(
+                System.getProperty("specforge.llm.openai.maxConcurrency"),
+                System.getenv("SPECFORGE_OPENAI_MAX_CONCURRENCY")
+        );
+        return parsePositiveInt(configured, DEFAULT_MAX_CONCURRENCY);
+    }
+
+    private static int parsePositiveInt(String raw, int fallback) {
+        if (raw == null) {
+            return fallback;
+        }
+        try {
+            int value = Integer.parseInt(raw.trim());
+            return value > 0 ? value : fallback;
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
     private static String firstNonBlank(String... candidates) {
         for (String candidate : candidates) {
             if (candidate != null && !candidate.isBlank()) {
@@ -0,0 +1,65 @@
+package com.specforge.core.llm;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+
+public class RecordingLlmProvider implements LlmProvider {
+
+    private final LlmProvider delegate;
+    private final LlmCassette cassette;
+
+    public RecordingLlmProvider(LlmProvider delegate, Path cassetteFile) {
+        this(delegate, LlmCassette.openForRecording(cassetteFile));
+    }
+
+    public RecordingLlmProvider(LlmProvider delegate, LlmCassette cassette) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.cassette = Objects.requireNonNull(cassette, "cassette must not be null");
+    }
+
+    @Override
+    public String generate(String prompt) {
+        return generate(LlmPrompt.of(prompt));
+    }
+
+    @Override
+    public String generate(LlmPrompt prompt) {
+        long startNanos = System.nanoTime();
+        String response = delegate.generate(prompt);
+        cassette.record(prompt.text(), response, elapsedMillis(startNanos));
+        return response;
+    }
+
+    @Override
+    public CompletionStage<String> generateAsync(String prompt, Duration deadline) {
+        return generateAsync(LlmPrompt.of(prompt), deadline);
+    }
+
+    @Override
+    public CompletionStage<String> generateAsync(LlmPrompt prompt, Duration deadline) {
+        long startNanos = System.nanoTime();
+        // Cassettes key on the flattened text, so replays match whether or not the prompt was split.
+        return delegate.generateAsync(prompt, deadline).whenComplete((response, error) -> {
+            if (error == null) {
+                cassette.record(prompt.text(), response, elapsedMillis(startNanos));
+            }
+        });
+    }
+
+    @Override
+    public int maxConcurrency() {
+        return delegate.maxConcurrency();
+    }
+
+    @Override
+    public void close() {
+        cassette.close();
+        delegate.close();
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+    }
+}
@@ -0,0 +1,71 @@
+package com.specforge.core.llm;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+public class ReplayLlmProvider implements LlmProvider {
+
+    private final LlmCassette cassette;
+    private final SimulatedLatency latency;
+
+    public ReplayLlmProvider(Path cassetteFile) {
+        this(LlmCassette.load(cassetteFile), SimulatedLatency.none());
+    }
+
+    public ReplayLlmProvider(Path cassetteFile, SimulatedLatency latency) {
+        this(LlmCassette.load(cassetteFile), latency);
+    }
+
+    public ReplayLlmProvider(LlmCassette cassette, SimulatedLatency latency) {
+        this.cassette = Objects.requireNonNull(cassette, "cassette must not be null");
+        this.latency = latency != null ? latency : SimulatedLatency.none();
+    }
+
+    @Override
+    public String generate(String prompt) {
+        LlmCassette.Entry entry = lookup(prompt);
+        Duration delay = latency.sample(entry.latencyMillis());
+        if (!delay.isZero()) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while replaying LLM response", e);
+            }
+        }
+        return entry.response();
+    }
+
+    @Override
+    public CompletionStage<String> generateAsync(String prompt, Duration deadline) {
+        LlmCassette.Entry entry;
+        try {
+            entry = lookup(prompt);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        // Simulated latency is served from a timer instead of a sleeping thread so replays scale like real I/O.
+        Duration delay = latency.sample(entry.latencyMillis());
+        CompletableFuture<String> result = CompletableFuture.supplyAsync(
+                entry::response,
+                CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS)
+        );
+        return LlmFutures.withDeadline(result, deadline);
+    }
+
+    @Override
+    public void close() {
+        cassette.close();
+    }
+
+    private LlmCassette.Entry lookup(String prompt) {
+        return cassette.next(prompt).orElseThrow(() -> new IllegalStateException(
+                "No recorded LLM response for prompt (sha256=" + LlmCassette.key(prompt) + ")"
+        ));
+    }
+}
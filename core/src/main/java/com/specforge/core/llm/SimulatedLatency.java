@@ -0,0 +1,107 @@
+package com.specforge.core.llm;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Random;
+
+public final class SimulatedLatency {
+
+    private enum Kind {
+        NONE,
+        RECORDED,
+        FIXED,
+        UNIFORM,
+        LOG_NORMAL
+    }
+
+    private final Kind kind;
+    private final long firstMillis;
+    private final long secondMillis;
+    private final double sigma;
+    private final Random random;
+
+    private SimulatedLatency(Kind kind, long firstMillis, long secondMillis, double sigma, long seed) {
+        this.kind = kind;
+        this.firstMillis = Math.max(0L, firstMillis);
+        this.secondMillis = Math.max(0L, secondMillis);
+        this.sigma = Math.max(0.0, sigma);
+        this.random = new Random(seed);
+    }
+
+    public static SimulatedLatency none() {
+        return new SimulatedLatency(Kind.NONE, 0, 0, 0, 0);
+    }
+
+    public static SimulatedLatency recorded() {
+        return new SimulatedLatency(Kind.RECORDED, 0, 0, 0, 0);
+    }
+
+    public static SimulatedLatency fixed(Duration latency) {
+        return new SimulatedLatency(Kind.FIXED, latency.toMillis(), 0, 0, 0);
+    }
+
+    public static SimulatedLatency uniform(Duration min, Duration max, long seed) {
+        long low = Math.min(min.toMillis(), max.toMillis());
+        long high = Math.max(min.toMillis(), max.toMillis());
+        return new SimulatedLatency(Kind.UNIFORM, low, high, 0, seed);
+    }
+
+    public static SimulatedLatency logNormal(Duration median, double sigma, long seed) {
+        return new SimulatedLatency(Kind.LOG_NORMAL, median.toMillis(), 0, sigma, seed);
+    }
+
+    /**
+     * Parses {@code none}, {@code recorded}, {@code fixed:<ms>}, {@code uniform:<minMs>-<maxMs>}
+     * or {@code lognormal:<medianMs>:<sigma>}.
+     */
+    public static SimulatedLatency parse(String spec, long seed) {
+        if (spec == null || spec.isBlank()) {
+            return none();
+        }
+
+        String normalized = spec.trim().toLowerCase(Locale.ROOT);
+        String[] parts = normalized.split(":");
+        try {
+            return switch (parts[0]) {
+                case "none" -> none();
+                case "recorded" -> recorded();
+                case "fixed" -> fixed(Duration.ofMillis(Long.parseLong(parts[1])));
+                case "uniform" -> {
+                    String[] bounds = parts[1].split("-");
+                    yield uniform(
+                            Duration.ofMillis(Long.parseLong(bounds[0])),
+                            Duration.ofMillis(Long.parseLong(bounds[1])),
+                            seed
+                    );
+                }
+                case "lognormal" -> logNormal(
+                        Duration.ofMillis(Long.parseLong(parts[1])),
+                        parts.length > 2 ? Double.parseDouble(parts[2]) : 0.5,
+                        seed
+                );
+                default -> throw new IllegalArgumentException("Unknown latency profile: " + spec);
+            };
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid latency profile: " + spec, e);
+        }
+    }
+
+    public Duration sample(long recordedMillis) {
+        long millis = switch (kind) {
+            case NONE -> 0L;
+            case RECORDED -> Math.max(0L, recordedMillis);
+            case FIXED -> firstMillis;
+            case UNIFORM -> firstMillis + nextLong(secondMillis - firstMillis + 1);
+            case LOG_NORMAL -> Math.round(firstMillis * Math.exp(sigma * nextGaussian()));
+        };
+        return Duration.ofMillis(millis);
+    }
+
+    private synchronized long nextLong(long bound) {
+        return bound <= 1 ? 0L : random.nextLong(bound);
+    }
+
+    private synchronized double nextGaussian() {
+        return random.nextGaussian();
+    }
+}
@@ -0,0 +1,88 @@
+package com.specforge.core.llm;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+final class TaskLimitedLlmProvider implements LlmProvider {
+
+    private final LlmProvider delegate;
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final Duration timeout;
+
+    TaskLimitedLlmProvider(LlmProvider delegate, int maxConcurrency, Duration timeout) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.maxConcurrency = maxConcurrency;
+        this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency, true) : null;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public String generate(String prompt) {
+        return generate(LlmPrompt.of(prompt));
+    }
+
+    @Override
+    public String generate(LlmPrompt prompt) {
+        return LlmFutures.await(generateAsync(prompt, null));
+    }
+
+    @Override
+    public CompletionStage<String> generateAsync(String prompt, Duration deadline) {
+        return generateAsync(LlmPrompt.of(prompt), deadline);
+    }
+
+    @Override
+    public CompletionStage<String> generateAsync(LlmPrompt prompt, Duration deadline) {
+        // The route's own timeout replaces the caller's default; a time budget still bounds the call from outside.
+        Duration effectiveDeadline = timeout != null && timeout.isPositive() ? timeout : deadline;
+        if (permits == null) {
+            return delegate.generateAsync(prompt, effectiveDeadline);
+        }
+
+        CompletableFuture<String> result = new CompletableFuture<>();
+        Future<?> task = LlmFutures.executor().submit(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            try {
+                // The deadline starts once a slot is free, so queueing behind the limit does not eat into it.
+                CompletableFuture<String> call = delegate.generateAsync(prompt, effectiveDeadline).toCompletableFuture();
+                result.whenComplete((ignored, error) -> call.cancel(true));
+                result.complete(call.get());
+            } catch (ExecutionException e) {
+                result.completeExceptionally(e.getCause());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                permits.release();
+            }
+        });
+        result.whenComplete((ignored, error) -> {
+            if (error != null) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public int maxConcurrency() {
+        return permits == null
+                ? delegate.maxConcurrency()
+                : Math.min(maxConcurrency, delegate.maxConcurrency());
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
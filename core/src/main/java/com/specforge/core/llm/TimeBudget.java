@@ -0,0 +1,108 @@
+package com.specforge.core.llm;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Overall deadline for a generation run. Each LLM task may only start while more than its reserved share of the
+ * budget is left, and its call is cut off when it would eat into that reserve. Planning keeps the biggest reserve and
+ * compile fixes the smallest, so as time drains the pipeline falls back to deterministic output stage by stage.
+ */
+public final class TimeBudget {
+
+    public static final TimeBudget UNLIMITED = new TimeBudget(null, System::nanoTime);
+
+    private static final Map<LlmTask, Double> RESERVED_SHARE = new EnumMap<>(Map.of(
+            LlmTask.SCENARIO_PLANNING, 0.50,
+            LlmTask.PAYLOAD, 0.40,
+            LlmTask.METHOD_BODY, 0.25,
+            LlmTask.COMPILE_FIX, 0.05
+    ));
+
+    private final Duration total;
+    private final LongSupplier clock;
+    private volatile long startNanos;
+
+    TimeBudget(Duration total, LongSupplier clock) {
+        this.total = total;
+        this.clock = clock;
+        this.startNanos = clock.getAsLong();
+    }
+
+    public static TimeBudget of(Duration total) {
+        if (total == null || total.isNegative() || total.isZero()) {
+            throw new IllegalArgumentException("Time budget must be positive: " + total);
+        }
+        return new TimeBudget(total, System::nanoTime);
+    }
+
+    // Accepts "90s", "15m", "1h", "500ms", ISO-8601 ("PT10M") or a bare number of seconds.
+    public static TimeBudget parse(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return UNLIMITED;
+        }
+        String value = raw.trim().toLowerCase(Locale.ROOT);
+        try {
+            if (value.startsWith("pt")) {
+                return of(Duration.parse(value.toUpperCase(Locale.ROOT)));
+            }
+            if (value.endsWith("ms")) {
+                return of(Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2).trim())));
+            }
+            long amount = Long.parseLong(value.replaceAll("[smh]$", "").trim());
+            return switch (value.charAt(value.length() - 1)) {
+                case 'h' -> of(Duration.ofHours(amount));
+                case 'm' -> of(Duration.ofMinutes(amount));
+                default -> of(Duration.ofSeconds(amount));
+            };
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid time budget: " + raw + " (use e.g. 90s, 15m, 1h)", e);
+        }
+    }
+
+    public boolean isLimited() {
+        return total != null;
+    }
+
+    // Starts the clock again, e.g. for every regeneration in --watch mode.
+    public void restart() {
+        startNanos = clock.getAsLong();
+    }
+
+    public Duration remaining() {
+        if (total == null) {
+            return null;
+        }
+        Duration left = total.minusNanos(clock.getAsLong() - startNanos);
+        return left.isNegative() ? Duration.ZERO : left;
+    }
+
+    public boolean isExhausted() {
+        return total != null && remaining().isZero();
+    }
+
+    public boolean allows(LlmTask task) {
+        return total == null || available(task).compareTo(Duration.ZERO) > 0;
+    }
+
+    // The tighter of the caller's timeout and the time this task may still use; null means "no limit".
+    public Duration capTimeout(LlmTask task, Duration timeout) {
+        if (total == null) {
+            return timeout;
+        }
+        Duration available = available(task);
+        if (timeout == null || timeout.isZero() || timeout.isNegative()) {
+            return available;
+        }
+        return timeout.compareTo(available) <= 0 ? timeout : available;
+    }
+
+    private Duration available(LlmTask task) {
+        double share = task == null ? 0.0 : RESERVED_SHARE.getOrDefault(task, 0.0);
+        return remaining().minusNanos((long) (total.toNanos() * share));
+    }
+}
@@ -0,0 +1,65 @@
+package com.specforge.core.llm;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+final class TimeBudgetedLlmProvider implements LlmProvider {
+
+    private final LlmProvider delegate;
+    private final TimeBudget timeBudget;
+    private final LlmTask task;
+
+    TimeBudgetedLlmProvider(LlmProvider delegate, TimeBudget timeBudget, LlmTask task) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.timeBudget = Objects.requireNonNull(timeBudget, "timeBudget must not be null");
+        this.task = task;
+    }
+
+    @Override
+    public String generate(String prompt) {
+        return generate(LlmPrompt.of(prompt));
+    }
+
+    @Override
+    public String generate(LlmPrompt prompt) {
+        return LlmFutures.await(generateAsync(prompt, null));
+    }
+
+    @Override
+    public CompletionStage<String> generateAsync(String prompt, Duration deadline) {
+        return generateAsync(LlmPrompt.of(prompt), deadline);
+    }
+
+    @Override
+    public CompletionStage<String> generateAsync(LlmPrompt prompt, Duration deadline) {
+        // Callers already treat timeouts as "use the deterministic fallback", so a drained budget looks the same.
+        if (!timeBudget.allows(task)) {
+            return CompletableFuture.failedFuture(new TimeoutException("Time budget exhausted for " + task));
+        }
+        CompletableFuture<String> call = delegate.generateAsync(prompt, timeBudget.capTimeout(task, deadline))
+                .toCompletableFuture();
+        // A route with a timeout of its own replaces the deadline passed down, so the budget is enforced here too.
+        CompletableFuture<String> bounded = call.copy()
+                .orTimeout(timeBudget.capTimeout(task, null).toMillis(), TimeUnit.MILLISECONDS);
+        bounded.whenComplete((ignored, error) -> {
+            if (error != null) {
+                call.cancel(true);
+            }
+        });
+        return bounded;
+    }
+
+    @Override
+    public int maxConcurrency() {
+        return delegate.maxConcurrency();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
@@ -1,6 +1,7 @@
 package com.specforge.core.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -8,33 +9,32 @@ import java.util.Map;
 public class ContextModel {
 
     private Map<String, List<String>> rulesByEndpointPath = new LinkedHashMap<>();
+    private Map<String, List<String>> rulesBySection = new LinkedHashMap<>();
+    private volatile PathTemplateTrie pathTrie;
 
+    // Read-only: rules go through addRule so the path lookup is rebuilt.
     public Map<String, List<String>> getRulesByEndpointPath() {
-        return rulesByEndpointPath;
+        return Collections.unmodifiableMap(rulesByEndpointPath);
     }
 
     public void setRulesByEndpointPath(Map<String, List<String>> rulesByEndpointPath) {
         this.rulesByEndpointPath = rulesByEndpointPath == null ? new LinkedHashMap<>() : rulesByEndpointPath;
+        this.pathTrie = null;
+    }
+
+    public Map<String, List<String>> getRulesBySection() {
+        return rulesBySection;
+    }
+
+    public void setRulesBySection(Map<String, List<String>> rulesBySection) {
+        this.rulesBySection = rulesBySection == null ? new LinkedHashMap<>() : rulesBySection;
     }
 
     public List<String> getRulesForPath(String path) {
         if (path == null || path.isBlank() || rulesByEndpointPath.isEmpty()) {
             return List.of();
         }
-
-        List<String> direct = rulesByEndpointPath.get(path);
-        if (direct != null && !direct.isEmpty()) {
-            return List.copyOf(direct);
-        }
-
-        String normalized = normalizePath(path);
-        for (Map.Entry<String, List<String>> entry : rulesByEndpointPath.entrySet()) {
-            if (normalizePath(entry.getKey()).equals(normalized)) {
-                return List.copyOf(entry.getValue());
-            }
-        }
-
-        return List.of();
+        return pathTrie().match(path);
     }
 
     public void addRule(String endpointPath, String rule) {
@@ -45,16 +45,26 @@ public class ContextModel {
         rulesByEndpointPath
                 .computeIfAbsent(endpointPath.trim(), ignored -> new ArrayList<>())
                 .add(rule.trim());
+        pathTrie = null;
     }
 
-    private String normalizePath(String path) {
-        if (path == null) {
-            return "";
+    public void addSectionRule(String section, String rule) {
+        if (section == null || section.isBlank() || rule == null || rule.isBlank()) {
+            return;
         }
-        String trimmed = path.trim();
-        if (trimmed.length() > 1 && trimmed.endsWith("/")) {
-            return trimmed.substring(0, trimmed.length() - 1);
+
+        rulesBySection
+                .computeIfAbsent(section.trim(), ignored -> new ArrayList<>())
+                .add(rule.trim());
+    }
+
+    private PathTemplateTrie pathTrie() {
+        PathTemplateTrie trie = pathTrie;
+        if (trie == null) {
+            // Built once and shared read-only; concurrent first lookups may race to build identical tries.
+            trie = PathTemplateTrie.build(rulesByEndpointPath);
+            pathTrie = trie;
         }
-        return trimmed;
+        return trie;
     }
 }
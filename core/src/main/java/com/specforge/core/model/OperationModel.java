@@ -17,6 +17,7 @@ public class OperationModel {
     private List<String> businessRules = new ArrayList<>();
     private List<ParamModel> params = new ArrayList<>();
     private List<TestCaseModel> testCases = new ArrayList<>();
+    private List<ResourceLinkModel> resourceLinks = new ArrayList<>();
 
     public String getOperationId() { return operationId; }
     public void setOperationId(String operationId) { this.operationId = operationId; }
@@ -50,4 +51,7 @@ public class OperationModel {
 
     public List<TestCaseModel> getTestCases() { return testCases; }
     public void setTestCases(List<TestCaseModel> testCases) { this.testCases = testCases; }
+
+    public List<ResourceLinkModel> getResourceLinks() { return resourceLinks; }
+    public void setResourceLinks(List<ResourceLinkModel> resourceLinks) { this.resourceLinks = resourceLinks; }
 }
@@ -0,0 +1,178 @@
+package com.specforge.core.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+final class PathTemplateTrie {
+
+    private static final PathTemplateTrie EMPTY = new PathTemplateTrie(new Node(Map.of(), null, null, null, List.of(), -1));
+
+    private final Node root;
+
+    private PathTemplateTrie(Node root) {
+        this.root = root;
+    }
+
+    static PathTemplateTrie build(Map<String, List<String>> rulesByPattern) {
+        if (rulesByPattern == null || rulesByPattern.isEmpty()) {
+            return EMPTY;
+        }
+
+        MutableNode root = new MutableNode();
+        int order = 0;
+        for (Map.Entry<String, List<String>> entry : rulesByPattern.entrySet()) {
+            if (entry.getKey() == null || entry.getValue() == null || entry.getValue().isEmpty()) {
+                continue;
+            }
+            MutableNode node = root;
+            for (String segment : segments(entry.getKey())) {
+                node = node.child(segment);
+            }
+            node.rules.addAll(entry.getValue());
+            if (node.order < 0) {
+                node.order = order++;
+            }
+        }
+        return new PathTemplateTrie(root.freeze());
+    }
+
+    // Most specific pattern first: literal segments beat {param}, which beats *, which beats **.
+    List<String> match(String path) {
+        if (path == null || path.isBlank()) {
+            return List.of();
+        }
+
+        List<Match> matches = new ArrayList<>();
+        collect(root, segments(path), 0, new ArrayList<>(), matches);
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        matches.sort(Comparator.<Match, List<SegmentKind>>comparing(Match::kinds, PathTemplateTrie::compareKinds)
+                .thenComparingInt(match -> match.node().order()));
+        LinkedHashSet<String> rules = new LinkedHashSet<>();
+        for (Match match : matches) {
+            rules.addAll(match.node().rules());
+        }
+        return List.copyOf(rules);
+    }
+
+    private static void collect(Node node, List<String> segments, int index, List<SegmentKind> kinds, List<Match> out) {
+        if (node.doubleStar() != null) {
+            // "**" swallows zero or more of the remaining segments.
+            for (int next = index; next <= segments.size(); next++) {
+                collect(node.doubleStar(), segments, next, append(kinds, SegmentKind.DOUBLE_STAR), out);
+            }
+        }
+        if (index == segments.size()) {
+            if (!node.rules().isEmpty()) {
+                out.add(new Match(kinds, node));
+            }
+            return;
+        }
+
+        String segment = segments.get(index);
+        if (!isTemplate(segment)) {
+            Node literal = node.literals().get(segment);
+            if (literal != null) {
+                collect(literal, segments, index + 1, append(kinds, SegmentKind.LITERAL), out);
+            }
+        }
+        if (node.param() != null) {
+            collect(node.param(), segments, index + 1, append(kinds, SegmentKind.PARAM), out);
+        }
+        if (node.star() != null) {
+            collect(node.star(), segments, index + 1, append(kinds, SegmentKind.STAR), out);
+        }
+    }
+
+    private static List<SegmentKind> append(List<SegmentKind> kinds, SegmentKind kind) {
+        List<SegmentKind> next = new ArrayList<>(kinds.size() + 1);
+        next.addAll(kinds);
+        next.add(kind);
+        return next;
+    }
+
+    private static int compareKinds(List<SegmentKind> left, List<SegmentKind> right) {
+        for (int i = 0; i < Math.min(left.size(), right.size()); i++) {
+            int cmp = left.get(i).compareTo(right.get(i));
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(left.size(), right.size());
+    }
+
+    private static List<String> segments(String path) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.trim().split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    private static boolean isTemplate(String segment) {
+        return segment.length() > 1 && segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    private enum SegmentKind {
+        LITERAL,
+        PARAM,
+        STAR,
+        DOUBLE_STAR
+    }
+
+    private record Match(List<SegmentKind> kinds, Node node) {
+    }
+
+    private record Node(Map<String, Node> literals,
+                        Node param,
+                        Node star,
+                        Node doubleStar,
+                        List<String> rules,
+                        int order) {
+    }
+
+    private static final class MutableNode {
+
+        private final Map<String, MutableNode> literals = new HashMap<>();
+        private final List<String> rules = new ArrayList<>();
+        private MutableNode param;
+        private MutableNode star;
+        private MutableNode doubleStar;
+        private int order = -1;
+
+        private MutableNode child(String segment) {
+            if ("**".equals(segment)) {
+                return doubleStar == null ? doubleStar = new MutableNode() : doubleStar;
+            }
+            if ("*".equals(segment)) {
+                return star == null ? star = new MutableNode() : star;
+            }
+            if (isTemplate(segment)) {
+                // Parameter names are irrelevant: /pets/{id} and /pets/{petId} are the same template.
+                return param == null ? param = new MutableNode() : param;
+            }
+            return literals.computeIfAbsent(segment, ignored -> new MutableNode());
+        }
+
+        private Node freeze() {
+            Map<String, Node> frozenLiterals = new HashMap<>();
+            literals.forEach((segment, child) -> frozenLiterals.put(segment, child.freeze()));
+            return new Node(
+                    Map.copyOf(frozenLiterals),
+                    param == null ? null : param.freeze(),
+                    star == null ? null : star.freeze(),
+                    doubleStar == null ? null : doubleStar.freeze(),
+                    List.copyOf(rules),
+                    order
+            );
+        }
+    }
+}
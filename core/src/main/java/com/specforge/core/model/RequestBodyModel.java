@@ -1,15 +1,31 @@
 package com.specforge.core.model;
 
+import com.specforge.core.model.schema.TypedSchema;
+
 import java.util.Map;
 
 public class RequestBodyModel {
 
     private String contentType;
-    private Map<String, Object> schema;
+    private TypedSchema typedSchema;
 
     public String getContentType() { return contentType; }
     public void setContentType(String contentType) { this.contentType = contentType; }
 
-    public Map<String, Object> getSchema() { return schema; }
-    public void setSchema(Map<String, Object> schema) { this.schema = schema; }
+    // A fresh map view on each call; only the typed schema is kept.
+    public Map<String, Object> getSchema() {
+        return typedSchema == null ? null : typedSchema.toMap();
+    }
+
+    public void setSchema(Map<String, Object> schema) {
+        this.typedSchema = TypedSchema.fromMap(schema);
+    }
+
+    public TypedSchema getTypedSchema() {
+        return typedSchema;
+    }
+
+    public void setTypedSchema(TypedSchema typedSchema) {
+        this.typedSchema = typedSchema;
+    }
 }
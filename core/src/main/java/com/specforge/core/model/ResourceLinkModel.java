@@ -0,0 +1,30 @@
+package com.specforge.core.model;
+
+/*
+ * A path parameter of the consumer operation that can be filled with a property of the resource another operation
+ * creates, e.g. {petId} in GET /pet/{petId} fed by the "id" returned from POST /pet.
+ */
+public class ResourceLinkModel {
+
+    private String paramName;
+    private String producerOperationId;
+    private String producerProperty;
+
+    public ResourceLinkModel() {
+    }
+
+    public ResourceLinkModel(String paramName, String producerOperationId, String producerProperty) {
+        this.paramName = paramName;
+        this.producerOperationId = producerOperationId;
+        this.producerProperty = producerProperty;
+    }
+
+    public String getParamName() { return paramName; }
+    public void setParamName(String paramName) { this.paramName = paramName; }
+
+    public String getProducerOperationId() { return producerOperationId; }
+    public void setProducerOperationId(String producerOperationId) { this.producerOperationId = producerOperationId; }
+
+    public String getProducerProperty() { return producerProperty; }
+    public void setProducerProperty(String producerProperty) { this.producerProperty = producerProperty; }
+}
@@ -1,12 +1,14 @@
 package com.specforge.core.model;
 
+import com.specforge.core.model.schema.TypedSchema;
+
 import java.util.Map;
 
 public class ResponseModel {
 
     private int statusCode;
     private String contentType;
-    private Map<String, Object> schema;
+    private TypedSchema typedSchema;
 
     public int getStatusCode() { return statusCode; }
     public void setStatusCode(int statusCode) { this.statusCode = statusCode; }
@@ -14,6 +16,20 @@ public class ResponseModel {
     public String getContentType() { return contentType; }
     public void setContentType(String contentType) { this.contentType = contentType; }
 
-    public Map<String, Object> getSchema() { return schema; }
-    public void setSchema(Map<String, Object> schema) { this.schema = schema; }
+    // A fresh map view on each call; only the typed schema is kept.
+    public Map<String, Object> getSchema() {
+        return typedSchema == null ? null : typedSchema.toMap();
+    }
+
+    public void setSchema(Map<String, Object> schema) {
+        this.typedSchema = TypedSchema.fromMap(schema);
+    }
+
+    public TypedSchema getTypedSchema() {
+        return typedSchema;
+    }
+
+    public void setTypedSchema(TypedSchema typedSchema) {
+        this.typedSchema = typedSchema;
+    }
 }
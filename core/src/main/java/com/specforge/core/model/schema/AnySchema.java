@@ -0,0 +1,19 @@
+package com.specforge.core.model.schema;
+
+public record AnySchema(String declaredType, SchemaFacets facets) implements TypedSchema {
+
+    public AnySchema {
+        declaredType = declaredType == null || declaredType.isBlank() ? null : declaredType.intern();
+        facets = facets == null ? SchemaFacets.NONE : facets;
+    }
+
+    @Override
+    public SchemaType type() {
+        return SchemaType.of(declaredType);
+    }
+
+    @Override
+    public String typeName() {
+        return declaredType;
+    }
+}
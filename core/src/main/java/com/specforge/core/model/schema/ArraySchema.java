@@ -0,0 +1,13 @@
+package com.specforge.core.model.schema;
+
+public record ArraySchema(TypedSchema items, int minItems, int maxItems, SchemaFacets facets) implements TypedSchema {
+
+    public ArraySchema {
+        facets = facets == null ? SchemaFacets.NONE : facets;
+    }
+
+    @Override
+    public SchemaType type() {
+        return SchemaType.ARRAY;
+    }
+}
@@ -0,0 +1,13 @@
+package com.specforge.core.model.schema;
+
+public record BooleanSchema(SchemaFacets facets) implements TypedSchema {
+
+    public BooleanSchema {
+        facets = facets == null ? SchemaFacets.NONE : facets;
+    }
+
+    @Override
+    public SchemaType type() {
+        return SchemaType.BOOLEAN;
+    }
+}
@@ -0,0 +1,22 @@
+package com.specforge.core.model.schema;
+
+public record NumericSchema(boolean integer, double minimum, double maximum, SchemaFacets facets)
+        implements TypedSchema {
+
+    public NumericSchema {
+        facets = facets == null ? SchemaFacets.NONE : facets;
+    }
+
+    @Override
+    public SchemaType type() {
+        return integer ? SchemaType.INTEGER : SchemaType.NUMBER;
+    }
+
+    public boolean hasMinimum() {
+        return !Double.isNaN(minimum);
+    }
+
+    public boolean hasMaximum() {
+        return !Double.isNaN(maximum);
+    }
+}
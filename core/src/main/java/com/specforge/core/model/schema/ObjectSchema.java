@@ -0,0 +1,39 @@
+package com.specforge.core.model.schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public record ObjectSchema(Map<String, TypedSchema> properties,
+                           List<String> required,
+                           SchemaFacets facets) implements TypedSchema {
+
+    public static final ObjectSchema EMPTY = new ObjectSchema(Map.of(), List.of(), SchemaFacets.NONE);
+
+    public ObjectSchema {
+        // Property names repeat across every operation of a spec; interning keeps one copy of each.
+        Map<String, TypedSchema> interned = new LinkedHashMap<>();
+        if (properties != null) {
+            properties.forEach((name, schema) -> interned.put(name.intern(), schema));
+        }
+        properties = Collections.unmodifiableMap(interned);
+
+        List<String> internedRequired = new ArrayList<>();
+        if (required != null) {
+            required.forEach(name -> internedRequired.add(name.intern()));
+        }
+        required = List.copyOf(internedRequired);
+        facets = facets == null ? SchemaFacets.NONE : facets;
+    }
+
+    @Override
+    public SchemaType type() {
+        return SchemaType.OBJECT;
+    }
+
+    public boolean isRequired(String propertyName) {
+        return required.contains(propertyName);
+    }
+}
@@ -0,0 +1,29 @@
+package com.specforge.core.model.schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public record SchemaFacets(List<Object> enumValues,
+                           String format,
+                           List<TypedSchema> allOf,
+                           List<TypedSchema> anyOf,
+                           List<TypedSchema> oneOf) {
+
+    public static final SchemaFacets NONE = new SchemaFacets(List.of(), null, List.of(), List.of(), List.of());
+
+    public SchemaFacets {
+        // Enum values may legitimately contain null, which List.copyOf rejects.
+        enumValues = enumValues == null || enumValues.isEmpty()
+                ? List.of()
+                : Collections.unmodifiableList(new ArrayList<>(enumValues));
+        format = format == null || format.isBlank() ? null : format.intern();
+        allOf = allOf == null ? List.of() : List.copyOf(allOf);
+        anyOf = anyOf == null ? List.of() : List.copyOf(anyOf);
+        oneOf = oneOf == null ? List.of() : List.copyOf(oneOf);
+    }
+
+    public boolean hasFormat(String expected) {
+        return format != null && format.equalsIgnoreCase(expected);
+    }
+}
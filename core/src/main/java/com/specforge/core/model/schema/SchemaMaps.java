@@ -0,0 +1,176 @@
+package com.specforge.core.model.schema;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class SchemaMaps {
+
+    private static final double MAX_EXACT_LONG = 9_007_199_254_740_992d;
+
+    private SchemaMaps() {
+    }
+
+    static Map<String, Object> toMap(TypedSchema schema) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        if (schema.typeName() != null) {
+            out.put("type", schema.typeName());
+        }
+
+        SchemaFacets facets = schema.facets();
+        if (!facets.enumValues().isEmpty()) {
+            out.put("enum", new ArrayList<>(facets.enumValues()));
+        }
+        if (facets.format() != null) {
+            out.put("format", facets.format());
+        }
+
+        switch (schema) {
+            case StringSchema string -> {
+                putIfSet(out, "minLength", string.minLength());
+                putIfSet(out, "maxLength", string.maxLength());
+            }
+            case NumericSchema numeric -> {
+                if (numeric.hasMinimum()) {
+                    out.put("minimum", asNumber(numeric.minimum()));
+                }
+                if (numeric.hasMaximum()) {
+                    out.put("maximum", asNumber(numeric.maximum()));
+                }
+            }
+            case ArraySchema array -> {
+                putIfSet(out, "minItems", array.minItems());
+                putIfSet(out, "maxItems", array.maxItems());
+                if (array.items() != null) {
+                    out.put("items", toMap(array.items()));
+                }
+            }
+            case ObjectSchema object -> {
+                if (!object.required().isEmpty()) {
+                    out.put("required", new ArrayList<>(object.required()));
+                }
+                if (!object.properties().isEmpty()) {
+                    Map<String, Object> properties = new LinkedHashMap<>();
+                    object.properties().forEach((name, property) -> properties.put(name, toMap(property)));
+                    out.put("properties", properties);
+                }
+            }
+            case BooleanSchema ignored -> {
+            }
+            case AnySchema ignored -> {
+            }
+        }
+
+        putComposition(out, "allOf", facets.allOf());
+        putComposition(out, "anyOf", facets.anyOf());
+        putComposition(out, "oneOf", facets.oneOf());
+        return out;
+    }
+
+    static TypedSchema fromMap(Map<String, Object> schema) {
+        if (schema == null) {
+            return null;
+        }
+
+        SchemaFacets facets = new SchemaFacets(
+                list(schema.get("enum")),
+                schema.get("format") == null ? null : String.valueOf(schema.get("format")),
+                compositions(schema.get("allOf")),
+                compositions(schema.get("anyOf")),
+                compositions(schema.get("oneOf"))
+        );
+
+        String declaredType = schema.get("type") == null ? null : String.valueOf(schema.get("type"));
+        SchemaType type = SchemaType.of(declaredType);
+        if (declaredType == null && schema.get("properties") instanceof Map<?, ?>) {
+            type = SchemaType.OBJECT;
+        } else if (declaredType == null && schema.get("items") instanceof Map<?, ?>) {
+            type = SchemaType.ARRAY;
+        }
+
+        return switch (type) {
+            case OBJECT -> {
+                Map<String, TypedSchema> properties = new LinkedHashMap<>();
+                map(schema.get("properties")).forEach((name, property) ->
+                        properties.put(name, fromMap(map(property))));
+                List<String> required = new ArrayList<>();
+                list(schema.get("required")).forEach(name -> required.add(String.valueOf(name)));
+                yield new ObjectSchema(properties, required, facets);
+            }
+            case ARRAY -> new ArraySchema(
+                    schema.get("items") instanceof Map<?, ?> ? fromMap(map(schema.get("items"))) : null,
+                    intOrUnset(schema.get("minItems")),
+                    intOrUnset(schema.get("maxItems")),
+                    facets
+            );
+            case STRING -> new StringSchema(
+                    intOrUnset(schema.get("minLength")),
+                    intOrUnset(schema.get("maxLength")),
+                    facets
+            );
+            case INTEGER, NUMBER -> new NumericSchema(
+                    type == SchemaType.INTEGER,
+                    doubleOrNaN(schema.get("minimum")),
+                    doubleOrNaN(schema.get("maximum")),
+                    facets
+            );
+            case BOOLEAN -> new BooleanSchema(facets);
+            case FILE, NULL, ANY -> new AnySchema(declaredType, facets);
+        };
+    }
+
+    private static void putIfSet(Map<String, Object> out, String key, int value) {
+        if (value != TypedSchema.UNSET) {
+            out.put(key, value);
+        }
+    }
+
+    private static void putComposition(Map<String, Object> out, String key, List<TypedSchema> schemas) {
+        if (schemas.isEmpty()) {
+            return;
+        }
+        List<Object> maps = new ArrayList<>(schemas.size());
+        schemas.forEach(schema -> maps.add(toMap(schema)));
+        out.put(key, maps);
+    }
+
+    private static Number asNumber(double value) {
+        if (value == Math.rint(value) && Math.abs(value) <= MAX_EXACT_LONG) {
+            return (long) value;
+        }
+        return value;
+    }
+
+    private static List<TypedSchema> compositions(Object value) {
+        List<TypedSchema> out = new ArrayList<>();
+        for (Object item : list(value)) {
+            out.add(fromMap(map(item)));
+        }
+        return out;
+    }
+
+    private static int intOrUnset(Object value) {
+        return value instanceof Number n ? n.intValue() : TypedSchema.UNSET;
+    }
+
+    private static double doubleOrNaN(Object value) {
+        return value instanceof Number n ? n.doubleValue() : Double.NaN;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(Object value) {
+        if (value instanceof Map<?, ?> m) {
+            return (Map<String, Object>) m;
+        }
+        return Map.of();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> list(Object value) {
+        if (value instanceof List<?> l) {
+            return (List<Object>) l;
+        }
+        return List.of();
+    }
+}
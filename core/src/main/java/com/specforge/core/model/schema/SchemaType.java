@@ -0,0 +1,42 @@
+package com.specforge.core.model.schema;
+
+import java.util.Locale;
+
+public enum SchemaType {
+    OBJECT("object"),
+    ARRAY("array"),
+    STRING("string"),
+    INTEGER("integer"),
+    NUMBER("number"),
+    BOOLEAN("boolean"),
+    FILE("file"),
+    NULL("null"),
+    ANY(null);
+
+    private final String jsonName;
+
+    SchemaType(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    public String jsonName() {
+        return jsonName;
+    }
+
+    public static SchemaType of(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return ANY;
+        }
+        return switch (raw.trim().toLowerCase(Locale.ROOT)) {
+            case "object" -> OBJECT;
+            case "array" -> ARRAY;
+            case "string" -> STRING;
+            case "integer" -> INTEGER;
+            case "number" -> NUMBER;
+            case "boolean" -> BOOLEAN;
+            case "file" -> FILE;
+            case "null" -> NULL;
+            default -> ANY;
+        };
+    }
+}
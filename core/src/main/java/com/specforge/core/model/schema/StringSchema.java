@@ -0,0 +1,17 @@
+package com.specforge.core.model.schema;
+
+public record StringSchema(int minLength, int maxLength, SchemaFacets facets) implements TypedSchema {
+
+    public StringSchema {
+        facets = facets == null ? SchemaFacets.NONE : facets;
+    }
+
+    @Override
+    public SchemaType type() {
+        return SchemaType.STRING;
+    }
+
+    public boolean isBinary() {
+        return facets.hasFormat("binary");
+    }
+}
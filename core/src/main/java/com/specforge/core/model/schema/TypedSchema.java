@@ -0,0 +1,25 @@
+package com.specforge.core.model.schema;
+
+import java.util.Map;
+
+public sealed interface TypedSchema
+        permits ObjectSchema, ArraySchema, StringSchema, NumericSchema, BooleanSchema, AnySchema {
+
+    int UNSET = -1;
+
+    SchemaType type();
+
+    SchemaFacets facets();
+
+    default String typeName() {
+        return type().jsonName();
+    }
+
+    default Map<String, Object> toMap() {
+        return SchemaMaps.toMap(this);
+    }
+
+    static TypedSchema fromMap(Map<String, Object> schema) {
+        return SchemaMaps.fromMap(schema);
+    }
+}
@@ -0,0 +1,35 @@
+package com.specforge.core.model.schema;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/*
+ * Jackson bindings that write typed schemas as they are, tagged with their kind, so caches and fingerprints never
+ * go through the map view.
+ */
+public final class TypedSchemaModule extends SimpleModule {
+
+    public TypedSchemaModule() {
+        super("TypedSchemaModule");
+        setMixInAnnotation(TypedSchema.class, TypedSchemaMixIn.class);
+        setMixInAnnotation(StringSchema.class, StringSchemaMixIn.class);
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "kind")
+    @JsonSubTypes({
+            @JsonSubTypes.Type(value = ObjectSchema.class, name = "object"),
+            @JsonSubTypes.Type(value = ArraySchema.class, name = "array"),
+            @JsonSubTypes.Type(value = StringSchema.class, name = "string"),
+            @JsonSubTypes.Type(value = NumericSchema.class, name = "numeric"),
+            @JsonSubTypes.Type(value = BooleanSchema.class, name = "boolean"),
+            @JsonSubTypes.Type(value = AnySchema.class, name = "any")
+    })
+    private abstract static class TypedSchemaMixIn {
+    }
+
+    @JsonIgnoreProperties({"binary"})
+    private abstract static class StringSchemaMixIn {
+    }
+}
@@ -0,0 +1,157 @@
+package com.specforge.core.parser;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+public class BatchManifestParser {
+
+    private static final Pattern SPEC_ROOT = Pattern.compile("(?m)^[\\s{]*[\"']?(openapi|swagger)[\"']?\\s*:");
+    private static final Pattern NON_IDENTIFIER = Pattern.compile("[^a-z0-9]+");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /*
+     * {"specs": [{"spec": "users.yaml", "output": "users", "basePackage": "...", "baseUrl": "...", "context": "..."}]}
+     * A bare array is accepted too. Spec and context paths are relative to the manifest, outputs to outputRoot;
+     * anything left out falls back to the command-line values.
+     */
+    public List<BatchSpec> parse(Path manifest, Path outputRoot, String basePackage, String baseUrl, Path context) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(Files.readString(manifest));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON batch manifest: " + manifest, e);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to read batch manifest: " + manifest, e);
+        }
+
+        JsonNode entries = root != null && root.isObject() ? root.get("specs") : root;
+        if (entries == null || !entries.isArray()) {
+            throw new IllegalArgumentException("Batch manifest must contain a \"specs\" array: " + manifest);
+        }
+
+        Path manifestDir = manifest.toAbsolutePath().normalize().getParent();
+        List<BatchSpec> specs = new ArrayList<>();
+        for (JsonNode entry : entries) {
+            String rawSpec = text(entry, "spec");
+            if (rawSpec == null) {
+                throw new IllegalArgumentException("Every batch manifest entry needs a \"spec\": " + entry);
+            }
+            Path spec = manifestDir.resolve(rawSpec).normalize();
+            if (!Files.isRegularFile(spec)) {
+                throw new IllegalArgumentException("Spec file not found: " + spec);
+            }
+
+            String name = baseName(spec);
+            String rawOutput = text(entry, "output");
+            String rawContext = text(entry, "context");
+            specs.add(new BatchSpec(
+                    spec,
+                    outputRoot.resolve(rawOutput == null ? name : rawOutput).normalize(),
+                    firstNonBlank(text(entry, "basePackage"), childPackage(basePackage, name)),
+                    firstNonBlank(text(entry, "baseUrl"), baseUrl),
+                    rawContext == null ? context : manifestDir.resolve(rawContext).normalize()
+            ));
+        }
+        return requireDistinctOutputs(specs);
+    }
+
+    // Top-level OpenAPI/Swagger documents only, so $ref fragments living next to them are not treated as specs.
+    public List<BatchSpec> scanDirectory(Path directory, Path outputRoot, String basePackage, String baseUrl, Path context) {
+        List<Path> candidates;
+        try (Stream<Path> files = Files.list(directory)) {
+            candidates = files
+                    .filter(Files::isRegularFile)
+                    .filter(BatchManifestParser::hasSpecExtension)
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to list spec directory: " + directory, e);
+        }
+
+        List<BatchSpec> specs = new ArrayList<>();
+        for (Path spec : candidates) {
+            if (!isSpecDocument(spec)) {
+                continue;
+            }
+            String name = baseName(spec);
+            specs.add(new BatchSpec(
+                    spec.toAbsolutePath().normalize(),
+                    outputRoot.resolve(name).normalize(),
+                    childPackage(basePackage, name),
+                    baseUrl,
+                    context
+            ));
+        }
+        if (specs.isEmpty()) {
+            throw new IllegalArgumentException("No OpenAPI specs (.yaml/.yml/.json) found in " + directory);
+        }
+        return requireDistinctOutputs(specs);
+    }
+
+    static String baseName(Path spec) {
+        String fileName = spec.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+
+    private static boolean hasSpecExtension(Path file) {
+        String fileName = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return fileName.endsWith(".yaml") || fileName.endsWith(".yml") || fileName.endsWith(".json");
+    }
+
+    private static boolean isSpecDocument(Path file) {
+        try {
+            return SPEC_ROOT.matcher(Files.readString(file)).find();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to read spec file: " + file, e);
+        }
+    }
+
+    private static String childPackage(String basePackage, String specName) {
+        String segment = NON_IDENTIFIER.matcher(specName.toLowerCase(Locale.ROOT)).replaceAll("");
+        if (segment.isEmpty()) {
+            return basePackage;
+        }
+        if (Character.isDigit(segment.charAt(0))) {
+            segment = "_" + segment;
+        }
+        return basePackage + "." + segment;
+    }
+
+    private static List<BatchSpec> requireDistinctOutputs(List<BatchSpec> specs) {
+        Set<Path> outputs = new HashSet<>();
+        for (BatchSpec spec : specs) {
+            if (!outputs.add(spec.output())) {
+                throw new IllegalArgumentException("Two batch specs write to the same output: " + spec.output());
+            }
+        }
+        return specs;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node == null ? null : node.get(field);
+        return value == null || !value.isTextual() || value.asText().isBlank() ? null : value.asText().trim();
+    }
+
+    private static String firstNonBlank(String... candidates) {
+        for (String candidate : candidates) {
+            if (candidate != null && !candidate.isBlank()) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.specforge.core.parser;
+
+import java.nio.file.Path;
+
+// One spec of a batch run together with its own output settings; context is null when the spec has none.
+public record BatchSpec(Path spec, Path output, String basePackage, String baseUrl, Path context) {
+
+    public String name() {
+        return BatchManifestParser.baseName(spec);
+    }
+}
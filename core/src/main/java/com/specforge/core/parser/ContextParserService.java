@@ -56,15 +56,24 @@ public class ContextParserService {
     private ContextModel parseMarkdown(String content) {
         ContextModel model = new ContextModel();
         String currentPath = null;
+        int pathLevel = 0;
+        String currentSection = null;
         for (String rawLine : content.split("\\R")) {
             String line = rawLine == null ? "" : rawLine.trim();
             if (line.isBlank()) {
                 continue;
             }
 
-            String headerPath = extractHeaderPath(line);
-            if (headerPath != null) {
-                currentPath = headerPath;
+            if (line.startsWith("#")) {
+                int level = headerLevel(line);
+                // A sub-header inside a path section ("## /users" then "### Validaciones") still belongs to that path.
+                if (currentPath != null && level > pathLevel) {
+                    continue;
+                }
+                // Other non-path headers ("## Pagos") open free-form sections matched by relevance, not by path.
+                currentPath = extractHeaderPath(line);
+                pathLevel = level;
+                currentSection = currentPath == null ? line.replaceFirst("^#+\\s*", "").trim() : null;
                 continue;
             }
 
@@ -78,8 +87,12 @@ public class ContextParserService {
                 }
             }
 
-            if ((line.startsWith("- ") || line.startsWith("* ")) && currentPath != null) {
-                model.addRule(currentPath, line.substring(2).trim());
+            if (line.startsWith("- ") || line.startsWith("* ")) {
+                if (currentPath != null) {
+                    model.addRule(currentPath, line.substring(2).trim());
+                } else if (currentSection != null) {
+                    model.addSectionRule(currentSection, line.substring(2).trim());
+                }
             }
         }
         return model;
@@ -101,6 +114,14 @@ public class ContextParserService {
         }
     }
 
+    private int headerLevel(String line) {
+        int level = 0;
+        while (level < line.length() && line.charAt(level) == '#') {
+            level++;
+        }
+        return level;
+    }
+
     private String extractHeaderPath(String line) {
         if (!line.startsWith("#")) {
             return null;
@@ -22,15 +22,43 @@ import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class OpenApiParserService {
 
+    // Below this many operations the fork/join overhead outweighs the extraction work.
+    private static final int MIN_PARALLEL_OPERATIONS = 16;
+
+    private static final boolean RESOLVE = true;
+    private static final boolean RESOLVE_FULLY = true;
+
+    private final boolean parallelExtraction;
+    private final OperationFilter operationFilter;
+
+    public OpenApiParserService() {
+        this(resolveParallelExtraction());
+    }
+
+    public OpenApiParserService(boolean parallelExtraction) {
+        this(parallelExtraction, OperationFilter.ALL);
+    }
+
+    public OpenApiParserService(OperationFilter operationFilter) {
+        this(resolveParallelExtraction(), operationFilter);
+    }
+
+    public OpenApiParserService(boolean parallelExtraction, OperationFilter operationFilter) {
+        this.parallelExtraction = parallelExtraction;
+        this.operationFilter = operationFilter != null ? operationFilter : OperationFilter.ALL;
+    }
+
     public ApiSpecModel parse(String specLocation) {
         String resolvedLocation = resolveLocation(specLocation);
 
         ParseOptions parseOptions = new ParseOptions();
-        parseOptions.setResolve(true);
-        parseOptions.setResolveFully(true);
+        parseOptions.setResolve(RESOLVE);
+        parseOptions.setResolveFully(RESOLVE_FULLY);
         SwaggerParseResult result = new OpenAPIParser().readLocation(resolvedLocation, null, parseOptions);
 
         if (result == null || result.getOpenAPI() == null) {
@@ -47,28 +75,50 @@ public class OpenApiParserService {
         model.setTitle(api.getInfo() != null ? api.getInfo().getTitle() : "API");
         model.setVersion(api.getInfo() != null ? api.getInfo().getVersion() : "unknown");
 
-        List<OperationModel> ops = new ArrayList<>();
+        List<OperationSource> sources = new ArrayList<>();
         if (api.getPaths() != null) {
             for (Map.Entry<String, PathItem> e : api.getPaths().entrySet()) {
                 String path = e.getKey();
                 PathItem item = e.getValue();
 
                 List<Parameter> pathParameters = item.getParameters();
-                addOperationIfPresent(ops, "GET", path, pathParameters, item.getGet(), schemaResolver);
-                addOperationIfPresent(ops, "POST", path, pathParameters, item.getPost(), schemaResolver);
-                addOperationIfPresent(ops, "PUT", path, pathParameters, item.getPut(), schemaResolver);
-                addOperationIfPresent(ops, "PATCH", path, pathParameters, item.getPatch(), schemaResolver);
-                addOperationIfPresent(ops, "DELETE", path, pathParameters, item.getDelete(), schemaResolver);
-                addOperationIfPresent(ops, "HEAD", path, pathParameters, item.getHead(), schemaResolver);
-                addOperationIfPresent(ops, "OPTIONS", path, pathParameters, item.getOptions(), schemaResolver);
-                addOperationIfPresent(ops, "TRACE", path, pathParameters, item.getTrace(), schemaResolver);
+                addSourceIfPresent(sources, "GET", path, pathParameters, item.getGet());
+                addSourceIfPresent(sources, "POST", path, pathParameters, item.getPost());
+                addSourceIfPresent(sources, "PUT", path, pathParameters, item.getPut());
+                addSourceIfPresent(sources, "PATCH", path, pathParameters, item.getPatch());
+                addSourceIfPresent(sources, "DELETE", path, pathParameters, item.getDelete());
+                addSourceIfPresent(sources, "HEAD", path, pathParameters, item.getHead());
+                addSourceIfPresent(sources, "OPTIONS", path, pathParameters, item.getOptions());
+                addSourceIfPresent(sources, "TRACE", path, pathParameters, item.getTrace());
             }
         }
 
+        // Ordered parallel streams keep encounter order, so the result matches the serial path × method order.
+        Stream<OperationSource> stream = parallelExtraction && sources.size() >= MIN_PARALLEL_OPERATIONS
+                ? sources.parallelStream()
+                : sources.stream();
+        List<OperationModel> ops = stream
+                .map(source -> toOperation(source, schemaResolver))
+                .collect(Collectors.toCollection(ArrayList::new));
+
         model.setOperations(ops);
         return model;
     }
 
+    // Everything that changes the parsed model; parallelism does not, so it is left out.
+    public String optionsFingerprint() {
+        String fingerprint = "resolve=" + RESOLVE + ";resolveFully=" + RESOLVE_FULLY;
+        return operationFilter.isEmpty() ? fingerprint : fingerprint + ";filter=" + operationFilter.fingerprint();
+    }
+
+    private static boolean resolveParallelExtraction() {
+        String configured = System.getProperty("specforge.parser.parallel");
+        if (configured == null || configured.isBlank()) {
+            configured = System.getenv("SPECFORGE_PARSER_PARALLEL");
+        }
+        return configured != null && Boolean.parseBoolean(configured.trim());
+    }
+
     private String resolveLocation(String specLocation) {
         // If it's already a URL/URI, keep it.
         String lower = specLocation.toLowerCase(Locale.ROOT);
@@ -86,26 +136,31 @@ public class OpenApiParserService {
         return p.toUri().toString();
     }
 
-    private void addOperationIfPresent(
-            List<OperationModel> ops,
+    private void addSourceIfPresent(
+            List<OperationSource> sources,
             String method,
             String path,
             List<Parameter> pathParameters,
-            Operation op,
-            SchemaResolver schemaResolver
+            Operation op
     ) {
-        if (op == null) return;
+        // Filtering here keeps excluded operations away from schema resolution and everything downstream.
+        if (op != null && operationFilter.matches(method, path, op.getTags(), operationId(op, method, path))) {
+            sources.add(new OperationSource(method, path, pathParameters, op));
+        }
+    }
+
+    private OperationModel toOperation(OperationSource source, SchemaResolver schemaResolver) {
+        String method = source.method();
+        String path = source.path();
+        List<Parameter> pathParameters = source.pathParameters();
+        Operation op = source.operation();
 
         OperationModel om = new OperationModel();
         om.setHttpMethod(method);
         om.setPath(path);
         om.setDescription(resolveDescription(op));
 
-        String operationId = Optional.ofNullable(op.getOperationId())
-                .filter(s -> !s.isBlank())
-                .orElseGet(() -> defaultOperationId(method, path));
-
-        om.setOperationId(operationId);
+        om.setOperationId(operationId(op, method, path));
         om.setPreferredSuccessStatus(preferredSuccessStatus(op.getResponses()));
         om.setParams(extractParams(pathParameters, op.getParameters()));
         om.setRequestBody(extractRequestBody(op.getRequestBody(), schemaResolver));
@@ -115,7 +170,13 @@ public class OpenApiParserService {
             om.setTags(new ArrayList<>(op.getTags()));
         }
 
-        ops.add(om);
+        return om;
+    }
+
+    private String operationId(Operation op, String method, String path) {
+        return Optional.ofNullable(op.getOperationId())
+                .filter(s -> !s.isBlank())
+                .orElseGet(() -> defaultOperationId(method, path));
     }
 
     private String resolveDescription(Operation operation) {
@@ -266,7 +327,7 @@ public class OpenApiParserService {
 
         RequestBodyModel model = new RequestBodyModel();
         model.setContentType(media.getKey());
-        model.setSchema(schemaResolver.resolveSchema(media.getValue().getSchema()));
+        model.setTypedSchema(schemaResolver.resolveTypedSchema(media.getValue().getSchema()));
         return model;
     }
 
@@ -291,7 +352,7 @@ public class OpenApiParserService {
         ResponseModel model = new ResponseModel();
         model.setStatusCode(preferredStatus);
         model.setContentType(media.getKey());
-        model.setSchema(schemaResolver.resolveSchema(media.getValue().getSchema()));
+        model.setTypedSchema(schemaResolver.resolveTypedSchema(media.getValue().getSchema()));
         return model;
     }
 
@@ -313,4 +374,7 @@ public class OpenApiParserService {
 
         return content.entrySet().iterator().next();
     }
+
+    private record OperationSource(String method, String path, List<Parameter> pathParameters, Operation operation) {
+    }
 }
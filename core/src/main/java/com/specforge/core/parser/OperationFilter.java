@@ -0,0 +1,168 @@
+package com.specforge.core.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/*
+ * Selects the operations a run generates tests for. Within one criteria list any value may match; across
+ * dimensions every configured include must match, while a single matching exclude drops the operation.
+ * Path globs use '*' for one segment and '**' for any number of them, so "/users/**" also matches "/users".
+ */
+public final class OperationFilter {
+
+    public static final OperationFilter ALL = new OperationFilter(Criteria.NONE, Criteria.NONE);
+
+    private final Criteria include;
+    private final Criteria exclude;
+    private final List<Pattern> includePaths;
+    private final List<Pattern> excludePaths;
+    private final Pattern includeOperationId;
+    private final Pattern excludeOperationId;
+
+    public OperationFilter(Criteria include, Criteria exclude) {
+        this.include = include != null ? include : Criteria.NONE;
+        this.exclude = exclude != null ? exclude : Criteria.NONE;
+        this.includePaths = compileGlobs(this.include.paths());
+        this.excludePaths = compileGlobs(this.exclude.paths());
+        this.includeOperationId = compileRegex(this.include.operationIdRegex());
+        this.excludeOperationId = compileRegex(this.exclude.operationIdRegex());
+    }
+
+    public boolean isEmpty() {
+        return include.isEmpty() && exclude.isEmpty();
+    }
+
+    public boolean matches(String method, String path, List<String> tags, String operationId) {
+        if (!include.tags().isEmpty() && !anyTagIn(tags, include.tags())) {
+            return false;
+        }
+        if (!includePaths.isEmpty() && !anyPathMatches(path, includePaths)) {
+            return false;
+        }
+        if (!include.methods().isEmpty() && !include.methods().contains(normalizeMethod(method))) {
+            return false;
+        }
+        if (includeOperationId != null && (operationId == null || !includeOperationId.matcher(operationId).find())) {
+            return false;
+        }
+
+        return !(anyTagIn(tags, exclude.tags())
+                || anyPathMatches(path, excludePaths)
+                || exclude.methods().contains(normalizeMethod(method))
+                || (excludeOperationId != null && operationId != null && excludeOperationId.matcher(operationId).find()));
+    }
+
+    // Stable text form for cache keys; empty when the filter keeps everything.
+    public String fingerprint() {
+        return isEmpty() ? "" : "include=" + include.fingerprint() + ";exclude=" + exclude.fingerprint();
+    }
+
+    private static boolean anyTagIn(List<String> tags, List<String> wanted) {
+        if (tags == null || wanted.isEmpty()) {
+            return false;
+        }
+        for (String tag : tags) {
+            if (tag != null && wanted.contains(tag.trim().toLowerCase(Locale.ROOT))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean anyPathMatches(String path, List<Pattern> globs) {
+        if (path == null) {
+            return false;
+        }
+        for (Pattern glob : globs) {
+            if (glob.matcher(path).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String normalizeMethod(String method) {
+        return method == null ? "" : method.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static List<Pattern> compileGlobs(List<String> globs) {
+        List<Pattern> patterns = new ArrayList<>();
+        for (String glob : globs) {
+            patterns.add(Pattern.compile(globToRegex(glob)));
+        }
+        return List.copyOf(patterns);
+    }
+
+    static String globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        int i = 0;
+        while (i < glob.length()) {
+            char c = glob.charAt(i);
+            if (glob.startsWith("/**", i)) {
+                regex.append("(/.*)?");
+                i += 3;
+            } else if (glob.startsWith("**", i)) {
+                regex.append(".*");
+                i += 2;
+            } else if (c == '*') {
+                regex.append("[^/]*");
+                i++;
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+                i++;
+            }
+        }
+        return regex.toString();
+    }
+
+    private static Pattern compileRegex(String regex) {
+        if (regex == null) {
+            return null;
+        }
+        try {
+            return Pattern.compile(regex);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid operationId regex: " + regex, e);
+        }
+    }
+
+    public record Criteria(List<String> tags, List<String> paths, List<String> methods, String operationIdRegex) {
+
+        public static final Criteria NONE = new Criteria(List.of(), List.of(), List.of(), null);
+
+        public Criteria {
+            tags = normalize(tags, value -> value.toLowerCase(Locale.ROOT));
+            paths = normalize(paths, UnaryOperator.identity());
+            methods = normalize(methods, value -> value.toUpperCase(Locale.ROOT));
+            operationIdRegex = operationIdRegex == null || operationIdRegex.isBlank() ? null : operationIdRegex.trim();
+        }
+
+        public boolean isEmpty() {
+            return tags.isEmpty() && paths.isEmpty() && methods.isEmpty() && operationIdRegex == null;
+        }
+
+        String fingerprint() {
+            return "tags=" + tags + ",paths=" + paths + ",methods=" + methods + ",operationId=" + operationIdRegex;
+        }
+
+        private static List<String> normalize(List<String> values, UnaryOperator<String> canonical) {
+            if (values == null) {
+                return List.of();
+            }
+            List<String> normalized = new ArrayList<>();
+            for (String value : values) {
+                if (value == null || value.isBlank()) {
+                    continue;
+                }
+                String canonicalValue = canonical.apply(value.trim());
+                if (!normalized.contains(canonicalValue)) {
+                    normalized.add(canonicalValue);
+                }
+            }
+            return List.copyOf(normalized);
+        }
+    }
+}
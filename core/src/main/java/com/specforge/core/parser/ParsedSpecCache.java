@@ -0,0 +1,176 @@
+package com.specforge.core.parser;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.specforge.core.model.ApiSpecModel;
+import com.specforge.core.model.RequestBodyModel;
+import com.specforge.core.model.ResponseModel;
+import com.specforge.core.model.schema.TypedSchemaModule;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class ParsedSpecCache {
+
+    public static final String DEFAULT_CACHE_DIR = ".specforge/cache";
+
+    // Bump whenever the model classes or the parser output change shape.
+    private static final int FORMAT_VERSION = 2;
+    private static final String FILE_SUFFIX = ".smile";
+    private static final Pattern EXTERNAL_REF = Pattern.compile("\\$ref[\"']?\\s*:\\s*[\"']?([^\"'#\\s,}]+)");
+
+    private final Path cacheDir;
+    private final ObjectMapper smileMapper;
+
+    public ParsedSpecCache(Path cacheDir) {
+        this.cacheDir = cacheDir == null ? Path.of(DEFAULT_CACHE_DIR) : cacheDir;
+        this.smileMapper = SmileMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .addModule(new TypedSchemaModule())
+                // The map view is derived from the typed schema, so only the typed schema is persisted.
+                .addMixIn(RequestBodyModel.class, IgnoreSchemaMap.class)
+                .addMixIn(ResponseModel.class, IgnoreSchemaMap.class)
+                .build();
+    }
+
+    public Path cacheDir() {
+        return cacheDir;
+    }
+
+    public ApiSpecModel parse(OpenApiParserService parser, String specLocation) {
+        Path specFile = localSpecFile(specLocation);
+        if (specFile == null) {
+            // Remote specs cannot be fingerprinted without fetching them, which is the work we want to skip.
+            return parser.parse(specLocation);
+        }
+
+        String key = key(specFile, parser.optionsFingerprint());
+        Path entry = cacheDir.resolve(key + FILE_SUFFIX);
+        ApiSpecModel cached = load(entry);
+        if (cached != null) {
+            return cached;
+        }
+
+        ApiSpecModel parsed = parser.parse(specLocation);
+        store(entry, parsed);
+        return parsed;
+    }
+
+    String key(Path specFile, String parserOptions) {
+        MessageDigest digest = sha256();
+        digest.update(("v" + FORMAT_VERSION + "\n" + parserOptions + "\n").getBytes(StandardCharsets.UTF_8));
+        for (Path file : specFiles(specFile)) {
+            try {
+                digest.update(file.getFileName().toString().getBytes(StandardCharsets.UTF_8));
+                digest.update(Files.readAllBytes(file));
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Unable to read spec file: " + file, e);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private ApiSpecModel load(Path entry) {
+        if (!Files.isRegularFile(entry)) {
+            return null;
+        }
+        try {
+            return smileMapper.readValue(entry.toFile(), ApiSpecModel.class);
+        } catch (IOException e) {
+            // A truncated or outdated entry is just a miss; it is rewritten after parsing.
+            try {
+                Files.deleteIfExists(entry);
+            } catch (IOException ignored) {
+                // Best effort cleanup.
+            }
+            return null;
+        }
+    }
+
+    private void store(Path entry, ApiSpecModel model) {
+        try {
+            Files.createDirectories(cacheDir);
+            Path temp = Files.createTempFile(cacheDir, "spec-", ".tmp");
+            Files.write(temp, smileMapper.writeValueAsBytes(model));
+            try {
+                Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException ignored) {
+            // The cache is an optimisation; a read-only or full disk must not fail generation.
+        }
+    }
+
+    // The spec plus every local file it references through $ref, so edits to split specs invalidate the entry.
+    public static Set<Path> specFiles(Path specFile) {
+        Set<Path> files = new LinkedHashSet<>();
+        Deque<Path> pending = new ArrayDeque<>();
+        pending.add(specFile.toAbsolutePath().normalize());
+        while (!pending.isEmpty()) {
+            Path file = pending.poll();
+            if (!files.add(file)) {
+                continue;
+            }
+            String content;
+            try {
+                content = Files.readString(file);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Unable to read spec file: " + file, e);
+            }
+            Matcher matcher = EXTERNAL_REF.matcher(content);
+            while (matcher.find()) {
+                String target = matcher.group(1);
+                if (target.contains("://")) {
+                    continue;
+                }
+                Path referenced = file.resolveSibling(target).normalize();
+                if (Files.isRegularFile(referenced)) {
+                    pending.add(referenced);
+                }
+            }
+        }
+        return files;
+    }
+
+    private Path localSpecFile(String specLocation) {
+        if (specLocation == null || specLocation.isBlank()) {
+            return null;
+        }
+        String lower = specLocation.toLowerCase(Locale.ROOT);
+        if (lower.startsWith("http://") || lower.startsWith("https://")) {
+            return null;
+        }
+        Path path = lower.startsWith("file:") ? Path.of(URI.create(specLocation)) : Path.of(specLocation);
+        return Files.isRegularFile(path) ? path : null;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @JsonIgnoreProperties({"schema"})
+    private abstract static class IgnoreSchemaMap {
+    }
+}
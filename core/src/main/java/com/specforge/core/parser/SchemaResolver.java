@@ -1,134 +1,150 @@
 package com.specforge.core.parser;
 
+import com.specforge.core.model.schema.AnySchema;
+import com.specforge.core.model.schema.ArraySchema;
+import com.specforge.core.model.schema.BooleanSchema;
+import com.specforge.core.model.schema.NumericSchema;
+import com.specforge.core.model.schema.ObjectSchema;
+import com.specforge.core.model.schema.SchemaFacets;
+import com.specforge.core.model.schema.SchemaType;
+import com.specforge.core.model.schema.StringSchema;
+import com.specforge.core.model.schema.TypedSchema;
 import io.swagger.v3.oas.models.OpenAPI;
-import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.Schema;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class SchemaResolver {
 
-    private final Map<String, Schema> componentSchemas;
+    private final Map<String, Schema<?>> componentSchemas;
+    // Keyed by instance: swagger Schema equality is deep and mutable, and fully resolved specs share instances.
+    private final Map<SchemaKey, TypedSchema> resolvedByInstance = new ConcurrentHashMap<>();
 
     public SchemaResolver(OpenAPI api) {
         if (api != null && api.getComponents() != null && api.getComponents().getSchemas() != null) {
-            this.componentSchemas = api.getComponents().getSchemas();
+            this.componentSchemas = new HashMap<>();
+            api.getComponents().getSchemas().forEach(componentSchemas::put);
         } else {
             this.componentSchemas = Map.of();
         }
     }
 
     public Map<String, Object> resolveSchema(Schema<?> schema) {
+        TypedSchema typed = resolveTypedSchema(schema);
+        return typed == null ? null : typed.toMap();
+    }
+
+    public TypedSchema resolveTypedSchema(Schema<?> schema) {
         if (schema == null) {
             return null;
         }
-        return toMap(schema, new TreeSet<>());
+        return toTyped(schema, new Resolution());
     }
 
-    private Map<String, Object> toMap(Schema<?> schema, Set<String> resolvingRefs) {
+    private TypedSchema toTyped(Schema<?> schema, Resolution resolution) {
         if (schema == null) {
-            return Map.of("type", "object");
+            return ObjectSchema.EMPTY;
         }
 
-        if (schema.get$ref() != null && !schema.get$ref().isBlank()) {
-            String refName = refName(schema.get$ref());
-            if (!resolvingRefs.add(refName)) {
-                return Map.of("type", "object");
-            }
-
-            Schema<?> resolved = componentSchemas.get(refName);
-            Map<String, Object> map = resolved == null
-                    ? Map.of("type", "object")
-                    : toMap(resolved, resolvingRefs);
-            resolvingRefs.remove(refName);
-            return map;
-        }
-
-        Map<String, Object> out = new LinkedHashMap<>();
-
-        String type = normalizeType(schema);
-        if (type != null) {
-            out.put("type", type);
-        }
-
-        if (schema.getEnum() != null && !schema.getEnum().isEmpty()) {
-            out.put("enum", new ArrayList<>(schema.getEnum()));
-        }
-
-        if (schema.getFormat() != null && !schema.getFormat().isBlank()) {
-            out.put("format", schema.getFormat());
-        }
-
-        if (schema.getMinLength() != null) {
-            out.put("minLength", schema.getMinLength());
-        }
-        if (schema.getMaxLength() != null) {
-            out.put("maxLength", schema.getMaxLength());
-        }
-        if (schema.getMinimum() != null) {
-            out.put("minimum", asNumber(schema.getMinimum()));
-        }
-        if (schema.getMaximum() != null) {
-            out.put("maximum", asNumber(schema.getMaximum()));
-        }
-        if (schema.getMinItems() != null) {
-            out.put("minItems", schema.getMinItems());
+        SchemaKey key = new SchemaKey(schema);
+        TypedSchema cached = resolvedByInstance.get(key);
+        if (cached != null) {
+            return cached;
         }
-        if (schema.getMaxItems() != null) {
-            out.put("maxItems", schema.getMaxItems());
+        if (!resolution.inProgress.add(key)) {
+            resolution.truncations++;
+            return ObjectSchema.EMPTY;
         }
 
-        if (schema.getRequired() != null && !schema.getRequired().isEmpty()) {
-            out.put("required", new ArrayList<>(schema.getRequired()));
+        int truncationsBefore = resolution.truncations;
+        TypedSchema typed = resolveUncached(schema, resolution);
+        resolution.inProgress.remove(key);
+        // A subtree that hit a cycle depends on its ancestors, so only self-contained results are shared.
+        if (resolution.truncations == truncationsBefore) {
+            resolvedByInstance.putIfAbsent(key, typed);
         }
+        return typed;
+    }
 
-        if (schema.getProperties() != null && !schema.getProperties().isEmpty()) {
-            Map<String, Object> properties = new LinkedHashMap<>();
-            for (Map.Entry<String, Schema> entry : schema.getProperties().entrySet()) {
-                properties.put(entry.getKey(), toMap(entry.getValue(), resolvingRefs));
+    private TypedSchema resolveUncached(Schema<?> schema, Resolution resolution) {
+        if (schema.get$ref() != null && !schema.get$ref().isBlank()) {
+            String refName = refName(schema.get$ref());
+            if (!resolution.refs.add(refName)) {
+                resolution.truncations++;
+                return ObjectSchema.EMPTY;
             }
-            out.put("properties", properties);
-        }
 
-        Schema<?> items = schema instanceof ArraySchema
-                ? ((ArraySchema) schema).getItems()
-                : schema.getItems();
-        if (items != null) {
-            out.put("items", toMap(items, resolvingRefs));
+            Schema<?> resolved = componentSchemas.get(refName);
+            TypedSchema typed = resolved == null
+                    ? ObjectSchema.EMPTY
+                    : toTyped(resolved, resolution);
+            resolution.refs.remove(refName);
+            return typed;
         }
 
-        if (schema.getAllOf() != null && !schema.getAllOf().isEmpty()) {
-            List<Object> allOf = new ArrayList<>();
-            for (Schema<?> s : schema.getAllOf()) {
-                allOf.add(toMap(s, resolvingRefs));
+        SchemaFacets facets = new SchemaFacets(
+                schema.getEnum() == null ? null : new ArrayList<>(schema.getEnum()),
+                schema.getFormat(),
+                toTypedList(schema.getAllOf(), resolution),
+                toTypedList(schema.getAnyOf(), resolution),
+                toTypedList(schema.getOneOf(), resolution)
+        );
+
+        String type = normalizeType(schema);
+        return switch (SchemaType.of(type)) {
+            case OBJECT -> {
+                Map<String, TypedSchema> properties = new LinkedHashMap<>();
+                if (schema.getProperties() != null) {
+                    schema.getProperties().forEach((name, property) -> properties.put(name, toTyped(property, resolution)));
+                }
+                yield new ObjectSchema(properties, schema.getRequired(), facets);
             }
-            out.put("allOf", allOf);
-        }
-        if (schema.getAnyOf() != null && !schema.getAnyOf().isEmpty()) {
-            List<Object> anyOf = new ArrayList<>();
-            for (Schema<?> s : schema.getAnyOf()) {
-                anyOf.add(toMap(s, resolvingRefs));
+            case ARRAY -> {
+                Schema<?> items = schema.getItems();
+                yield new ArraySchema(
+                        items == null ? null : toTyped(items, resolution),
+                        orUnset(schema.getMinItems()),
+                        orUnset(schema.getMaxItems()),
+                        facets
+                );
             }
-            out.put("anyOf", anyOf);
+            case STRING -> new StringSchema(orUnset(schema.getMinLength()), orUnset(schema.getMaxLength()), facets);
+            case INTEGER, NUMBER -> new NumericSchema(
+                    "integer".equals(type),
+                    schema.getMinimum() == null ? Double.NaN : schema.getMinimum().doubleValue(),
+                    schema.getMaximum() == null ? Double.NaN : schema.getMaximum().doubleValue(),
+                    facets
+            );
+            case BOOLEAN -> new BooleanSchema(facets);
+            case FILE, NULL, ANY -> new AnySchema(type, facets);
+        };
+    }
+
+    // Swagger declares its composition lists with the raw Schema type.
+    private List<TypedSchema> toTypedList(List<?> schemas, Resolution resolution) {
+        if (schemas == null || schemas.isEmpty()) {
+            return List.of();
         }
-        if (schema.getOneOf() != null && !schema.getOneOf().isEmpty()) {
-            List<Object> oneOf = new ArrayList<>();
-            for (Schema<?> s : schema.getOneOf()) {
-                oneOf.add(toMap(s, resolvingRefs));
-            }
-            out.put("oneOf", oneOf);
+        List<TypedSchema> out = new ArrayList<>(schemas.size());
+        for (Object s : schemas) {
+            out.add(toTyped((Schema<?>) s, resolution));
         }
-
         return out;
     }
 
+    private int orUnset(Integer value) {
+        return value == null ? TypedSchema.UNSET : value;
+    }
+
     private String normalizeType(Schema<?> schema) {
         if (schema == null) {
             return "object";
@@ -140,7 +156,7 @@ public class SchemaResolver {
         if (schema.getProperties() != null && !schema.getProperties().isEmpty()) {
             return "object";
         }
-        if (schema instanceof ArraySchema || schema.getItems() != null) {
+        if (schema instanceof io.swagger.v3.oas.models.media.ArraySchema || schema.getItems() != null) {
             return "array";
         }
         return null;
@@ -151,10 +167,23 @@ public class SchemaResolver {
         return idx >= 0 ? rawRef.substring(idx + 1) : rawRef;
     }
 
-    private Number asNumber(BigDecimal value) {
-        if (value.scale() <= 0) {
-            return value.longValue();
+    private static final class Resolution {
+
+        private final Set<String> refs = new TreeSet<>();
+        private final Set<SchemaKey> inProgress = new HashSet<>();
+        private int truncations;
+    }
+
+    private record SchemaKey(Schema<?> schema) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof SchemaKey key && key.schema == schema;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(schema);
         }
-        return value.doubleValue();
     }
 }
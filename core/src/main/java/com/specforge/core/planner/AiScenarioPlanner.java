@@ -3,18 +3,19 @@ package com.specforge.core.planner;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.specforge.core.context.ContextRuleIndex;
+import com.specforge.core.llm.LlmPrompt;
 import com.specforge.core.llm.LlmProvider;
+import com.specforge.core.llm.LlmTask;
 import com.specforge.core.model.ContextModel;
 import com.specforge.core.model.OperationModel;
+import com.specforge.core.prompt.PromptBudget;
 import com.specforge.core.prompt.PromptManager;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 public class AiScenarioPlanner {
 
@@ -27,8 +28,9 @@ public class AiScenarioPlanner {
     private final LlmProvider llmProvider;
     private final ObjectMapper objectMapper;
     private final PromptManager promptManager;
-    private final ContextModel contextModel;
+    private final ContextRuleIndex contextRuleIndex;
     private final Duration timeout;
+    private final PromptBudget promptBudget;
 
     public AiScenarioPlanner(LlmProvider llmProvider) {
         this(llmProvider, new PromptManager(), new ContextModel(), DEFAULT_TIMEOUT);
@@ -50,11 +52,20 @@ public class AiScenarioPlanner {
                              PromptManager promptManager,
                              ContextModel contextModel,
                              Duration timeout) {
+        this(llmProvider, promptManager, contextModel, timeout, PromptBudget.fromConfig());
+    }
+
+    public AiScenarioPlanner(LlmProvider llmProvider,
+                             PromptManager promptManager,
+                             ContextModel contextModel,
+                             Duration timeout,
+                             PromptBudget promptBudget) {
         this.llmProvider = llmProvider;
         this.objectMapper = new ObjectMapper();
         this.promptManager = promptManager != null ? promptManager : new PromptManager();
-        this.contextModel = contextModel != null ? contextModel : new ContextModel();
+        this.contextRuleIndex = ContextRuleIndex.build(contextModel);
         this.timeout = timeout != null ? timeout : DEFAULT_TIMEOUT;
+        this.promptBudget = promptBudget != null ? promptBudget : PromptBudget.defaults();
     }
 
     public List<TestScenario> plan(OperationModel operation) {
@@ -62,7 +73,7 @@ public class AiScenarioPlanner {
             return List.of();
         }
 
-        String prompt = buildPrompt(operation);
+        LlmPrompt prompt = buildPrompt(operation);
 
         try {
             String response = generateWithTimeout(prompt);
@@ -75,18 +86,26 @@ public class AiScenarioPlanner {
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             return List.of();
-        } catch (JsonProcessingException | ExecutionException | TimeoutException e) {
+        } catch (JsonProcessingException | ExecutionException e) {
             return List.of();
         }
     }
 
-    private String buildPrompt(OperationModel operation) {
+    private LlmPrompt buildPrompt(OperationModel operation) {
+        // The path's own rules always go in; what is left of the planner budget caps the rules borrowed by relevance.
+        LlmPrompt withPathRules = renderPrompt(operation, contextRuleIndex.select(operation, 0));
+        int extraTokens = promptBudget.tokensFor(LlmTask.SCENARIO_PLANNING)
+                - PromptBudget.estimateTokens(withPathRules.text());
+        return renderPrompt(operation, contextRuleIndex.select(operation, extraTokens));
+    }
+
+    private LlmPrompt renderPrompt(OperationModel operation, List<String> rules) {
         String method = safe(operation.getHttpMethod());
         String path = safe(operation.getPath());
         String description = safe(operation.getDescription());
-        String businessRules = formatBusinessRules(path);
+        String businessRules = formatBusinessRules(rules);
 
-        return promptManager.render(
+        return promptManager.renderPrompt(
                 TEMPLATE_NAME,
                 Map.of(
                         "httpMethod", method,
@@ -99,14 +118,8 @@ public class AiScenarioPlanner {
         );
     }
 
-    private String generateWithTimeout(String prompt)
-            throws InterruptedException, ExecutionException, TimeoutException {
-        CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> llmProvider.generate(prompt));
-        try {
-            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
-        } finally {
-            future.cancel(true);
-        }
+    private String generateWithTimeout(LlmPrompt prompt) throws InterruptedException, ExecutionException {
+        return llmProvider.generateAsync(prompt, timeout).toCompletableFuture().get();
     }
 
     private String safe(String value) {
@@ -130,8 +143,7 @@ public class AiScenarioPlanner {
         return null;
     }
 
-    private String formatBusinessRules(String path) {
-        List<String> rules = contextModel.getRulesForPath(path);
+    private String formatBusinessRules(List<String> rules) {
         if (rules.isEmpty()) {
             return "- No additional business rules provided.";
         }
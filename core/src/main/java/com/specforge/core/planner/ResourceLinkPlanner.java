@@ -0,0 +1,90 @@
+package com.specforge.core.planner;
+
+import com.specforge.core.model.OperationModel;
+import com.specforge.core.model.ResourceLinkModel;
+import com.specforge.core.model.ResponseModel;
+import com.specforge.core.model.schema.ObjectSchema;
+import com.specforge.core.model.schema.SchemaType;
+import com.specforge.core.model.schema.TypedSchema;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * Infers producer -> consumer links from the spec alone: a POST on a collection whose success response carries a
+ * scalar identifier feeds the matching path parameter of every operation under that collection's items. The
+ * parameter takes the response property of the same name, or "id" when the parameter is an identifier (petId, id).
+ */
+public class ResourceLinkPlanner {
+
+    private static final Pattern PATH_PARAM = Pattern.compile("\\{([^}/]+)}");
+
+    public void link(List<OperationModel> operations) {
+        Map<String, OperationModel> producersByPath = new LinkedHashMap<>();
+        for (OperationModel op : operations) {
+            if ("POST".equalsIgnoreCase(op.getHttpMethod()) && op.getOperationId() != null
+                    && op.getPath() != null && !op.getPath().endsWith("}")) {
+                producersByPath.putIfAbsent(normalize(op.getPath()), op);
+            }
+        }
+
+        for (OperationModel op : operations) {
+            List<ResourceLinkModel> links = new ArrayList<>();
+            String path = op.getPath() == null ? "" : op.getPath();
+            Matcher matcher = PATH_PARAM.matcher(path);
+            while (matcher.find()) {
+                String collection = path.substring(0, matcher.start());
+                if (!collection.endsWith("/")) {
+                    continue;
+                }
+                OperationModel producer = producersByPath.get(normalize(collection));
+                if (producer == null || producer == op) {
+                    continue;
+                }
+                String param = matcher.group(1);
+                String property = identifierProperty(producer, param);
+                if (property != null) {
+                    links.add(new ResourceLinkModel(param, producer.getOperationId(), property));
+                }
+            }
+            op.setResourceLinks(links);
+        }
+    }
+
+    private String identifierProperty(OperationModel producer, String param) {
+        ResponseModel response = producer.getPreferredResponse();
+        TypedSchema schema = response == null ? null : response.getTypedSchema();
+        if (!(schema instanceof ObjectSchema object)) {
+            return null;
+        }
+        List<String> candidates = new ArrayList<>();
+        candidates.add(param);
+        if (param.toLowerCase(Locale.ROOT).endsWith("id")) {
+            candidates.add("id");
+        }
+        for (String candidate : candidates) {
+            TypedSchema property = object.properties().get(candidate);
+            if (property != null && isScalar(property.type())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private boolean isScalar(SchemaType type) {
+        return type == SchemaType.STRING || type == SchemaType.INTEGER || type == SchemaType.NUMBER;
+    }
+
+    private String normalize(String path) {
+        String trimmed = path.trim();
+        while (trimmed.length() > 1 && trimmed.endsWith("/")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        return trimmed;
+    }
+}
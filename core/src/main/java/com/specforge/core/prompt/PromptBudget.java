@@ -0,0 +1,78 @@
+package com.specforge.core.prompt;
+
+import com.specforge.core.llm.LlmTask;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public final class PromptBudget {
+
+    private static final Map<LlmTask, Integer> DEFAULT_TOKENS = Map.of(
+            LlmTask.SCENARIO_PLANNING, 2_000,
+            LlmTask.PAYLOAD, 1_500,
+            LlmTask.METHOD_BODY, 2_500,
+            LlmTask.COMPILE_FIX, 3_000
+    );
+
+    private final Map<LlmTask, Integer> tokensByTask;
+
+    public PromptBudget(Map<LlmTask, Integer> tokensByTask) {
+        EnumMap<LlmTask, Integer> resolved = new EnumMap<>(DEFAULT_TOKENS);
+        if (tokensByTask != null) {
+            tokensByTask.forEach((task, tokens) -> {
+                if (task != null && tokens != null && tokens > 0) {
+                    resolved.put(task, tokens);
+                }
+            });
+        }
+        this.tokensByTask = resolved;
+    }
+
+    public static PromptBudget defaults() {
+        return new PromptBudget(Map.of());
+    }
+
+    public static PromptBudget fromConfig() {
+        Map<LlmTask, Integer> configured = new EnumMap<>(LlmTask.class);
+        for (LlmTask task : LlmTask.values()) {
+            String raw = firstNonBlank(
+                    System.getProperty("specforge.prompts.budget." + task.propertyKey()),
+                    System.getenv("SPECFORGE_PROMPT_BUDGET_" + task.envKey())
+            );
+            if (raw == null) {
+                continue;
+            }
+            try {
+                configured.put(task, Integer.parseInt(raw.trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid prompt budget for " + task.propertyKey() + ": " + raw, e);
+            }
+        }
+        return new PromptBudget(configured);
+    }
+
+    public int tokensFor(LlmTask task) {
+        return tokensByTask.getOrDefault(task, DEFAULT_TOKENS.get(LlmTask.METHOD_BODY));
+    }
+
+    public boolean fits(LlmTask task, String prompt) {
+        return estimateTokens(prompt) <= tokensFor(task);
+    }
+
+    public static int estimateTokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        // BPE tokenizers average roughly four characters per token on English prose, code and JSON.
+        return (text.length() + 3) / 4;
+    }
+
+    private static String firstNonBlank(String... candidates) {
+        for (String candidate : candidates) {
+            if (candidate != null && !candidate.isBlank()) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
@@ -3,6 +3,7 @@ package com.specforge.core.prompt;
 import com.github.mustachejava.DefaultMustacheFactory;
 import com.github.mustachejava.Mustache;
 import com.github.mustachejava.MustacheFactory;
+import com.specforge.core.llm.LlmPrompt;
 
 import java.io.StringWriter;
 import java.util.Map;
@@ -13,8 +14,10 @@ import java.util.concurrent.ConcurrentMap;
 public class PromptManager {
 
     private static final String PROMPTS_BASE_PATH = "prompts";
+    private static final String SYSTEM_SUFFIX = ".system";
     private final MustacheFactory mustacheFactory;
     private final ConcurrentMap<String, Mustache> cache;
+    private final ConcurrentMap<String, Boolean> systemTemplatePresence = new ConcurrentHashMap<>();
 
     public PromptManager() {
         this(new DefaultMustacheFactory(), new ConcurrentHashMap<>());
@@ -26,14 +29,33 @@ public class PromptManager {
     }
 
     public String render(String templateName, Map<String, Object> variables) {
+        return renderPrompt(templateName, variables).text();
+    }
+
+    public LlmPrompt renderPrompt(String templateName, Map<String, Object> variables) {
         String normalizedTemplateName = requireNonBlank(templateName, "templateName");
         Map<String, Object> context = variables == null ? Map.of() : variables;
-        Mustache mustache = cache.computeIfAbsent(normalizedTemplateName, this::compileTemplate);
+        // "<name>.system.mustache" holds the instructions shared by every call; keep per-call variables out of it.
+        String system = hasSystemTemplate(normalizedTemplateName)
+                ? execute(normalizedTemplateName + SYSTEM_SUFFIX, context)
+                : null;
+        return new LlmPrompt(system, execute(normalizedTemplateName, context));
+    }
+
+    private String execute(String templateName, Map<String, Object> context) {
+        Mustache mustache = cache.computeIfAbsent(templateName, this::compileTemplate);
         StringWriter writer = new StringWriter();
         mustache.execute(writer, context);
         return writer.toString().trim();
     }
 
+    private boolean hasSystemTemplate(String templateName) {
+        return systemTemplatePresence.computeIfAbsent(templateName, name -> {
+            String resourcePath = PROMPTS_BASE_PATH + "/" + name + SYSTEM_SUFFIX + ".mustache";
+            return PromptManager.class.getClassLoader().getResource(resourcePath) != null;
+        });
+    }
+
     private Mustache compileTemplate(String templateName) {
         String resourcePath = PROMPTS_BASE_PATH + "/" + templateName + ".mustache";
         Mustache compiled = mustacheFactory.compile(resourcePath);
@@ -0,0 +1,217 @@
+package com.specforge.core.prompt;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SchemaCompactor {
+
+    private static final int MIN_SHARED_SUBSCHEMA_CHARS = 80;
+    private static final int MAX_COLLAPSE_DEPTH = 8;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper canonicalMapper = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    public Map<String, Object> compact(Map<String, Object> schema, int maxTokens) {
+        if (schema == null || schema.isEmpty()) {
+            return schema;
+        }
+
+        Map<String, Object> pruned = asMap(prune(schema));
+        if (fits(pruned, maxTokens)) {
+            return pruned;
+        }
+
+        Map<String, Object> shared = shareRepeatedSubschemas(pruned);
+        if (fits(shared, maxTokens)) {
+            return shared;
+        }
+
+        Map<String, Object> collapsed = shared;
+        for (int depth = MAX_COLLAPSE_DEPTH; depth >= 1; depth--) {
+            collapsed = collapse(shared, depth);
+            if (fits(collapsed, maxTokens)) {
+                return collapsed;
+            }
+        }
+        return collapsed;
+    }
+
+    public int estimateTokens(Map<String, Object> schema) {
+        return PromptBudget.estimateTokens(toJson(schema, objectMapper));
+    }
+
+    private boolean fits(Map<String, Object> schema, int maxTokens) {
+        return maxTokens <= 0 || estimateTokens(schema) <= maxTokens;
+    }
+
+    private Object prune(Object node) {
+        if (node instanceof Map<?, ?> map) {
+            Map<String, Object> out = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                String key = String.valueOf(entry.getKey());
+                Object value = prune(entry.getValue());
+                if (!isRedundant(key, value)) {
+                    out.put(key, value);
+                }
+            }
+            return out;
+        }
+        if (node instanceof List<?> list) {
+            List<Object> out = new ArrayList<>(list.size());
+            for (Object item : list) {
+                out.add(prune(item));
+            }
+            return out;
+        }
+        return node;
+    }
+
+    private boolean isRedundant(String key, Object value) {
+        if (value == null) {
+            return true;
+        }
+        if (value instanceof Map<?, ?> map && map.isEmpty()) {
+            return !"items".equals(key);
+        }
+        if (value instanceof List<?> list && list.isEmpty()) {
+            return true;
+        }
+        return switch (key) {
+            // Zero lower bounds restate the JSON Schema defaults.
+            case "minLength", "minItems" -> value instanceof Number n && n.longValue() == 0L;
+            default -> false;
+        };
+    }
+
+    private Map<String, Object> shareRepeatedSubschemas(Map<String, Object> schema) {
+        Map<String, Integer> occurrences = new HashMap<>();
+        countSubschemas(schema, occurrences, true);
+
+        Map<String, String> refByCanonical = new LinkedHashMap<>();
+        Map<String, Object> defs = new LinkedHashMap<>();
+        Map<String, Object> rewritten = asMap(replaceShared(schema, occurrences, refByCanonical, defs, true));
+        if (defs.isEmpty()) {
+            return schema;
+        }
+
+        Map<String, Object> out = new LinkedHashMap<>(rewritten);
+        out.put("$defs", defs);
+        return out;
+    }
+
+    private void countSubschemas(Object node, Map<String, Integer> occurrences, boolean root) {
+        if (node instanceof Map<?, ?> map) {
+            if (!root) {
+                String canonical = toJson(map, canonicalMapper);
+                if (canonical.length() >= MIN_SHARED_SUBSCHEMA_CHARS) {
+                    occurrences.merge(canonical, 1, Integer::sum);
+                }
+            }
+            for (Object value : map.values()) {
+                countSubschemas(value, occurrences, false);
+            }
+        } else if (node instanceof List<?> list) {
+            for (Object item : list) {
+                countSubschemas(item, occurrences, false);
+            }
+        }
+    }
+
+    private Object replaceShared(Object node,
+                                 Map<String, Integer> occurrences,
+                                 Map<String, String> refByCanonical,
+                                 Map<String, Object> defs,
+                                 boolean root) {
+        if (node instanceof Map<?, ?> map) {
+            if (!root) {
+                String canonical = toJson(map, canonicalMapper);
+                if (occurrences.getOrDefault(canonical, 0) > 1) {
+                    String ref = refByCanonical.get(canonical);
+                    if (ref == null) {
+                        String name = "S" + (defs.size() + 1);
+                        ref = "#/$defs/" + name;
+                        refByCanonical.put(canonical, ref);
+                        // Reserve the slot before recursing so nested shared schemas get later names.
+                        defs.put(name, Map.of());
+                        defs.put(name, replaceChildren(map, occurrences, refByCanonical, defs));
+                    }
+                    return Map.of("$ref", ref);
+                }
+            }
+            return replaceChildren(map, occurrences, refByCanonical, defs);
+        }
+        if (node instanceof List<?> list) {
+            List<Object> out = new ArrayList<>(list.size());
+            for (Object item : list) {
+                out.add(replaceShared(item, occurrences, refByCanonical, defs, false));
+            }
+            return out;
+        }
+        return node;
+    }
+
+    private Map<String, Object> replaceChildren(Map<?, ?> map,
+                                                Map<String, Integer> occurrences,
+                                                Map<String, String> refByCanonical,
+                                                Map<String, Object> defs) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            out.put(String.valueOf(entry.getKey()),
+                    replaceShared(entry.getValue(), occurrences, refByCanonical, defs, false));
+        }
+        return out;
+    }
+
+    private Map<String, Object> collapse(Map<String, Object> schema, int maxDepth) {
+        return asMap(collapseNode(schema, 0, maxDepth));
+    }
+
+    private Object collapseNode(Object node, int depth, int maxDepth) {
+        if (node instanceof Map<?, ?> map) {
+            if (depth >= maxDepth && (map.containsKey("properties") || map.containsKey("items"))) {
+                Object type = map.get("type");
+                return Map.of("type", type == null ? (map.containsKey("items") ? "array" : "object") : type);
+            }
+            Map<String, Object> out = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                String key = String.valueOf(entry.getKey());
+                // Schema nesting grows through "properties"/"$defs" maps and "items"; keyword maps themselves are free.
+                boolean keywordContainer = "properties".equals(key) || "$defs".equals(key);
+                out.put(key, collapseNode(entry.getValue(), keywordContainer ? depth : depth + 1, maxDepth));
+            }
+            return out;
+        }
+        if (node instanceof List<?> list) {
+            List<Object> out = new ArrayList<>(list.size());
+            for (Object item : list) {
+                out.add(collapseNode(item, depth + 1, maxDepth));
+            }
+            return out;
+        }
+        return node;
+    }
+
+    private String toJson(Object value, ObjectMapper mapper) {
+        try {
+            return mapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize schema", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> asMap(Object value) {
+        if (value instanceof Map<?, ?> m) {
+            return (Map<String, Object>) m;
+        }
+        return Map.of();
+    }
+}
@@ -22,6 +22,9 @@ import java.util.stream.Stream;
 
 public class CompilationValidator {
 
+    // Looked up once; javac tasks are independent, so one validator can serve concurrent exports.
+    private final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
     public ValidationResult validate(Path generatedProjectDir) {
         Path testJavaRoot = generatedProjectDir.resolve("src/test/java");
         if (!Files.exists(testJavaRoot)) {
@@ -33,7 +36,6 @@ public class CompilationValidator {
             return new ValidationResult(true, List.of());
         }
 
-        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
         if (compiler == null) {
             return new ValidationResult(false, List.of(new ValidationError(
                     null,
@@ -148,6 +150,7 @@ public class CompilationValidator {
 
                         public class RequestSpecification {
                             public RequestSpecification accept(ContentType contentType) { return this; }
+                            public RequestSpecification pathParam(String name, Object value) { return this; }
                             public RequestSpecification queryParam(String name, Object value) { return this; }
                             public RequestSpecification formParam(String name, Object value) { return this; }
                             public RequestSpecification multiPart(String controlName, Object object) { return this; }
@@ -172,6 +175,14 @@ public class CompilationValidator {
                             public ValidatableResponse statusCode(int statusCode) { return this; }
                             public ValidatableResponse body(Object bodyMatcher) { return this; }
                             public ValidatableResponse body(String path, Object bodyMatcher) { return this; }
+                            public ExtractableResponse extract() { return new ExtractableResponse(); }
+                        }
+                        """),
+                new StubSource("io/restassured/response/ExtractableResponse.java", """
+                        package io.restassured.response;
+
+                        public class ExtractableResponse {
+                            public <T> T path(String path) { return null; }
                         }
                         """),
                 new StubSource("io/restassured/module/jsv/JsonSchemaValidator.java", """
@@ -226,6 +237,92 @@ public class CompilationValidator {
                             String value();
                         }
                         """),
+                new StubSource("org/junit/jupiter/api/Order.java", """
+                        package org.junit.jupiter.api;
+
+                        import java.lang.annotation.ElementType;
+                        import java.lang.annotation.Retention;
+                        import java.lang.annotation.RetentionPolicy;
+                        import java.lang.annotation.Target;
+
+                        @Retention(RetentionPolicy.RUNTIME)
+                        @Target({ElementType.METHOD})
+                        public @interface Order {
+                            int value();
+                        }
+                        """),
+                new StubSource("org/junit/jupiter/api/TestMethodOrder.java", """
+                        package org.junit.jupiter.api;
+
+                        import java.lang.annotation.ElementType;
+                        import java.lang.annotation.Retention;
+                        import java.lang.annotation.RetentionPolicy;
+                        import java.lang.annotation.Target;
+
+                        @Retention(RetentionPolicy.RUNTIME)
+                        @Target({ElementType.TYPE})
+                        public @interface TestMethodOrder {
+                            Class<? extends MethodOrderer> value();
+                        }
+                        """),
+                new StubSource("org/junit/jupiter/api/MethodOrderer.java", """
+                        package org.junit.jupiter.api;
+
+                        public interface MethodOrderer {
+                            class OrderAnnotation implements MethodOrderer {
+                            }
+                        }
+                        """),
+                new StubSource("org/junit/jupiter/api/Assumptions.java", """
+                        package org.junit.jupiter.api;
+
+                        public final class Assumptions {
+                            private Assumptions() {
+                            }
+
+                            public static void assumeTrue(boolean assumption, String message) {
+                            }
+                        }
+                        """),
+                new StubSource("org/junit/jupiter/params/ParameterizedTest.java", """
+                        package org.junit.jupiter.params;
+
+                        import java.lang.annotation.ElementType;
+                        import java.lang.annotation.Retention;
+                        import java.lang.annotation.RetentionPolicy;
+                        import java.lang.annotation.Target;
+
+                        @Retention(RetentionPolicy.RUNTIME)
+                        @Target({ElementType.METHOD})
+                        public @interface ParameterizedTest {
+                            String name() default "";
+                        }
+                        """),
+                new StubSource("org/junit/jupiter/params/provider/MethodSource.java", """
+                        package org.junit.jupiter.params.provider;
+
+                        import java.lang.annotation.ElementType;
+                        import java.lang.annotation.Retention;
+                        import java.lang.annotation.RetentionPolicy;
+                        import java.lang.annotation.Target;
+
+                        @Retention(RetentionPolicy.RUNTIME)
+                        @Target({ElementType.METHOD})
+                        public @interface MethodSource {
+                            String[] value() default "";
+                        }
+                        """),
+                new StubSource("org/junit/jupiter/params/provider/Arguments.java", """
+                        package org.junit.jupiter.params.provider;
+
+                        public interface Arguments {
+                            Object[] get();
+
+                            static Arguments of(Object... arguments) {
+                                return () -> arguments;
+                            }
+                        }
+                        """),
                 new StubSource("org/hamcrest/Matchers.java", """
                         package org.hamcrest;
 
@@ -0,0 +1,94 @@
+package com.specforge.core.context;
+
+import com.specforge.core.model.ContextModel;
+import com.specforge.core.model.OperationModel;
+import com.specforge.core.model.RequestBodyModel;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContextRuleIndexTest {
+
+    @Test
+    void keepsPathRulesFirstAndAddsRelevantSectionRules() {
+        ContextModel context = new ContextModel();
+        context.addRule("/payments", "Amount must be positive");
+        context.addSectionRule("Pagos", "Currency must be an ISO 4217 code");
+        context.addSectionRule("Usuarios", "Nickname is unique per tenant");
+
+        OperationModel operation = operation("/payments", "createPayment", Map.of(
+                "type", "object",
+                "properties", Map.of("currency", Map.of("type", "string"))
+        ));
+
+        List<String> selected = ContextRuleIndex.build(context, 5, 400).select(operation);
+
+        assertEquals("Amount must be positive", selected.getFirst());
+        assertTrue(selected.contains("Currency must be an ISO 4217 code"));
+        assertFalse(selected.contains("Nickname is unique per tenant"));
+    }
+
+    @Test
+    void capsSelectionByTopKAndTokenBudget() {
+        ContextModel context = new ContextModel();
+        for (int i = 0; i < 20; i++) {
+            context.addSectionRule("Orders", "Order rule number " + i + " about order totals");
+        }
+        OperationModel operation = operation("/orders", "listOrders", null);
+
+        assertEquals(3, ContextRuleIndex.build(context, 3, 400).select(operation).size());
+        assertEquals(1, ContextRuleIndex.build(context, 10, 15).select(operation).size());
+    }
+
+    @Test
+    void neverTruncatesTheRulesOfTheOperationsOwnPath() {
+        ContextModel context = new ContextModel();
+        context.addRule("/orders", "Order totals must equal the sum of their line items after discounts");
+        context.addRule("/orders", "Orders over the credit limit must be rejected with a 422 response");
+        context.addSectionRule("Orders", "Order rule about order totals");
+        OperationModel operation = operation("/orders", "listOrders", null);
+
+        List<String> selected = ContextRuleIndex.build(context, 10, 1).select(operation);
+
+        assertEquals(List.of(
+                "Order totals must equal the sum of their line items after discounts",
+                "Orders over the credit limit must be rejected with a 422 response"
+        ), selected);
+    }
+
+    @Test
+    void tokenizerSplitsCamelCaseFoldsAccentsAndPlurals() {
+        assertEquals(List.of("user", "email", "validacion"), ContextRuleIndex.tokenize("userEmails de la validación"));
+    }
+
+    @Test
+    void pluralPathsMatchSingularRuleTerms() {
+        ContextModel context = new ContextModel();
+        context.addSectionRule("Permisos", "Each role needs a unique name");
+        context.addSectionRule("Pagos", "Refunds need an approved payment");
+
+        List<String> selected = ContextRuleIndex.build(context, 5, 400).select(operation("/roles", "listRoles", null));
+
+        assertEquals(List.of("Each role needs a unique name"), selected);
+        assertEquals(List.of("role", "category", "address", "box", "match"),
+                ContextRuleIndex.tokenize("roles categories addresses boxes matches"));
+    }
+
+    private OperationModel operation(String path, String operationId, Map<String, Object> bodySchema) {
+        OperationModel operation = new OperationModel();
+        operation.setPath(path);
+        operation.setOperationId(operationId);
+        operation.setHttpMethod("POST");
+        if (bodySchema != null) {
+            RequestBodyModel body = new RequestBodyModel();
+            body.setSchema(bodySchema);
+            operation.setRequestBody(body);
+        }
+        return operation;
+    }
+}
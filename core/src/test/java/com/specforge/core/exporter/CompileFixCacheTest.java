@@ -0,0 +1,119 @@
+package com.specforge.core.exporter;
+
+import com.specforge.core.validator.CompilationValidator.ValidationError;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompileFixCacheTest {
+
+    private static final Path FILE = Path.of("UsersApiTest.java");
+
+    @Test
+    void addsTheImportOfAKnownTypeOnlyOnce() {
+        String source = """
+                package com.generated.api;
+
+                import org.junit.jupiter.api.Test;
+
+                class A {
+                    void a() {
+                        Assumptions.assumeTrue(true, "x");
+                    }
+                }
+                """;
+        ValidationError error = new ValidationError(FILE, 7,
+                "cannot find symbol\n  symbol:   variable Assumptions\n  location: class com.generated.api.A");
+
+        CompileFixCache.Repair repair = new CompileFixCache().repair(source, List.of(error, error));
+
+        assertTrue(repair.source().contains(
+                "import org.junit.jupiter.api.Test;\nimport org.junit.jupiter.api.Assumptions;\n"));
+        assertEquals(1, repair.source().split("import org.junit.jupiter.api.Assumptions;", -1).length - 1);
+    }
+
+    @Test
+    void replaysALearnedLineEditForTheSameSignatureWithOtherLiterals() {
+        CompileFixCache cache = new CompileFixCache();
+        String message = "')' expected";
+        cache.learn(
+                "a();\n    check(\"/users\";\nb();\n",
+                List.of(new ValidationError(FILE, 2, message)),
+                "a();\n    check(\"/users\");\nb();\n",
+                List.of()
+        );
+
+        CompileFixCache.Repair repair = cache.repair(
+                "x();\n        check(\"/orders\";\n", List.of(new ValidationError(FILE, 2, message)));
+
+        assertEquals("x();\n        check(\"/orders\");\n", repair.source());
+    }
+
+    @Test
+    void replaysALearnedEditWithTheNumbersOfTheLineItFixes() {
+        CompileFixCache cache = new CompileFixCache();
+        String message = "')' expected";
+        cache.learn(
+                "    .statusCode(404\n",
+                List.of(new ValidationError(FILE, 1, message)),
+                "    .statusCode(404);\n",
+                List.of()
+        );
+
+        CompileFixCache.Repair repair = cache.repair(
+                "    .statusCode(201\n", List.of(new ValidationError(FILE, 1, message)));
+
+        assertEquals("    .statusCode(201);\n", repair.source());
+    }
+
+    @Test
+    void replaysALearnedEditInAnotherGeneratedClass() {
+        CompileFixCache cache = new CompileFixCache();
+        cache.learn(
+                "    .then().statuscode(200);\n",
+                List.of(new ValidationError(FILE, 1, "cannot find symbol\n  symbol:   method statuscode(int)\n"
+                        + "  location: class com.generated.api.UsersApiTest")),
+                "    .then().statusCode(200);\n",
+                List.of()
+        );
+
+        CompileFixCache.Repair repair = cache.repair("    .then().statuscode(404);\n", List.of(
+                new ValidationError(Path.of("OrdersApiTest.java"), 1, "cannot find symbol\n"
+                        + "  symbol:   method statuscode(int)\n  location: class com.generated.api.OrdersApiTest")));
+
+        assertEquals("    .then().statusCode(404);\n", repair.source());
+    }
+
+    @Test
+    void doesNotLearnAnEditThatIntroducesItsOwnLiteral() {
+        CompileFixCache cache = new CompileFixCache();
+        String message = "')' expected";
+        cache.learn(
+                "    .statusCode(\n",
+                List.of(new ValidationError(FILE, 1, message)),
+                "    .statusCode(200);\n",
+                List.of()
+        );
+
+        assertNull(cache.repair("    .statusCode(\n", List.of(new ValidationError(FILE, 1, message))));
+    }
+
+    @Test
+    void stopsApplyingAFixOnceItFailsMoreOftenThanItWorks() {
+        CompileFixCache cache = new CompileFixCache();
+        String source = "class A {\n    List<String> names;\n}\n";
+        ValidationError error = new ValidationError(FILE, 2,
+                "cannot find symbol\n  symbol:   class List\n  location: class A");
+
+        CompileFixCache.Repair repair = cache.repair(source, List.of(error));
+        cache.recordOutcome(repair, List.of(new ValidationError(FILE, 3,
+                "cannot find symbol\n  symbol:   class List\n  location: class A")));
+
+        assertNull(cache.repair(source, List.of(error)));
+    }
+}
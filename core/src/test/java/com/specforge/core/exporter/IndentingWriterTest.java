@@ -0,0 +1,48 @@
+package com.specforge.core.exporter;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IndentingWriterTest {
+
+    @Test
+    void matchesSplitBasedIndentationWhateverTheChunking() throws IOException {
+        List<String> inputs = List.of(
+                "",
+                "\n\n",
+                "   ",
+                "a",
+                "@Test\nvoid a() {\n    x();\n}\n\n",
+                "\nleading\n\n  \nmiddle\r\nwindows\rold-mac\n\n\n",
+                "a\n}\n\n@Test\nvoid b() {}\n\n"
+        );
+
+        for (String input : inputs) {
+            for (int chunkSize = 1; chunkSize <= Math.max(1, input.length()); chunkSize++) {
+                StringWriter out = new StringWriter();
+                IndentingWriter writer = new IndentingWriter(out, 4);
+                for (int i = 0; i < input.length(); i += chunkSize) {
+                    writer.write(input.substring(i, Math.min(input.length(), i + chunkSize)));
+                }
+                writer.finish();
+
+                assertEquals(splitIndent(input, 4), out.toString(), "input=" + input.replace("\n", "\\n"));
+            }
+        }
+    }
+
+    // The exporter's original indent(): split on \R, blank lines as bare newlines.
+    private static String splitIndent(String text, int spaces) {
+        String pad = " ".repeat(spaces);
+        StringBuilder sb = new StringBuilder();
+        for (String line : text.split("\\R")) {
+            sb.append(line.isBlank() ? "\n" : pad + line + "\n");
+        }
+        return sb.toString();
+    }
+}
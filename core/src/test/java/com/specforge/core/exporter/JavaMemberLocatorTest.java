@@ -0,0 +1,69 @@
+package com.specforge.core.exporter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JavaMemberLocatorTest {
+
+    private static final String SOURCE = """
+            package com.generated.api;
+
+            public class UsersApiTest {
+
+                private static String token;
+
+                @Test
+                void getUser_happyPath() {
+                    given().get("/users/1").then().statusCode(200)
+                }
+            }
+            """;
+
+    @Test
+    void locatesTheMemberThatEnclosesAnErrorLine() {
+        List<JavaMemberLocator.LineRange> members = JavaMemberLocator.enclosingMembers(SOURCE, List.of(9L));
+
+        assertEquals(List.of(new JavaMemberLocator.LineRange(6, 9)), members);
+    }
+
+    @Test
+    void acceptsOnlyAReplacementForTheSameSingleMember() {
+        JavaMemberLocator.LineRange member = new JavaMemberLocator.LineRange(6, 9);
+
+        assertTrue(JavaMemberLocator.replaces(SOURCE, member, """
+                @Test
+                void getUser_happyPath() {
+                    given().get("/users/1").then().statusCode(200);
+                }
+                """));
+        assertFalse(JavaMemberLocator.replaces(SOURCE, member, """
+                @Test
+                void getUser_renamed() {
+                    given().get("/users/1").then().statusCode(200);
+                }
+                """));
+        assertFalse(JavaMemberLocator.replaces(SOURCE, member, """
+                void getUser_happyPath() {
+                    given().get("/users/1").then().statusCode(200);
+                }
+                }
+                """));
+        assertFalse(JavaMemberLocator.replaces(SOURCE, member, """
+                void getUser_happyPath() {
+                    given().get("/users/1").then().statusCode(200);
+                }
+
+                void extra() {
+                }
+                """));
+        assertFalse(JavaMemberLocator.replaces(SOURCE, member, """
+                void getUser_happyPath() {
+                    given().get("/users/1").then().statusCode(200);
+                """));
+    }
+}
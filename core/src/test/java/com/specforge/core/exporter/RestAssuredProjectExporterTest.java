@@ -1,6 +1,10 @@
 package com.specforge.core.exporter;
 
+import com.specforge.core.generator.GenerationJournal;
+import com.specforge.core.generator.TestPlanBuilder;
 import com.specforge.core.llm.LlmProvider;
+import com.specforge.core.llm.LlmRouter;
+import com.specforge.core.llm.LlmTask;
 import com.specforge.core.model.ApiSpecModel;
 import com.specforge.core.model.OperationModel;
 import com.specforge.core.model.ParamLocation;
@@ -9,17 +13,28 @@ import com.specforge.core.model.RequestBodyModel;
 import com.specforge.core.model.ResponseModel;
 import com.specforge.core.model.TestCaseModel;
 import com.specforge.core.model.TestType;
+import com.specforge.core.model.schema.TypedSchema;
+import com.specforge.core.planner.AiScenarioPlanner;
+import com.specforge.core.prompt.PromptBudget;
+import com.specforge.core.validator.CompilationValidator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class RestAssuredProjectExporterTest {
@@ -172,6 +187,502 @@ class RestAssuredProjectExporterTest {
         assertFalse(generated.contains(".body(;"));
     }
 
+    @Test
+    void selfHealsOnlyTheFailingMethodWhenTheClassExceedsThePromptBudget() throws IOException {
+        TestCaseModel testCase = new TestCaseModel();
+        testCase.setType(TestType.HAPPY_PATH);
+        testCase.setName("getUser_snippetHealing");
+        testCase.setExpectedStatus(200);
+
+        OperationModel operation = new OperationModel();
+        operation.setOperationId("getUser");
+        operation.setHttpMethod("GET");
+        operation.setPath("/users/{id}");
+        operation.setTags(List.of("users"));
+        operation.setTestCases(List.of(testCase));
+
+        ApiSpecModel model = new ApiSpecModel();
+        model.setOperations(List.of(operation));
+
+        List<String> fixPrompts = new CopyOnWriteArrayList<>();
+        LlmProvider llmProvider = prompt -> {
+            if (prompt.contains("Tu codigo anterior genero este error de compilacion")) {
+                fixPrompts.add(prompt);
+                String marker = "Codigo anterior:\n";
+                return prompt.substring(prompt.indexOf(marker) + marker.length()).replace(".body(;", ";");
+            }
+            return """
+                    requestSpec
+                        .when()
+                            .request("GET", "/users/1")
+                        .then()
+                            .statusCode(200)
+                            .body(;
+                    """;
+        };
+
+        // Too small for the whole class, enough for the failing method.
+        PromptBudget tinyFixBudget = new PromptBudget(Map.of(LlmTask.COMPILE_FIX, 350));
+        Path journalFile = tempDir.resolve("journal.jsonl");
+        try (GenerationJournal journal = GenerationJournal.open(journalFile, false)) {
+            new RestAssuredProjectExporter(LlmRouter.single(llmProvider), tinyFixBudget).export(
+                    model,
+                    tempDir,
+                    "com.generated.api",
+                    GenerationMode.EMBEDDED,
+                    "http://localhost:8080",
+                    journal
+            );
+        }
+
+        String generated = Files.readString(tempDir.resolve("src/test/java/com/generated/api/UsersApiTest.java"));
+        String sentCode = fixPrompts.getFirst().substring(fixPrompts.getFirst().indexOf("Codigo anterior:"));
+
+        assertTrue(sentCode.contains("void getUser_snippetHealing()"));
+        assertFalse(sentCode.contains("package com.generated.api"));
+        String header = fixPrompts.getFirst().substring(0, fixPrompts.getFirst().indexOf("Codigo anterior:"));
+        assertTrue(header.contains("package com.generated.api;"));
+        assertTrue(header.contains("public class UsersApiTest {"));
+        assertFalse(header.contains("static void setup()"));
+        assertTrue(generated.startsWith("package com.generated.api;"));
+        assertTrue(generated.contains(".statusCode(200)"));
+        assertFalse(generated.contains(".body(;"));
+        // The checkpointed method is the one that failed to compile; resuming must not replay it.
+        try (GenerationJournal journal = GenerationJournal.open(journalFile, true)) {
+            assertEquals(0, journal.resumedEntries());
+        }
+    }
+
+    @Test
+    void usesTheDeterministicBodyWhenTheMethodBodyPromptExceedsItsBudget() throws IOException {
+        AtomicInteger llmCalls = new AtomicInteger();
+        LlmProvider llmProvider = prompt -> {
+            llmCalls.incrementAndGet();
+            return "requestSpec.when().request(\"GET\", \"/ping\").then().statusCode(200);";
+        };
+
+        PromptBudget tinyBodyBudget = new PromptBudget(Map.of(LlmTask.METHOD_BODY, 16));
+        new RestAssuredProjectExporter(LlmRouter.single(llmProvider), tinyBodyBudget).export(
+                specWith(taggedOperation("listUsers", "users")),
+                tempDir, "com.generated.api", GenerationMode.EMBEDDED, "http://localhost:8080");
+
+        String generated = Files.readString(tempDir.resolve("src/test/java/com/generated/api/UsersApiTest.java"));
+        assertEquals(0, llmCalls.get());
+        assertFalse(generated.contains("\"/ping\""));
+        assertTrue(generated.contains(".statusCode(200)"));
+    }
+
+    @Test
+    void checkpointsAFallbackBodyMethodWhosePayloadCameFromTheModel() throws IOException {
+        LlmProvider noBody = prompt -> "";
+        LlmProvider payload = prompt -> "{\"name\":\"from-the-model\"}";
+        OperationModel createUser = taggedOperation("createUser", "users");
+        createUser.setHttpMethod("POST");
+        createUser.setRequestBody(sampleRequestBody());
+
+        Path journalFile = tempDir.resolve("journal.jsonl");
+        try (GenerationJournal journal = GenerationJournal.open(journalFile, false)) {
+            new RestAssuredProjectExporter(new LlmRouter(noBody, Map.of(LlmTask.PAYLOAD, payload))).export(
+                    specWith(createUser), tempDir, "com.generated.api", GenerationMode.EMBEDDED,
+                    "http://localhost:8080", journal);
+        }
+
+        try (GenerationJournal journal = GenerationJournal.open(journalFile, true)) {
+            assertEquals(1, journal.resumedEntries());
+        }
+    }
+
+    @Test
+    void repairsKnownCompileErrorSignaturesWithoutAskingTheLlm() throws IOException {
+        List<String> fixPrompts = new CopyOnWriteArrayList<>();
+        LlmProvider llmProvider = prompt -> {
+            if (prompt.contains("Tu codigo anterior genero este error de compilacion")) {
+                fixPrompts.add(prompt);
+                return "";
+            }
+            return """
+                    requestSpec
+                        .log().all()
+                        .when()
+                            .get("/users")
+                        .then()
+                            .statusCode(200);
+                    """;
+        };
+
+        new RestAssuredProjectExporter(llmProvider).export(
+                specWith(taggedOperation("listUsers", "users")),
+                tempDir,
+                "com.generated.api",
+                GenerationMode.EMBEDDED,
+                "http://localhost:8080"
+        );
+
+        String generated = Files.readString(tempDir.resolve("src/test/java/com/generated/api/UsersApiTest.java"));
+        assertTrue(fixPrompts.isEmpty());
+        assertTrue(generated.contains(".request(\"GET\", \"/users\")"));
+        assertFalse(generated.contains(".log()"));
+    }
+
+    @Test
+    void reExportSkipsUnchangedClassesAndDeletesStaleOnes() throws IOException {
+        AtomicInteger calls = new AtomicInteger();
+        LlmProvider llmProvider = prompt -> {
+            calls.incrementAndGet();
+            return "requestSpec.when().request(\"GET\", \"/ping\").then().statusCode(200);";
+        };
+        RestAssuredProjectExporter exporter = new RestAssuredProjectExporter(llmProvider);
+
+        exporter.export(specWith(taggedOperation("getUser", "users"), taggedOperation("getOrder", "orders")),
+                tempDir, "com.generated.api", GenerationMode.EMBEDDED, "http://localhost:8080");
+        assertEquals(2, calls.get());
+
+        exporter.export(specWith(taggedOperation("getUser", "users"), taggedOperation("getOrder", "orders")),
+                tempDir, "com.generated.api", GenerationMode.EMBEDDED, "http://localhost:8080");
+        assertEquals(2, calls.get());
+
+        exporter.export(specWith(taggedOperation("getUserById", "users")),
+                tempDir, "com.generated.api", GenerationMode.EMBEDDED, "http://localhost:8080");
+        assertEquals(3, calls.get());
+
+        Path pkgDir = tempDir.resolve("src/test/java/com/generated/api");
+        assertTrue(Files.readString(pkgDir.resolve("UsersApiTest.java")).contains("getUserById_happyPath"));
+        assertFalse(Files.exists(pkgDir.resolve("OrdersApiTest.java")));
+    }
+
+    @Test
+    void enrichSwapsInClassesThatCompileAndKeepsTheDeterministicOnesOtherwise() throws IOException {
+        new RestAssuredProjectExporter((LlmProvider) null).export(
+                specWith(taggedOperation("getUser", "users"), taggedOperation("getOrder", "orders")),
+                tempDir, "com.generated.api", GenerationMode.EMBEDDED, "http://localhost:8080");
+        Path pkgDir = tempDir.resolve("src/test/java/com/generated/api");
+        String deterministicOrders = Files.readString(pkgDir.resolve("OrdersApiTest.java"));
+
+        LlmProvider llmProvider = prompt -> prompt.contains("getUser")
+                ? "requestSpec.when().request(\"GET\", \"/ping\").then().statusCode(200);"
+                : "requestSpec.when(;";
+        List<Path> swapped = new CopyOnWriteArrayList<>();
+        int enriched = new RestAssuredProjectExporter(llmProvider)
+                .enrich(specWith(taggedOperation("getUser", "users"), taggedOperation("getOrder", "orders")),
+                        tempDir, "com.generated.api", GenerationMode.EMBEDDED, null, swapped::add);
+
+        assertEquals(1, enriched);
+        assertEquals(List.of(pkgDir.resolve("UsersApiTest.java")), swapped);
+        assertTrue(Files.readString(pkgDir.resolve("UsersApiTest.java")).contains("request(\"GET\", \"/ping\")"));
+        assertEquals(deterministicOrders, Files.readString(pkgDir.resolve("OrdersApiTest.java")));
+        assertFalse(Files.exists(tempDir.resolve(".specforge/staging")));
+    }
+
+    @Test
+    void planAndExportWritesFinishedTagClassesWhilePlanningContinues() {
+        Path usersClass = tempDir.resolve("src/test/java/com/generated/api/UsersApiTest.java");
+        AtomicBoolean usersWrittenBeforeOrdersPlanned = new AtomicBoolean();
+        AiScenarioPlanner planner = new AiScenarioPlanner(prompt -> {
+            if (prompt.contains("/orders")) {
+                long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+                while (!Files.exists(usersClass) && System.nanoTime() < deadline) {
+                    Thread.onSpinWait();
+                }
+                usersWrittenBeforeOrdersPlanned.set(Files.exists(usersClass));
+            }
+            return "[]";
+        }, Duration.ofSeconds(10));
+        ApiSpecModel parsed = specWith(untestedOperation("getUser", "users"), untestedOperation("getOrder", "orders"));
+
+        ApiSpecModel plan = new RestAssuredProjectExporter((LlmProvider) null).planAndExport(
+                parsed, new TestPlanBuilder(planner), tempDir, "com.generated.api", GenerationMode.EMBEDDED,
+                "http://localhost:8080", null);
+
+        assertTrue(usersWrittenBeforeOrdersPlanned.get());
+        assertEquals("getOrder_happyPath", plan.getOperations().get(1).getTestCases().getFirst().getName());
+        assertTrue(Files.exists(tempDir.resolve("src/test/java/com/generated/api/OrdersApiTest.java")));
+    }
+
+    @Test
+    void aClassWhoseRenderFailsHalfwayKeepsItsPreviousContent() throws IOException {
+        List<OperationModel> ops = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            ops.add(taggedOperation("listUsers" + i, "users"));
+        }
+        RestAssuredProjectExporter exporter = new RestAssuredProjectExporter((LlmProvider) null);
+        exporter.export(specWith(ops.toArray(OperationModel[]::new)), tempDir, "com.generated.api",
+                GenerationMode.EMBEDDED, "http://localhost:8080");
+        Path classFile = tempDir.resolve("src/test/java/com/generated/api/UsersApiTest.java");
+        String previous = Files.readString(classFile);
+
+        // Forty methods are past the first streamed chunk, so the failure hits a class already partly written.
+        OperationModel broken = taggedOperation("createUser", "users");
+        broken.setRequestBody(new RequestBodyModel() {
+            @Override
+            public TypedSchema getTypedSchema() {
+                throw new IllegalStateException("schema exploded");
+            }
+        });
+        ops.add(broken);
+        assertThrows(RuntimeException.class, () -> exporter.export(specWith(ops.toArray(OperationModel[]::new)),
+                tempDir, "com.generated.api", GenerationMode.EMBEDDED, "http://localhost:8080"));
+
+        assertEquals(previous, Files.readString(classFile));
+        try (Stream<Path> files = Files.list(classFile.getParent())) {
+            assertEquals(List.of(classFile), files.toList());
+        }
+    }
+
+    @Test
+    void rendersMethodsWithTemplatesOverriddenFromADirectory() throws IOException {
+        Path templateDir = Files.createDirectories(tempDir.resolve("house-style"));
+        Files.writeString(templateDir.resolve("test-method.mustache"), """
+                @Test
+                // {{testType}} scenario
+                void {{methodName}}() {
+                    RequestSpecification requestSpec = given()
+                {{requestSpec}}
+                    ;
+                {{body}}
+                }
+                """);
+        Path output = tempDir.resolve("out");
+
+        new RestAssuredProjectExporter(LlmRouter.single(null),
+                ExportOptions.defaults().withTemplates(TestTemplates.fromDirectory(templateDir))).export(
+                specWith(taggedOperation("getUser", "users")),
+                output, "com.generated.api", GenerationMode.EMBEDDED, "http://localhost:8080");
+
+        String generated = Files.readString(output.resolve("src/test/java/com/generated/api/UsersApiTest.java"));
+        assertTrue(generated.contains("    // HAPPY_PATH scenario\n    void getUser_happyPath() {"));
+        assertFalse(generated.contains("@DisplayName(\"GET"));
+        assertTrue(generated.contains(".request(\"GET\", \"/users\")"));
+        assertTrue(generated.startsWith("package com.generated.api;"));
+    }
+
+    @Test
+    void editedTemplatesAreRecompiledAndNotServedFromTheJournal() throws IOException {
+        Path templateDir = Files.createDirectories(tempDir.resolve("house-style"));
+        Path methodTemplate = templateDir.resolve("test-method.mustache");
+        Path journalFile = tempDir.resolve("journal.jsonl");
+        Path output = tempDir.resolve("out");
+        Path classFile = output.resolve("src/test/java/com/generated/api/UsersApiTest.java");
+        AtomicInteger llmCalls = new AtomicInteger();
+        LlmProvider llmProvider = prompt -> {
+            llmCalls.incrementAndGet();
+            return "requestSpec.when().request(\"GET\", \"/users\").then().statusCode(200);";
+        };
+
+        for (String version : List.of("v1", "v2")) {
+            Files.writeString(methodTemplate, """
+                    @Test
+                    // house style %s
+                    void {{methodName}}() {
+                        RequestSpecification requestSpec = given()
+                    {{requestSpec}}
+                        ;
+                    {{body}}
+                    }
+                    """.formatted(version));
+            try (GenerationJournal journal = GenerationJournal.open(journalFile, true)) {
+                new RestAssuredProjectExporter(LlmRouter.single(llmProvider),
+                        ExportOptions.defaults().withTemplates(TestTemplates.fromDirectory(templateDir))).export(
+                        specWith(taggedOperation("getUser", "users")),
+                        output, "com.generated.api", GenerationMode.EMBEDDED, "http://localhost:8080", journal);
+            }
+            assertTrue(Files.readString(classFile).contains("// house style " + version));
+        }
+        assertEquals(2, llmCalls.get());
+    }
+
+    @Test
+    void splitsOversizedTagClassesIntoPartsAndCleansUpTheOldLayout() throws IOException {
+        ApiSpecModel spec = specWith(
+                taggedOperation("listUsers", "users"),
+                taggedOperation("getUser", "users"),
+                taggedOperation("deleteUser", "users")
+        );
+        Path pkgDir = tempDir.resolve("src/test/java/com/generated/api");
+
+        new RestAssuredProjectExporter(LlmRouter.single(null),
+                ExportOptions.defaults().withSplitPolicy(new ClassSplitPolicy(2, 0))).export(
+                spec, tempDir, "com.generated.api", GenerationMode.EMBEDDED, "http://localhost:8080");
+
+        String part1 = Files.readString(pkgDir.resolve("UsersApiTestPart1.java"));
+        String part2 = Files.readString(pkgDir.resolve("UsersApiTestPart2.java"));
+        assertTrue(part1.contains("public class UsersApiTestPart1 {"));
+        assertTrue(part1.contains("void listUsers_happyPath()") && part1.contains("void getUser_happyPath()"));
+        assertTrue(part2.contains("void deleteUser_happyPath()"));
+        assertFalse(Files.exists(pkgDir.resolve("UsersApiTest.java")));
+
+        new RestAssuredProjectExporter(LlmRouter.single(null), ExportOptions.defaults()).export(
+                spec, tempDir, "com.generated.api", GenerationMode.EMBEDDED, "http://localhost:8080");
+
+        assertTrue(Files.exists(pkgDir.resolve("UsersApiTest.java")));
+        assertFalse(Files.exists(pkgDir.resolve("UsersApiTestPart1.java")));
+        assertFalse(Files.exists(pkgDir.resolve("UsersApiTestPart2.java")));
+    }
+
+    @Test
+    void multiModuleExportWritesOneSubprojectPerTagAndASharedSupportModule() throws IOException {
+        OperationModel getUser = taggedOperation("getUser", "users");
+        getUser.setPreferredResponse(sampleResponseModel(200));
+
+        new RestAssuredProjectExporter().export(
+                specWith(getUser, taggedOperation("getOrder", "Order Items")),
+                tempDir, "com.generated.api", GenerationMode.MULTI_MODULE, "http://localhost:8080");
+
+        String settings = Files.readString(tempDir.resolve("settings.gradle"));
+        assertTrue(settings.contains("include 'support'"));
+        assertTrue(settings.contains("include 'order-items-tests'"));
+        assertTrue(settings.contains("include 'users-tests'"));
+        assertTrue(Files.readString(tempDir.resolve("gradle.properties")).contains("org.gradle.parallel=true"));
+        assertTrue(Files.readString(tempDir.resolve("users-tests/build.gradle")).contains("project(':support')"));
+        assertTrue(Files.exists(tempDir.resolve("users-tests/src/test/java/com/generated/api/UsersApiTest.java")));
+        assertTrue(Files.exists(tempDir.resolve("order-items-tests/src/test/java/com/generated/api/OrderItemsApiTest.java")));
+        assertTrue(Files.exists(tempDir.resolve("support/src/main/resources/specforge.properties")));
+        assertTrue(Files.exists(tempDir.resolve("support/src/main/resources/schemas/getUser_200.json")));
+        assertFalse(Files.exists(tempDir.resolve("src")));
+    }
+
+    @Test
+    void parameterizedStyleCollapsesTheSuccessScenariosOfAnOperationIntoOneMethod() throws IOException {
+        OperationModel getUser = taggedOperation("getUser", "users");
+        getUser.setPreferredResponse(sampleResponseModel(200));
+        getUser.setTestCases(List.of(
+                testCase(TestType.HAPPY_PATH, "getUser_happyPath", 200),
+                testCase(TestType.BOUNDARY, "Boundary \"maximum\" id", 200),
+                testCase(TestType.NEGATIVE, "getUser_unknownId", 404),
+                testCase(TestType.SECURITY, "getUser_missingToken", 401)
+        ));
+        AtomicInteger llmCalls = new AtomicInteger();
+        LlmProvider llmProvider = prompt -> {
+            llmCalls.incrementAndGet();
+            return "requestSpec.when().request(\"GET\", \"/ping\").then().statusCode(200);";
+        };
+
+        new RestAssuredProjectExporter(LlmRouter.single(llmProvider),
+                ExportOptions.defaults().withTestStyle(TestStyle.PARAMETERIZED)).export(
+                specWith(getUser, taggedOperation("listUsers", "users")),
+                tempDir, "com.generated.api", GenerationMode.EMBEDDED, "http://localhost:8080");
+
+        String generated = Files.readString(tempDir.resolve("src/test/java/com/generated/api/UsersApiTest.java"));
+        assertTrue(generated.contains("import org.junit.jupiter.params.ParameterizedTest;"));
+        assertTrue(generated.contains("@MethodSource(\"getUser_cases\")"));
+        assertTrue(generated.contains("void getUser_scenarios(String scenario, String type, int expectedStatus) {"));
+        assertTrue(generated.contains(".statusCode(expectedStatus)"));
+        assertTrue(generated.contains("Arguments.of(\"getUser_happyPath\", \"HAPPY_PATH\", 200),"));
+        assertTrue(generated.contains("Arguments.of(\"Boundary \\\"maximum\\\" id\", \"BOUNDARY\", 200)\n"));
+        assertFalse(generated.contains("\"NEGATIVE\", 404"));
+        assertFalse(generated.contains("\"SECURITY\", 401"));
+        // Error scenarios send requests of their own, so they stay separate tests with their own bodies.
+        assertTrue(generated.contains("void getUser_unknownId() {"));
+        assertTrue(generated.contains("void getUser_missingToken() {"));
+        assertTrue(generated.contains("void listUsers_happyPath() {"));
+        assertFalse(generated.contains("void getUser_happyPath() {"));
+        assertEquals(3, llmCalls.get());
+    }
+
+    @Test
+    void chainsTheResourceAPostCreatesIntoTheTestsThatDependOnIt() throws IOException {
+        OperationModel createPet = taggedOperation("createPet", "pets");
+        createPet.setHttpMethod("POST");
+        createPet.setPreferredSuccessStatus(201);
+        createPet.setPreferredResponse(sampleResponseModel(201));
+        OperationModel getPet = itemOperation("getPet", "GET");
+        OperationModel deletePet = itemOperation("deletePet", "DELETE");
+        ApiSpecModel plan = new TestPlanBuilder().build(specWith(deletePet, getPet, createPet));
+        getPet.setTestCases(List.of(
+                testCase(TestType.HAPPY_PATH, "getPet_happyPath", 200),
+                testCase(TestType.NEGATIVE, "getPet_unknownId", 404)
+        ));
+
+        new RestAssuredProjectExporter(LlmRouter.single(null),
+                ExportOptions.defaults().withChainResources(true)).export(
+                plan, tempDir, "com.generated.api", GenerationMode.EMBEDDED, "http://localhost:8080");
+
+        String generated = Files.readString(tempDir.resolve("src/test/java/com/generated/api/PetsApiTest.java"));
+        assertTrue(generated.contains("@TestMethodOrder(MethodOrderer.OrderAnnotation.class)\npublic class PetsApiTest {"));
+        assertTrue(generated.contains("    static Object createPet_id;\n"));
+        assertTrue(generated.contains("createPet_id = requestSpec"));
+        assertTrue(generated.contains(".extract().path(\"id\");"));
+        assertTrue(generated.contains(".pathParam(\"petId\", createPet_id)"));
+        assertTrue(generated.contains(".request(\"GET\", \"/pets/{petId}\")"));
+        // Error scenarios keep their constant id.
+        assertTrue(generated.contains(".request(\"GET\", \"/pets/1\")"));
+        int create = generated.indexOf("@Order(1)\n    @Test\n    @DisplayName(\"POST /pets");
+        int get = generated.indexOf("@Order(2)\n    @Test\n    @DisplayName(\"GET /pets/{petId}");
+        int delete = generated.indexOf("@Order(4)\n    @Test\n    @DisplayName(\"DELETE /pets/{petId}");
+        assertTrue(create >= 0 && create < get && get < delete, generated);
+        assertTrue(new CompilationValidator().validate(tempDir).success());
+    }
+
+    @Test
+    void leavesConsumersUnchainedWhenTheProducerHasNoSuccessTest() throws IOException {
+        OperationModel createPet = taggedOperation("createPet", "pets");
+        createPet.setHttpMethod("POST");
+        createPet.setPreferredSuccessStatus(201);
+        createPet.setPreferredResponse(sampleResponseModel(201));
+        OperationModel getPet = itemOperation("getPet", "GET");
+        ApiSpecModel plan = new TestPlanBuilder().build(specWith(getPet, createPet));
+        createPet.setTestCases(List.of(testCase(TestType.NEGATIVE, "createPet_invalidBody", 400)));
+        getPet.setTestCases(List.of(testCase(TestType.HAPPY_PATH, "getPet_happyPath", 200)));
+
+        new RestAssuredProjectExporter(LlmRouter.single(null),
+                ExportOptions.defaults().withChainResources(true)).export(
+                plan, tempDir, "com.generated.api", GenerationMode.EMBEDDED, "http://localhost:8080");
+
+        String generated = Files.readString(tempDir.resolve("src/test/java/com/generated/api/PetsApiTest.java"));
+        // Nothing would ever fill the field, so the consumer keeps its constant id instead of being skipped.
+        assertFalse(generated.contains("static Object createPet_id;"));
+        assertFalse(generated.contains("@TestMethodOrder"));
+        assertTrue(generated.contains(".request(\"GET\", \"/pets/1\")"));
+    }
+
+    private OperationModel taggedOperation(String operationId, String tag) {
+        TestCaseModel testCase = new TestCaseModel();
+        testCase.setType(TestType.HAPPY_PATH);
+        testCase.setName(operationId + "_happyPath");
+        testCase.setExpectedStatus(200);
+
+        OperationModel operation = new OperationModel();
+        operation.setOperationId(operationId);
+        operation.setHttpMethod("GET");
+        operation.setPath("/" + tag);
+        operation.setTags(List.of(tag));
+        operation.setTestCases(List.of(testCase));
+        return operation;
+    }
+
+    private OperationModel itemOperation(String operationId, String httpMethod) {
+        ParamModel petId = new ParamModel();
+        petId.setName("petId");
+        petId.setIn(ParamLocation.PATH);
+        petId.setRequired(true);
+        petId.setType("integer");
+
+        OperationModel operation = untestedOperation(operationId, "pets");
+        operation.setHttpMethod(httpMethod);
+        operation.setPath("/pets/{petId}");
+        operation.setParams(List.of(petId));
+        return operation;
+    }
+
+    private OperationModel untestedOperation(String operationId, String tag) {
+        OperationModel operation = taggedOperation(operationId, tag);
+        operation.setTestCases(List.of());
+        return operation;
+    }
+
+    private TestCaseModel testCase(TestType type, String name, int expectedStatus) {
+        TestCaseModel testCase = new TestCaseModel();
+        testCase.setType(type);
+        testCase.setName(name);
+        testCase.setExpectedStatus(expectedStatus);
+        return testCase;
+    }
+
+    private ApiSpecModel specWith(OperationModel... operations) {
+        ApiSpecModel model = new ApiSpecModel();
+        model.setOperations(List.of(operations));
+        return model;
+    }
+
     private ParamModel requiredQueryParam(String name, String type) {
         ParamModel param = new ParamModel();
         param.setName(name);
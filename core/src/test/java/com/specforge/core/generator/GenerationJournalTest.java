@@ -0,0 +1,141 @@
+package com.specforge.core.generator;
+
+import com.specforge.core.model.ApiSpecModel;
+import com.specforge.core.model.TestType;
+import com.specforge.core.planner.AiScenarioPlanner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.specforge.core.generator.PlanFixtures.operation;
+import static com.specforge.core.generator.PlanFixtures.specWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class GenerationJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void resumedBuildReusesCheckpointedPlansInsteadOfCallingThePlanner() {
+        Path file = tempDir.resolve("journal.jsonl");
+        AtomicInteger calls = new AtomicInteger();
+        AiScenarioPlanner planner = new AiScenarioPlanner(prompt -> {
+            calls.incrementAndGet();
+            return "[{\"name\":\"Negative invalid id\",\"expectedStatus\":400}]";
+        }, Duration.ofSeconds(1));
+
+        try (GenerationJournal journal = GenerationJournal.open(file, false)) {
+            new TestPlanBuilder(planner, null, journal).build(specWith(operation("getUser", "Returns a user")));
+        }
+        ApiSpecModel resumed;
+        try (GenerationJournal journal = GenerationJournal.open(file, true)) {
+            assertEquals(1, journal.resumedEntries());
+            resumed = new TestPlanBuilder(planner, null, journal).build(specWith(operation("getUser", "Returns a user")));
+        }
+
+        assertEquals(1, calls.get());
+        assertEquals("Negative invalid id", resumed.getOperations().getFirst().getTestCases().getFirst().getName());
+        assertEquals(TestType.NEGATIVE, resumed.getOperations().getFirst().getTestCases().getFirst().getType());
+    }
+
+    @Test
+    void toleratesARecordCutShortByAKilledRun() throws IOException {
+        Path file = tempDir.resolve("journal.jsonl");
+        try (GenerationJournal journal = GenerationJournal.open(file, false)) {
+            journal.recordMethod("m1", "void first() {}");
+        }
+        Files.writeString(file, "{\"kind\":\"method\",\"key\":\"m2\",\"sou", StandardOpenOption.APPEND);
+
+        try (GenerationJournal journal = GenerationJournal.open(file, true)) {
+            assertEquals("void first() {}", journal.method("m1"));
+            assertNull(journal.method("m2"));
+            journal.recordMethod("m3", "void third() {}");
+        }
+        try (GenerationJournal journal = GenerationJournal.open(file, true)) {
+            assertEquals("void third() {}", journal.method("m3"));
+        }
+        try (GenerationJournal journal = GenerationJournal.open(file, false)) {
+            assertEquals(0, journal.resumedEntries());
+            assertNull(journal.method("m1"));
+        }
+    }
+
+    @Test
+    void forgetsTheMethodsSelfHealingRewrote() {
+        Path file = tempDir.resolve("journal.jsonl");
+        String broken = "void first() {\n    broken(;\n}";
+        String healthy = "void second() {\n    ok();\n}";
+        try (GenerationJournal journal = GenerationJournal.open(file, false)) {
+            journal.recordMethod("m1", broken);
+            journal.recordMethod("m2", healthy);
+            journal.forgetRewrittenMethods("""
+                    class A {
+                        void first() {
+                            broken(;
+                        }
+                        void second() {
+                            ok();
+                        }
+                    }
+                    """, """
+                    class A {
+                        void first() {
+                            broken();
+                        }
+                        void second() {
+                            ok();
+                        }
+                    }
+                    """);
+            assertNull(journal.method("m1"));
+            assertEquals(healthy, journal.method("m2"));
+        }
+        try (GenerationJournal journal = GenerationJournal.open(file, true)) {
+            assertNull(journal.method("m1"));
+            assertEquals(healthy, journal.method("m2"));
+        }
+    }
+
+    @Test
+    void compactionKeepsOneRecordPerLiveEntry() throws IOException {
+        Path file = tempDir.resolve("journal.jsonl");
+        try (GenerationJournal journal = GenerationJournal.open(file, false)) {
+            journal.recordMethod("m1", "void first() {}");
+            journal.recordMethod("m1", "void firstAgain() {}");
+            journal.recordMethod("m2", "void second() {}");
+            journal.forgetRewrittenMethods("void second() {}", "void secondFixed() {}");
+            journal.compact();
+            journal.recordMethod("m3", "void third() {}");
+        }
+
+        assertEquals(2, Files.readAllLines(file).size());
+        try (GenerationJournal journal = GenerationJournal.open(file, true)) {
+            assertEquals(2, journal.resumedEntries());
+            assertEquals("void firstAgain() {}", journal.method("m1"));
+            assertNull(journal.method("m2"));
+            assertEquals("void third() {}", journal.method("m3"));
+        }
+    }
+
+    @Test
+    void keepsTheJournalOutsideTheOutputDirectory() {
+        Path output = tempDir.resolve("generated");
+        Path cacheDir = tempDir.resolve(".specforge/cache");
+
+        Path journal = GenerationJournal.defaultFile(cacheDir, output);
+        assertFalse(journal.startsWith(output.toAbsolutePath()));
+        assertEquals(tempDir.resolve(".specforge/journal").toAbsolutePath(), journal.getParent());
+        assertEquals(journal, GenerationJournal.defaultFile(cacheDir, output.resolve(".")));
+        assertNotEquals(journal, GenerationJournal.defaultFile(cacheDir, tempDir.resolve("other")));
+    }
+}
@@ -0,0 +1,27 @@
+package com.specforge.core.generator;
+
+import com.specforge.core.model.ApiSpecModel;
+import com.specforge.core.model.OperationModel;
+
+import java.util.List;
+
+final class PlanFixtures {
+
+    private PlanFixtures() {
+    }
+
+    static OperationModel operation(String operationId, String description) {
+        OperationModel operation = new OperationModel();
+        operation.setOperationId(operationId);
+        operation.setHttpMethod("GET");
+        operation.setPath("/users/{id}");
+        operation.setDescription(description);
+        return operation;
+    }
+
+    static ApiSpecModel specWith(OperationModel operation) {
+        ApiSpecModel parsed = new ApiSpecModel();
+        parsed.setOperations(List.of(operation));
+        return parsed;
+    }
+}
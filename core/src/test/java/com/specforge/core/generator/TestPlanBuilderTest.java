@@ -9,7 +9,10 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static com.specforge.core.generator.PlanFixtures.operation;
+import static com.specforge.core.generator.PlanFixtures.specWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class TestPlanBuilderTest {
@@ -61,4 +64,25 @@ class TestPlanBuilderTest {
         assertEquals(TestType.SECURITY, testCases.get(0).getType());
         assertEquals(TestType.BOUNDARY, testCases.get(1).getType());
     }
+
+    @Test
+    void replansOnlyOperationsWhoseFingerprintChanged() {
+        AtomicInteger calls = new AtomicInteger();
+        AiScenarioPlanner planner = new AiScenarioPlanner(prompt -> {
+            calls.incrementAndGet();
+            return "[{\"name\":\"Negative invalid id\",\"expectedStatus\":400}]";
+        }, Duration.ofSeconds(1));
+        TestPlanMemo memo = new TestPlanMemo();
+
+        new TestPlanBuilder(planner, memo).build(specWith(operation("getUser", "Returns a user")));
+        ApiSpecModel unchanged = new TestPlanBuilder(planner, memo).build(specWith(operation("getUser", "Returns a user")));
+
+        assertEquals(1, calls.get());
+        assertEquals("Negative invalid id", unchanged.getOperations().getFirst().getTestCases().getFirst().getName());
+
+        new TestPlanBuilder(planner, memo).build(specWith(operation("getUser", "Returns a user by id")));
+
+        assertEquals(2, calls.get());
+        assertEquals(1, memo.size());
+    }
 }
@@ -0,0 +1,65 @@
+package com.specforge.core.llm;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HedgedLlmProviderTest {
+
+    @Test
+    void doesNotHedgeWhenPrimaryAnswersBeforeDelay() throws Exception {
+        AtomicInteger secondaryCalls = new AtomicInteger();
+        LlmProvider provider = new HedgedLlmProvider(
+                prompt -> "primary",
+                prompt -> {
+                    secondaryCalls.incrementAndGet();
+                    return "secondary";
+                },
+                Duration.ofMillis(200)
+        );
+
+        String response = provider.generateAsync("ping", Duration.ofSeconds(1)).toCompletableFuture().get();
+        Thread.sleep(300);
+
+        assertEquals("primary", response);
+        assertEquals(0, secondaryCalls.get());
+    }
+
+    @Test
+    void usesSecondaryAndCancelsSlowPrimaryAfterHedgeDelay() throws Exception {
+        CountDownLatch primaryInterrupted = new CountDownLatch(1);
+        LlmProvider slowPrimary = prompt -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                primaryInterrupted.countDown();
+            }
+            return "primary";
+        };
+
+        LlmProvider provider = new HedgedLlmProvider(slowPrimary, prompt -> "secondary", Duration.ofMillis(50));
+        String response = provider.generateAsync("ping", Duration.ofSeconds(2)).toCompletableFuture().get();
+
+        assertEquals("secondary", response);
+        assertTrue(primaryInterrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void hedgesImmediatelyWhenPrimaryFails() {
+        LlmProvider provider = new HedgedLlmProvider(
+                prompt -> {
+                    throw new IllegalStateException("primary down");
+                },
+                prompt -> "secondary",
+                Duration.ofSeconds(30)
+        );
+
+        assertEquals("secondary", provider.generate("ping"));
+    }
+}
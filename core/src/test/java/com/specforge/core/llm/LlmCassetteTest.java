@@ -0,0 +1,62 @@
+package com.specforge.core.llm;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LlmCassetteTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void replaysRecordedResponsesWithoutBackend() throws Exception {
+        Path cassetteFile = tempDir.resolve("cassette.jsonl.gz");
+        try (LlmProvider recorder = new RecordingLlmProvider(prompt -> "answer:" + prompt, cassetteFile)) {
+            recorder.generate("first");
+            recorder.generateAsync("second", Duration.ofSeconds(1)).toCompletableFuture().get();
+        }
+
+        assertTrue(Files.size(cassetteFile) > 0);
+
+        try (LlmProvider replay = new ReplayLlmProvider(cassetteFile)) {
+            assertEquals("answer:first", replay.generate("first"));
+            assertEquals("answer:second", replay.generateAsync("second", null).toCompletableFuture().get());
+            assertThrows(IllegalStateException.class, () -> replay.generate("never recorded"));
+        }
+    }
+
+    @Test
+    void appliesSimulatedLatencyOnReplay() throws Exception {
+        Path cassetteFile = tempDir.resolve("cassette.jsonl");
+        try (LlmProvider recorder = new RecordingLlmProvider(prompt -> "ok", cassetteFile)) {
+            recorder.generate("ping");
+        }
+
+        LlmProvider replay = new ReplayLlmProvider(cassetteFile, SimulatedLatency.parse("fixed:100", 1L));
+        long start = System.nanoTime();
+        CompletableFuture<String> future = replay.generateAsync("ping", null).toCompletableFuture();
+        String response = future.get();
+
+        assertEquals("ok", response);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 90);
+    }
+
+    @Test
+    void sampledLatenciesAreReproducibleForSameSeed() {
+        SimulatedLatency first = SimulatedLatency.parse("lognormal:300:0.5", 7L);
+        SimulatedLatency second = SimulatedLatency.parse("lognormal:300:0.5", 7L);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(first.sample(0), second.sample(0));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.specforge.core.llm;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LlmProviderTest {
+
+    @Test
+    void generateAsyncCompletesWithGeneratedText() throws Exception {
+        LlmProvider provider = prompt -> "echo:" + prompt;
+
+        String response = provider.generateAsync("ping", Duration.ofSeconds(1)).toCompletableFuture().get();
+
+        assertEquals("echo:ping", response);
+    }
+
+    @Test
+    void generateAsyncFailsWithTimeoutWhenDeadlineElapses() {
+        LlmProvider provider = prompt -> {
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "late";
+        };
+
+        CompletableFuture<String> future = provider.generateAsync("slow", Duration.ofMillis(50)).toCompletableFuture();
+        ExecutionException error = assertThrows(ExecutionException.class, future::get);
+
+        assertInstanceOf(TimeoutException.class, error.getCause());
+    }
+
+    @Test
+    void generateAllKeepsInputOrderAndMapsFailuresToNull() {
+        LlmProvider provider = prompt -> {
+            if (prompt.equals("boom")) {
+                throw new IllegalStateException("failure");
+            }
+            return prompt.toUpperCase();
+        };
+
+        List<String> responses = provider.generateAll(
+                List.of(LlmPrompt.of("a"), LlmPrompt.of("boom"), LlmPrompt.of("c")));
+
+        assertEquals(Arrays.asList("A", null, "C"), responses);
+    }
+}
@@ -0,0 +1,115 @@
+package com.specforge.core.llm;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LlmRouterTest {
+
+    @Test
+    void routesTasksToDedicatedProvidersAndFallsBackToDefault() {
+        LlmProvider planning = prompt -> "large-model";
+        LlmProvider payload = prompt -> "small-model";
+        LlmRouter router = new LlmRouter(planning, Map.of(LlmTask.PAYLOAD, payload));
+
+        assertEquals("small-model", router.forTask(LlmTask.PAYLOAD).generate("x"));
+        assertEquals("large-model", router.forTask(LlmTask.METHOD_BODY).generate("x"));
+        assertTrue(router.hasDedicatedRoute(LlmTask.PAYLOAD));
+        assertFalse(router.hasDedicatedRoute(LlmTask.COMPILE_FIX));
+    }
+
+    @Test
+    void taskLimitCapsConcurrentRequests() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        LlmProvider backend = prompt -> {
+            int current = inFlight.incrementAndGet();
+            peak.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(30);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return prompt;
+        };
+
+        LlmProvider limited = new TaskLimitedLlmProvider(backend, 2, null);
+        List<String> responses = limited.generateAll(Collections.nCopies(8, LlmPrompt.of("p")));
+
+        assertEquals(Collections.nCopies(8, "p"), responses);
+        assertTrue(peak.get() <= 2);
+    }
+
+    @Test
+    void wrappedProvidersKeepTheBackendsBatchLimit() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        LlmProvider backend = new LlmProvider() {
+            @Override
+            public String generate(String prompt) {
+                int current = inFlight.incrementAndGet();
+                peak.accumulateAndGet(current, Math::max);
+                try {
+                    Thread.sleep(30);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+                return prompt;
+            }
+
+            @Override
+            public int maxConcurrency() {
+                return 2;
+            }
+        };
+
+        LlmProvider wrapped = LlmRouter.single(new TaskLimitedLlmProvider(backend, 0, Duration.ofSeconds(5)))
+                .withTimeBudget(TimeBudget.of(Duration.ofMinutes(1)))
+                .forTask(LlmTask.COMPILE_FIX);
+        List<String> responses = wrapped.generateAll(Collections.nCopies(8, LlmPrompt.of("p")));
+
+        assertEquals(Collections.nCopies(8, "p"), responses);
+        assertEquals(2, wrapped.maxConcurrency());
+        assertTrue(peak.get() <= 2);
+    }
+
+    @Test
+    void routeTimeoutReplacesTheCallersDefaultDeadline() {
+        AtomicReference<Duration> received = new AtomicReference<>();
+        LlmProvider backend = new LlmProvider() {
+            @Override
+            public String generate(String prompt) {
+                return prompt;
+            }
+
+            @Override
+            public CompletionStage<String> generateAsync(LlmPrompt prompt, Duration deadline) {
+                received.set(deadline);
+                return CompletableFuture.completedFuture(prompt.text());
+            }
+        };
+
+        new TaskLimitedLlmProvider(backend, 0, Duration.ofSeconds(90)).generateAsync("p", Duration.ofSeconds(20))
+                .toCompletableFuture().join();
+        assertEquals(Duration.ofSeconds(90), received.get());
+
+        new TaskLimitedLlmProvider(backend, 0, null).generateAsync("p", Duration.ofSeconds(20))
+                .toCompletableFuture().join();
+        assertEquals(Duration.ofSeconds(20), received.get());
+    }
+}
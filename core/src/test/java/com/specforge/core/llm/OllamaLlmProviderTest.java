@@ -0,0 +1,64 @@
+package com.specforge.core.llm;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OllamaLlmProviderTest {
+
+    @Test
+    void sendsTheKeepAliveWindowAndSystemPrefixOnTheChatRequestItself() throws IOException {
+        List<String> paths = new CopyOnWriteArrayList<>();
+        List<String> bodies = new CopyOnWriteArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            paths.add(exchange.getRequestURI().getPath());
+            bodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            byte[] response = "{\"message\":{\"role\":\"assistant\",\"content\":\"fixed\"},\"done\":true}"
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.start();
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        List<String> responses;
+        try (LlmProvider provider = new OllamaLlmProvider(baseUrl, "llama3", 2, 8192, "30m")) {
+            responses = provider.generateAll(List.of(new LlmPrompt("fix it", "code"), LlmPrompt.of("other")));
+        } finally {
+            server.stop(0);
+        }
+
+        assertEquals(List.of("fixed", "fixed"), responses);
+        // One chat request per prompt and no separate keep_alive ping.
+        assertEquals(List.of("/api/chat", "/api/chat"), paths);
+        JsonNode withSystem = bodies.stream()
+                .map(OllamaLlmProviderTest::json)
+                .filter(body -> body.path("messages").size() == 2)
+                .findFirst()
+                .orElseThrow();
+        assertEquals("30m", withSystem.path("keep_alive").asText());
+        assertEquals(8192, withSystem.path("options").path("num_ctx").asInt());
+        assertEquals("system", withSystem.path("messages").get(0).path("role").asText());
+        assertEquals("fix it", withSystem.path("messages").get(0).path("content").asText());
+        assertEquals("code", withSystem.path("messages").get(1).path("content").asText());
+    }
+
+    private static JsonNode json(String body) {
+        try {
+            return new ObjectMapper().readTree(body);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
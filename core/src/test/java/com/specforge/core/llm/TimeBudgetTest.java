@@ -0,0 +1,96 @@
+package com.specforge.core.llm;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeBudgetTest {
+
+    @Test
+    void degradesEarlierStagesFirstAsTheBudgetDrains() {
+        AtomicLong now = new AtomicLong();
+        TimeBudget budget = new TimeBudget(Duration.ofSeconds(100), now::get);
+
+        now.set(Duration.ofSeconds(55).toNanos());
+        assertFalse(budget.allows(LlmTask.SCENARIO_PLANNING));
+        assertTrue(budget.allows(LlmTask.PAYLOAD));
+        assertEquals(Duration.ofSeconds(5), budget.capTimeout(LlmTask.PAYLOAD, Duration.ofSeconds(10)));
+
+        now.set(Duration.ofSeconds(80).toNanos());
+        assertFalse(budget.allows(LlmTask.METHOD_BODY));
+        assertTrue(budget.allows(LlmTask.COMPILE_FIX));
+
+        now.set(Duration.ofSeconds(120).toNanos());
+        assertTrue(budget.isExhausted());
+        assertFalse(budget.allows(LlmTask.COMPILE_FIX));
+
+        budget.restart();
+        assertTrue(budget.allows(LlmTask.SCENARIO_PLANNING));
+    }
+
+    @Test
+    void budgetedRouterFailsFastOnceATaskIsOutOfTime() {
+        AtomicLong now = new AtomicLong();
+        TimeBudget budget = new TimeBudget(Duration.ofSeconds(10), now::get);
+        LlmRouter router = LlmRouter.single(prompt -> "ok").withTimeBudget(budget);
+
+        assertEquals("ok", router.forTask(LlmTask.SCENARIO_PLANNING).generate("x"));
+
+        now.set(Duration.ofSeconds(6).toNanos());
+        CompletionException failure = assertThrows(CompletionException.class, () -> router
+                .forTask(LlmTask.SCENARIO_PLANNING)
+                .generateAsync("x", Duration.ofSeconds(1))
+                .toCompletableFuture()
+                .join());
+        assertInstanceOf(TimeoutException.class, failure.getCause());
+        assertEquals("ok", router.forTask(LlmTask.COMPILE_FIX).generate("x"));
+        assertFalse(router.hasDedicatedRoute(LlmTask.PAYLOAD));
+    }
+
+    @Test
+    void budgetStillBoundsARouteWithItsOwnTimeout() {
+        AtomicLong now = new AtomicLong();
+        TimeBudget budget = new TimeBudget(Duration.ofMillis(200), now::get);
+        LlmProvider hanging = new LlmProvider() {
+            @Override
+            public String generate(String prompt) {
+                return prompt;
+            }
+
+            @Override
+            public CompletionStage<String> generateAsync(LlmPrompt prompt, Duration deadline) {
+                return new CompletableFuture<>();
+            }
+        };
+        LlmProvider route = new TaskLimitedLlmProvider(hanging, 0, Duration.ofSeconds(90));
+        LlmRouter router = new LlmRouter(hanging, Map.of(LlmTask.COMPILE_FIX, route)).withTimeBudget(budget);
+
+        CompletionException failure = assertThrows(CompletionException.class, () -> router
+                .forTask(LlmTask.COMPILE_FIX)
+                .generateAsync("x", Duration.ofSeconds(20))
+                .toCompletableFuture()
+                .join());
+        assertInstanceOf(TimeoutException.class, failure.getCause());
+    }
+
+    @Test
+    void parsesHumanFriendlyDurations() {
+        Duration fifteenMinutes = TimeBudget.parse("15m").remaining();
+        assertTrue(fifteenMinutes.compareTo(Duration.ofMinutes(14)) > 0 && fifteenMinutes.compareTo(Duration.ofMinutes(15)) <= 0);
+        assertTrue(TimeBudget.parse("PT90S").remaining().compareTo(Duration.ofSeconds(90)) <= 0);
+        assertFalse(TimeBudget.parse(null).isLimited());
+        assertThrows(IllegalArgumentException.class, () -> TimeBudget.parse("soon"));
+    }
+}
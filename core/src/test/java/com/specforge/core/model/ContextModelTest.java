@@ -0,0 +1,63 @@
+package com.specforge.core.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ContextModelTest {
+
+    @Test
+    void matchesTemplatesRegardlessOfParameterNames() {
+        ContextModel context = new ContextModel();
+        context.addRule("/pets/{id}", "Pet must exist");
+
+        assertEquals(List.of("Pet must exist"), context.getRulesForPath("/pets/{petId}"));
+        assertEquals(List.of("Pet must exist"), context.getRulesForPath("/pets/42/"));
+        assertEquals(List.of(), context.getRulesForPath("/pets"));
+    }
+
+    @Test
+    void ordersMatchesFromMostToLeastSpecific() {
+        ContextModel context = new ContextModel();
+        context.addRule("/admin/**", "Requires admin role");
+        context.addRule("/admin/*/audit", "Audit entries are immutable");
+        context.addRule("/admin/{tenant}/audit", "Tenant must be active");
+        context.addRule("/admin/acme/audit", "Acme audits are retained for 10 years");
+
+        assertEquals(
+                List.of(
+                        "Acme audits are retained for 10 years",
+                        "Tenant must be active",
+                        "Audit entries are immutable",
+                        "Requires admin role"
+                ),
+                context.getRulesForPath("/admin/acme/audit")
+        );
+        assertEquals(List.of("Requires admin role"), context.getRulesForPath("/admin"));
+    }
+
+    @Test
+    void rebuildsLookupAfterRulesAreAdded() {
+        ContextModel context = new ContextModel();
+        context.addRule("/users", "Email is required");
+        assertEquals(List.of("Email is required"), context.getRulesForPath("/users"));
+
+        context.addRule("/users/", "Age must be at least 18");
+
+        assertEquals(List.of("Email is required", "Age must be at least 18"), context.getRulesForPath("/users"));
+    }
+
+    @Test
+    void endpointRulesCannotBeChangedBehindTheLookup() {
+        ContextModel context = new ContextModel();
+        context.addRule("/users", "Email is required");
+        assertEquals(List.of("Email is required"), context.getRulesForPath("/users"));
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> context.getRulesByEndpointPath().put("/orders", List.of("Total must be positive")));
+        assertEquals(List.of(), context.getRulesForPath("/orders"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.specforge.core.model.schema;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TypedSchemaTest {
+
+    @Test
+    void roundTripsResolverShapedMaps() {
+        Map<String, Object> tags = new LinkedHashMap<>();
+        tags.put("type", "array");
+        tags.put("minItems", 1);
+        tags.put("items", Map.of("type", "string"));
+
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("email", Map.of("type", "string", "format", "email"));
+        properties.put("age", Map.of("type", "integer", "minimum", 18L));
+        properties.put("score", Map.of("type", "number", "maximum", 9.5));
+        properties.put("tags", tags);
+        properties.put("avatar", Map.of("type", "file"));
+
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put("type", "object");
+        schema.put("required", List.of("email"));
+        schema.put("properties", properties);
+
+        TypedSchema typed = TypedSchema.fromMap(schema);
+
+        ObjectSchema object = assertInstanceOf(ObjectSchema.class, typed);
+        assertTrue(object.isRequired("email"));
+        assertInstanceOf(StringSchema.class, object.properties().get("email"));
+        assertEquals(18.0, ((NumericSchema) object.properties().get("age")).minimum());
+        assertEquals(SchemaType.FILE, object.properties().get("avatar").type());
+        assertEquals(schema, typed.toMap());
+    }
+
+    @Test
+    void infersObjectAndArrayTypesWhenTypeIsMissing() {
+        TypedSchema object = TypedSchema.fromMap(Map.of("properties", Map.of("id", Map.of("type", "integer"))));
+        TypedSchema array = TypedSchema.fromMap(Map.of("items", Map.of("type", "boolean")));
+
+        assertEquals(SchemaType.OBJECT, object.type());
+        assertInstanceOf(BooleanSchema.class, ((ArraySchema) array).items());
+    }
+
+    @Test
+    void internsPropertyNames() {
+        ObjectSchema first = new ObjectSchema(Map.of(new String("customerId"), ObjectSchema.EMPTY), null, null);
+        ObjectSchema second = new ObjectSchema(Map.of(new String("customerId"), ObjectSchema.EMPTY), null, null);
+
+        assertSame(first.properties().keySet().iterator().next(), second.properties().keySet().iterator().next());
+    }
+}
@@ -0,0 +1,72 @@
+package com.specforge.core.parser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BatchManifestParserTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void scansTopLevelSpecsAndSkipsReferencedFragments() throws IOException {
+        Path specs = Files.createDirectories(tempDir.resolve("specs"));
+        Files.writeString(specs.resolve("billing-service.yaml"), "openapi: 3.0.0\ninfo:\n  title: Billing\n");
+        Files.writeString(specs.resolve("users.json"), "{\"openapi\": \"3.0.0\"}");
+        Files.writeString(specs.resolve("pet.yaml"), "type: object\n");
+        Files.writeString(specs.resolve("README.md"), "openapi: not a spec\n");
+
+        List<BatchSpec> batch = new BatchManifestParser().scanDirectory(
+                specs, tempDir.resolve("out"), "com.generated.api", "http://localhost:8080", null);
+
+        assertEquals(List.of("billing-service", "users"), batch.stream().map(BatchSpec::name).toList());
+        assertEquals(tempDir.resolve("out/billing-service"), batch.get(0).output());
+        assertEquals("com.generated.api.billingservice", batch.get(0).basePackage());
+        assertNull(batch.get(0).context());
+    }
+
+    @Test
+    void resolvesManifestEntriesAgainstDefaults() throws IOException {
+        Files.writeString(tempDir.resolve("users.yaml"), "openapi: 3.0.0\n");
+        Files.writeString(tempDir.resolve("orders.yaml"), "openapi: 3.0.0\n");
+        Files.writeString(tempDir.resolve("orders.md"), "# /orders\n- total > 0\n");
+        Path manifest = tempDir.resolve("specs.json");
+        Files.writeString(manifest, """
+                {"specs": [
+                  {"spec": "users.yaml"},
+                  {"spec": "orders.yaml", "output": "shop", "basePackage": "com.acme.orders",
+                   "baseUrl": "http://orders:8080", "context": "orders.md"}
+                ]}
+                """);
+
+        List<BatchSpec> batch = new BatchManifestParser().parse(
+                manifest, tempDir.resolve("out"), "com.generated.api", "http://localhost:8080", null);
+
+        assertEquals(new BatchSpec(tempDir.resolve("users.yaml"), tempDir.resolve("out/users"),
+                "com.generated.api.users", "http://localhost:8080", null), batch.get(0));
+        assertEquals(new BatchSpec(tempDir.resolve("orders.yaml"), tempDir.resolve("out/shop"),
+                "com.acme.orders", "http://orders:8080", tempDir.resolve("orders.md")), batch.get(1));
+    }
+
+    @Test
+    void rejectsEntriesSharingAnOutputDirectory() throws IOException {
+        Files.writeString(tempDir.resolve("a.yaml"), "openapi: 3.0.0\n");
+        Files.writeString(tempDir.resolve("b.yaml"), "openapi: 3.0.0\n");
+        Path manifest = tempDir.resolve("specs.json");
+        Files.writeString(manifest, """
+                [{"spec": "a.yaml", "output": "same"}, {"spec": "b.yaml", "output": "same"}]
+                """);
+
+        assertThrows(IllegalArgumentException.class, () -> new BatchManifestParser().parse(
+                manifest, tempDir.resolve("out"), "com.generated.api", "http://localhost:8080", null));
+    }
+}
@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -45,4 +46,40 @@ class ContextParserServiceTest {
 
         assertEquals(List.of("El usuario debe ser mayor de 18", "El email es obligatorio"), model.getRulesForPath("/users"));
     }
+
+    @Test
+    void parsesBulletsUnderNonPathHeadersAsSectionRules() throws IOException {
+        Path file = tempDir.resolve("requirements.md");
+        Files.writeString(file, """
+                ## /users
+                - El usuario debe ser mayor de 18
+
+                ## Pagos
+                - La moneda debe ser ISO 4217
+                """);
+
+        ContextModel model = new ContextParserService().parse(file);
+
+        assertEquals(List.of("El usuario debe ser mayor de 18"), model.getRulesForPath("/users"));
+        assertEquals(Map.of("Pagos", List.of("La moneda debe ser ISO 4217")), model.getRulesBySection());
+    }
+
+    @Test
+    void keepsBulletsUnderSubHeadersOfAPathSectionOnThatPath() throws IOException {
+        Path file = tempDir.resolve("requirements.md");
+        Files.writeString(file, """
+                ## /users
+                - El usuario debe ser mayor de 18
+                ### Validaciones
+                - El email es obligatorio
+
+                ## Pagos
+                - La moneda debe ser ISO 4217
+                """);
+
+        ContextModel model = new ContextParserService().parse(file);
+
+        assertEquals(List.of("El usuario debe ser mayor de 18", "El email es obligatorio"), model.getRulesForPath("/users"));
+        assertEquals(Map.of("Pagos", List.of("La moneda debe ser ISO 4217")), model.getRulesBySection());
+    }
 }
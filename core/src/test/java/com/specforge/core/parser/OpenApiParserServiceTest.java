@@ -10,11 +10,13 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -238,4 +240,110 @@ class OpenApiParserServiceTest {
         assertEquals(200, op.getPreferredSuccessStatus());
         assertEquals(2, op.getParams().size());
     }
+
+    @Test
+    void parallelExtractionKeepsSerialOperationOrderAndSharesResolvedSchemas() throws IOException {
+        StringBuilder paths = new StringBuilder();
+        for (int i = 0; i < 24; i++) {
+            paths.append("""
+                      /resource%1$d/{id}:
+                        get:
+                          responses:
+                            "200":
+                              description: ok
+                              content:
+                                application/json:
+                                  schema:
+                                    $ref: '#/components/schemas/Node'
+                        delete:
+                          responses:
+                            "204":
+                              description: deleted
+                    """.formatted(i));
+        }
+        Path specFile = tempDir.resolve("many-paths.yaml");
+        Files.writeString(specFile, """
+                openapi: 3.0.0
+                info:
+                  title: Many
+                  version: "1.0.0"
+                paths:
+                %s
+                components:
+                  schemas:
+                    Node:
+                      type: object
+                      properties:
+                        name:
+                          type: string
+                        children:
+                          type: array
+                          items:
+                            $ref: '#/components/schemas/Node'
+                """.formatted(paths.toString().stripTrailing()));
+
+        ApiSpecModel serial = new OpenApiParserService(false).parse(specFile.toString());
+        ApiSpecModel parallel = new OpenApiParserService(true).parse(specFile.toString());
+
+        assertEquals(48, parallel.getOperations().size());
+        assertEquals(
+                serial.getOperations().stream().map(OperationModel::getOperationId).toList(),
+                parallel.getOperations().stream().map(OperationModel::getOperationId).toList()
+        );
+        assertEquals(
+                serial.getOperations().getFirst().getPreferredResponse().getSchema(),
+                parallel.getOperations().getFirst().getPreferredResponse().getSchema()
+        );
+    }
+
+    @Test
+    void appliesOperationFilterBeforeExtractingOperations() throws IOException {
+        Path specFile = tempDir.resolve("filter-spec.yaml");
+        Files.writeString(specFile, """
+                openapi: 3.0.0
+                info:
+                  title: Filter API
+                  version: "1.0.0"
+                paths:
+                  /users:
+                    get:
+                      tags: [Users]
+                      operationId: listUsers
+                      responses:
+                        "200":
+                          description: ok
+                    post:
+                      tags: [Users]
+                      operationId: createUser
+                      responses:
+                        "201":
+                          description: created
+                  /users/{id}:
+                    delete:
+                      tags: [Users]
+                      operationId: deleteUser
+                      responses:
+                        "204":
+                          description: gone
+                  /orders:
+                    get:
+                      tags: [Orders]
+                      operationId: listOrders
+                      responses:
+                        "200":
+                          description: ok
+                """);
+
+        OperationFilter filter = new OperationFilter(
+                new OperationFilter.Criteria(List.of("users"), List.of("/users/**"), List.of(), null),
+                new OperationFilter.Criteria(List.of(), List.of(), List.of("delete"), "^create")
+        );
+        OpenApiParserService parser = new OpenApiParserService(false, filter);
+        ApiSpecModel model = parser.parse(specFile.toString());
+
+        assertEquals(List.of("listUsers"), model.getOperations().stream().map(OperationModel::getOperationId).toList());
+        assertNotEquals(new OpenApiParserService(false).optionsFingerprint(), parser.optionsFingerprint());
+        assertEquals(new OpenApiParserService(false).optionsFingerprint(),
+                new OpenApiParserService(false, OperationFilter.ALL).optionsFingerprint());
+    }
 }
@@ -0,0 +1,87 @@
+package com.specforge.core.parser;
+
+import com.specforge.core.model.ApiSpecModel;
+import com.specforge.core.model.schema.ObjectSchema;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class ParsedSpecCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void reusesParsedModelUntilTheSpecOrAReferencedFileChanges() throws IOException {
+        Path spec = tempDir.resolve("api.yaml");
+        Path petSchema = tempDir.resolve("pet.yaml");
+        Files.writeString(petSchema, """
+                type: object
+                properties:
+                  name:
+                    type: string
+                """);
+        Files.writeString(spec, """
+                openapi: 3.0.0
+                info:
+                  title: Pets
+                  version: "1.0.0"
+                paths:
+                  /pets:
+                    post:
+                      operationId: createPet
+                      requestBody:
+                        content:
+                          application/json:
+                            schema:
+                              $ref: './pet.yaml'
+                      responses:
+                        "201":
+                          description: created
+                """);
+
+        AtomicInteger parses = new AtomicInteger();
+        OpenApiParserService parser = new OpenApiParserService(false) {
+            @Override
+            public ApiSpecModel parse(String specLocation) {
+                parses.incrementAndGet();
+                return super.parse(specLocation);
+            }
+        };
+        ParsedSpecCache cache = new ParsedSpecCache(tempDir.resolve("cache"));
+
+        ApiSpecModel first = cache.parse(parser, spec.toString());
+        ApiSpecModel second = cache.parse(parser, spec.toString());
+
+        assertEquals(1, parses.get());
+        assertEquals("createPet", second.getOperations().getFirst().getOperationId());
+        assertEquals(
+                first.getOperations().getFirst().getRequestBody().getSchema(),
+                second.getOperations().getFirst().getRequestBody().getSchema()
+        );
+        assertEquals(
+                first.getOperations().getFirst().getRequestBody().getTypedSchema(),
+                second.getOperations().getFirst().getRequestBody().getTypedSchema()
+        );
+        assertInstanceOf(ObjectSchema.class, second.getOperations().getFirst().getRequestBody().getTypedSchema());
+
+        Files.writeString(petSchema, """
+                type: object
+                properties:
+                  name:
+                    type: string
+                  age:
+                    type: integer
+                """);
+        cache.parse(parser, spec.toString());
+
+        assertEquals(2, parses.get());
+    }
+}
@@ -1,14 +1,18 @@
 package com.specforge.core.planner;
 
+import com.specforge.core.llm.LlmTask;
 import com.specforge.core.model.ContextModel;
 import com.specforge.core.model.OperationModel;
+import com.specforge.core.prompt.PromptBudget;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AiScenarioPlannerTest {
@@ -69,4 +73,27 @@ class AiScenarioPlannerTest {
         assertTrue(prompt.contains("Ademas del Swagger"));
         assertTrue(prompt.contains("El usuario debe ser mayor de 18"));
     }
+
+    @Test
+    void capsTheBorrowedRulesAtThePlannerPromptBudget() {
+        OperationModel operation = new OperationModel();
+        operation.setHttpMethod("POST");
+        operation.setPath("/users");
+        operation.setDescription("Create user");
+
+        ContextModel contextModel = new ContextModel();
+        contextModel.addRule("/users", "El usuario debe ser mayor de 18");
+        contextModel.addSectionRule("Usuarios", "Create user requests must include a unique user email");
+
+        AtomicReference<String> capturedPrompt = new AtomicReference<>();
+        AiScenarioPlanner planner = new AiScenarioPlanner(prompt -> {
+            capturedPrompt.set(prompt);
+            return "[]";
+        }, null, contextModel, Duration.ofSeconds(1), new PromptBudget(Map.of(LlmTask.SCENARIO_PLANNING, 16)));
+
+        planner.plan(operation);
+
+        assertTrue(capturedPrompt.get().contains("El usuario debe ser mayor de 18"));
+        assertFalse(capturedPrompt.get().contains("unique user email"));
+    }
 }
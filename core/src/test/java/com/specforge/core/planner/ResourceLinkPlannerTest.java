@@ -0,0 +1,67 @@
+package com.specforge.core.planner;
+
+import com.specforge.core.model.OperationModel;
+import com.specforge.core.model.ResourceLinkModel;
+import com.specforge.core.model.ResponseModel;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResourceLinkPlannerTest {
+
+    @Test
+    void linksPathParamsToTheIdentifierAPostOnTheirCollectionReturns() {
+        OperationModel createPet = creating("createPet", "/pets");
+        OperationModel getPet = operation("getPet", "GET", "/pets/{petId}");
+        OperationModel getOwner = operation("getOwner", "GET", "/owners/{ownerId}");
+
+        new ResourceLinkPlanner().link(List.of(getPet, createPet, getOwner));
+
+        ResourceLinkModel link = getPet.getResourceLinks().getFirst();
+        assertEquals("petId", link.getParamName());
+        assertEquals("createPet", link.getProducerOperationId());
+        assertEquals("id", link.getProducerProperty());
+        assertTrue(createPet.getResourceLinks().isEmpty());
+        assertTrue(getOwner.getResourceLinks().isEmpty());
+    }
+
+    @Test
+    void linksEveryLevelOfANestedCollectionToItsOwnProducer() {
+        OperationModel createPet = creating("createPet", "/pets");
+        OperationModel addPhoto = creating("addPhoto", "/pets/{petId}/photos");
+        OperationModel getPhoto = operation("getPhoto", "GET", "/pets/{petId}/photos/{photoId}");
+
+        new ResourceLinkPlanner().link(List.of(getPhoto, addPhoto, createPet));
+
+        assertEquals(List.of("petId:createPet", "photoId:addPhoto"), describe(getPhoto.getResourceLinks()));
+        // The nested producer needs its parent resource too.
+        assertEquals(List.of("petId:createPet"), describe(addPhoto.getResourceLinks()));
+        assertTrue(createPet.getResourceLinks().isEmpty());
+    }
+
+    private OperationModel creating(String operationId, String path) {
+        ResponseModel created = new ResponseModel();
+        created.setSchema(Map.of("type", "object", "properties", Map.of("id", Map.of("type", "integer"))));
+        OperationModel operation = operation(operationId, "POST", path);
+        operation.setPreferredResponse(created);
+        return operation;
+    }
+
+    private OperationModel operation(String operationId, String httpMethod, String path) {
+        OperationModel operation = new OperationModel();
+        operation.setOperationId(operationId);
+        operation.setHttpMethod(httpMethod);
+        operation.setPath(path);
+        return operation;
+    }
+
+    private List<String> describe(List<ResourceLinkModel> links) {
+        return links.stream()
+                .map(link -> link.getParamName() + ":" + link.getProducerOperationId())
+                .toList();
+    }
+}
@@ -0,0 +1,50 @@
+package com.specforge.core.prompt;
+
+import com.specforge.core.llm.LlmPrompt;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PromptManagerTest {
+
+    private final PromptManager promptManager = new PromptManager();
+
+    @Test
+    void keepsPerCallVariablesOutOfTheSystemPrefix() {
+        LlmPrompt users = promptManager.renderPrompt("payload-generator", Map.of(
+                "schemaJson", "{\"type\":\"object\"}",
+                "rules", "Respect types."
+        ));
+        LlmPrompt orders = promptManager.renderPrompt("payload-generator", Map.of(
+                "schemaJson", "{\"type\":\"array\"}",
+                "rules", "Respect types."
+        ));
+
+        assertTrue(users.hasSystem());
+        assertEquals(users.system(), orders.system());
+        assertFalse(users.system().contains("\"type\""));
+        assertTrue(users.user().contains("{\"type\":\"object\"}"));
+    }
+
+    @Test
+    void renderFlattensSystemAndUserParts() {
+        Map<String, Object> variables = Map.of(
+                "httpMethod", "GET",
+                "path", "/users/{id}",
+                "description", "",
+                "businessRules", "- none",
+                "scenarioCount", 3,
+                "rules", "Keep it short."
+        );
+
+        LlmPrompt prompt = promptManager.renderPrompt("ai-scenario-planner", variables);
+        String rendered = promptManager.render("ai-scenario-planner", variables);
+
+        assertEquals(prompt.system() + "\n\n" + prompt.user(), rendered);
+        assertTrue(prompt.user().startsWith("Analyze this endpoint:"));
+    }
+}
@@ -0,0 +1,64 @@
+package com.specforge.core.prompt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SchemaCompactorTest {
+
+    private final SchemaCompactor compactor = new SchemaCompactor();
+
+    @Test
+    void dropsRedundantKeywordsEvenWithinBudget() {
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put("type", "string");
+        schema.put("minLength", 0);
+        schema.put("description", null);
+        schema.put("enum", List.of());
+
+        assertEquals(Map.of("type", "string"), compactor.compact(schema, 1_000));
+    }
+
+    @Test
+    void sharesRepeatedSubschemasThroughDefs() {
+        Map<String, Object> address = Map.of(
+                "type", "object",
+                "properties", Map.of(
+                        "street", Map.of("type", "string", "description", "Street name and number"),
+                        "city", Map.of("type", "string", "description", "City of residence")
+                )
+        );
+        Map<String, Object> schema = Map.of(
+                "type", "object",
+                "properties", Map.of("billing", address, "shipping", address)
+        );
+
+        Map<String, Object> compacted = compactor.compact(schema, 60);
+
+        assertTrue(compacted.containsKey("$defs"));
+        assertTrue(compactor.estimateTokens(compacted) < compactor.estimateTokens(schema));
+        Map<?, ?> properties = (Map<?, ?>) compacted.get("properties");
+        assertEquals(Map.of("$ref", "#/$defs/S1"), properties.get("billing"));
+        assertEquals(Map.of("$ref", "#/$defs/S1"), properties.get("shipping"));
+    }
+
+    @Test
+    void collapsesDeepNestingUntilTheSchemaFits() {
+        Map<String, Object> schema = Map.of("type", "string", "description", "leaf value with a fairly long text");
+        for (int level = 0; level < 6; level++) {
+            schema = Map.of("type", "object", "properties", Map.of("level" + level, schema));
+        }
+
+        Map<String, Object> compacted = compactor.compact(schema, 30);
+
+        assertTrue(compactor.estimateTokens(compacted) <= 30);
+        assertEquals("object", compacted.get("type"));
+        assertFalse(compacted.toString().contains("leaf value"));
+    }
+}